@@ -0,0 +1,56 @@
+package board.jpa.querydsl.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import board.jpa.querydsl.util.cache.BoardCache;
+import board.jpa.querydsl.util.cache.MemberLikeCache;
+import board.jpa.querydsl.util.counter.BoardCounterReconciler;
+import board.jpa.querydsl.util.counter.LikeEventAggregator;
+import board.jpa.querydsl.util.search.BoardSearchIndex;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 운영 상태를 확인하는 관리자 전용 조회 API입니다. (ROLE_ADMIN, SecurityConfig)
+ */
+@Log4j2
+@RestController
+@RequestMapping("api/admin/")
+public class AdminController {
+
+    private final BoardCounterReconciler boardCounterReconciler;
+    private final LikeEventAggregator likeEventAggregator;
+    private final BoardCache boardCache;
+    private final MemberLikeCache memberLikeCache;
+    private final BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    public AdminController(final BoardCounterReconciler boardCounterReconciler,
+            final LikeEventAggregator likeEventAggregator, final BoardCache boardCache,
+            final MemberLikeCache memberLikeCache, final BoardSearchIndex boardSearchIndex) {
+        log.info("Inject BoardCounterReconciler, LikeEventAggregator, BoardCache, MemberLikeCache, BoardSearchIndex");
+        this.boardCounterReconciler = boardCounterReconciler;
+        this.likeEventAggregator = likeEventAggregator;
+        this.boardCache = boardCache;
+        this.memberLikeCache = memberLikeCache;
+        this.boardSearchIndex = boardSearchIndex;
+    }
+
+    // GET : Stats (카운터 보정, 좋아요 이벤트, 캐시, 검색 색인 통계)
+    @GetMapping("stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        log.info("GET | Admin Stats Controller");
+        return new ResponseEntity<>(Map.of(
+                "counterReconciler", boardCounterReconciler.getStats(),
+                "likeEvents", likeEventAggregator.getStats(),
+                "boardCache", boardCache.getStats(),
+                "memberLikeCache", memberLikeCache.getStats(),
+                "searchIndex", boardSearchIndex.getStats()), HttpStatus.OK);
+    }
+}
@@ -1,23 +1,43 @@
 package board.jpa.querydsl.controller;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import board.jpa.querydsl.dto.board.BoardCreateDTO;
 import board.jpa.querydsl.dto.board.BoardDTO;
+import board.jpa.querydsl.dto.board.BoardImportResultDTO;
 import board.jpa.querydsl.dto.board.BoardListDTO;
 import board.jpa.querydsl.dto.board.BoardUpdateDTO;
+import board.jpa.querydsl.dto.board.HotBoardDTO;
+import board.jpa.querydsl.service.BoardExportService;
+import board.jpa.querydsl.service.BoardImportService;
 import board.jpa.querydsl.service.BoardService;
 import board.jpa.querydsl.util.cookie.ManagementCookie;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
+import board.jpa.querydsl.util.ranking.HotBoardRanking;
+import board.jpa.querydsl.util.version.BoardVersionRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -30,12 +50,108 @@ public class BoardController {
 
     private final BoardService boardService;
     private final ManagementCookie managementCookie;
+    private final BoardImportService boardImportService;
+    private final BoardExportService boardExportService;
+    private final HotBoardRanking hotBoardRanking;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     @Autowired
-    public BoardController(final BoardService boardService, final ManagementCookie managementCookie) {
+    public BoardController(final BoardService boardService, final ManagementCookie managementCookie,
+            final BoardImportService boardImportService, final BoardExportService boardExportService,
+            final HotBoardRanking hotBoardRanking, final BoardVersionRegistry boardVersionRegistry) {
         log.info("Inject BoardService");
         this.boardService = boardService;
         this.managementCookie = managementCookie;
+        this.boardImportService = boardImportService;
+        this.boardExportService = boardExportService;
+        this.hotBoardRanking = hotBoardRanking;
+        this.boardVersionRegistry = boardVersionRegistry;
+    }
+
+    // GET : Board Read (If-None-Match가 현재 버전과 같으면 DB 조회 없이 304, * 이면 게시물이 있을 때만 304)
+    @GetMapping("read/{bno}")
+    public ResponseEntity<Map<String, Object>> getReadBoard(@PathVariable("bno") final Long bno,
+            final HttpServletRequest request, final HttpServletResponse response) {
+        log.info("GET | Board Read Controller");
+        // 내용을 조회하기 전에 버전을 읽습니다.
+        final long version = boardVersionRegistry.version(bno);
+        final String eTag = BoardVersionRegistry.eTag("board", bno, version);
+        if (BoardVersionRegistry.isNotModified(request, eTag, version, () -> boardService.existsBoard(bno))) {
+            // 이미 내용을 가진 클라이언트의 재검증이므로 조회수는 증가시키지 않습니다.
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(version)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        if (managementCookie.createCookie(request, response, bno)) {
+            boardService.incrementViewCount(bno);
+        }
+        final BoardDTO readBoard = boardService.readBoard(bno);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(version)
+                .cacheControl(CacheControl.noCache())
+                .body(Map.of("readBoard", readBoard));
+    }
+
+    // GET : Board List Cursor
+    @GetMapping("list/cursor")
+    public ResponseEntity<Map<String, Object>> getListBoardCursor(final PageRequestDTO pageRequestDTO) {
+        log.info("GET | Board List Cursor Controller");
+        final CursorResponseDTO<BoardListDTO> listBoard = boardService.listBoardCursor(pageRequestDTO);
+        return new ResponseEntity<>(Map.of("listBoard", listBoard), HttpStatus.OK);
+    }
+
+    // GET : Board List Slice
+    @GetMapping("list/slice")
+    public ResponseEntity<Map<String, Object>> getSliceBoard(final PageRequestDTO pageRequestDTO) {
+        log.info("GET | Board List Slice Controller");
+        final SliceResponseDTO<BoardListDTO> listBoard = boardService.sliceBoard(pageRequestDTO);
+        return new ResponseEntity<>(Map.of("listBoard", listBoard), HttpStatus.OK);
     }
 
-}
\ No newline at end of file
+    // GET : Hot Board List (메모리 랭킹에서 조회)
+    @GetMapping("hot")
+    public ResponseEntity<Map<String, Object>> getHotBoard(@RequestParam(defaultValue = "10") final int size) {
+        log.info("GET | Hot Board List Controller");
+        final List<HotBoardDTO> hotBoard = hotBoardRanking.top(Math.min(size, 100));
+        return new ResponseEntity<>(Map.of("hotBoard", hotBoard), HttpStatus.OK);
+    }
+
+    // POST : Board Import (NDJSON, CSV)
+    // importId를 미리 정해서 보내면 등록 도중에 GET import/{importId}로 진행 상황을 조회할 수 있습니다.
+    @PostMapping(value = "import", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<Map<String, Object>> importBoard(final HttpServletRequest request,
+            @RequestParam(required = false) final String importId) throws IOException {
+        log.info("POST | Board Import Controller");
+        final String format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/csv")) ? "csv" : "ndjson";
+        final BoardImportResultDTO importBoard = boardImportService.importBoards(request.getInputStream(), format,
+                importId == null || importId.isBlank() ? UUID.randomUUID().toString() : importId);
+        return new ResponseEntity<>(Map.of("importBoard", importBoard), HttpStatus.OK);
+    }
+
+    // GET : Board Import Progress
+    @GetMapping("import/{importId}")
+    public ResponseEntity<Map<String, Object>> getImportProgress(@PathVariable("importId") final String importId) {
+        log.info("GET | Board Import Progress Controller");
+        final BoardImportResultDTO importBoard = boardImportService.getImportProgress(importId);
+        return new ResponseEntity<>(Map.of("importBoard", importBoard), HttpStatus.OK);
+    }
+
+    // GET : Board Export (CSV, NDJSON)
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> exportBoard(final PageRequestDTO pageRequestDTO,
+            @RequestParam(defaultValue = "csv") final String format) {
+        log.info("GET | Board Export Controller");
+        final boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        final StreamingResponseBody body = outputStream -> boardExportService.exportBoards(pageRequestDTO,
+                ndjson ? "ndjson" : "csv", outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"boards." + (ndjson ? "ndjson" : "csv") + "\"")
+                .contentType(MediaType.parseMediaType(ndjson ? "application/x-ndjson" : "text/csv;charset=UTF-8"))
+                .body(body);
+    }
+}
@@ -1,8 +1,11 @@
 package board.jpa.querydsl.controller;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -11,10 +14,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import board.jpa.querydsl.dto.like.LikeCountDTO;
+import board.jpa.querydsl.dto.like.LikeDailyDTO;
 import board.jpa.querydsl.dto.like.LikeToggleDTO;
 import board.jpa.querydsl.service.LikeService;
+import board.jpa.querydsl.util.page.PageRequestDTO;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -37,9 +44,9 @@ public class LikeController {
         log.info("POST | Toggle Like Controller");
         final UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         final String email = userDetails.getUsername();
-        final Long toggleLike = likeService.toggleLike(bno, email);
-        final Integer likeCount = likeService.countLike(bno);
-        return new ResponseEntity<>(Map.of("toggleLike", toggleLike, "likeCount", likeCount), HttpStatus.OK);
+        final LikeToggleDTO likeToggleDTO = likeService.toggleLike(bno, email);
+        return new ResponseEntity<>(Map.of("toggleLike", likeToggleDTO.getBno(), "liked", likeToggleDTO.isLiked(),
+                "likeCount", likeToggleDTO.getLikeCount()), HttpStatus.OK);
     }
 
     // GET : Like Count
@@ -50,6 +57,44 @@ public class LikeController {
         return new ResponseEntity<>(Map.of("likeCount", likeCount), HttpStatus.OK);
     }
 
+    // GET : Like Counts (목록 화면의 여러 게시물 좋아요 수를 한 번에 조회, 최대 100개)
+    @GetMapping("count/board")
+    public ResponseEntity<Map<String, Object>> getLikeCounts(@RequestParam("bno") final List<Long> bnos) {
+        log.info("GET | Like Counts Controller");
+        final Map<Long, Long> likeCounts = likeService.countLikes(bnos.stream().distinct().limit(100).toList());
+        return new ResponseEntity<>(Map.of("likeCount", likeCounts), HttpStatus.OK);
+    }
+
+    // GET : Top Liked Boards (기간 내 좋아요를 가장 많이 받은 게시물, 기간이 없으면 최근 7일)
+    @GetMapping("top")
+    public ResponseEntity<Map<String, Object>> getTopLikedBoards(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate endDate,
+            @RequestParam(defaultValue = "10") final int size) {
+        log.info("GET | Top Liked Boards Controller");
+        final PageRequestDTO pageRequestDTO = PageRequestDTO.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .size(Math.min(size, 100))
+                .build();
+        final List<LikeCountDTO> topLiked = likeService.topLikedBoards(pageRequestDTO);
+        return new ResponseEntity<>(Map.of("topLiked", topLiked), HttpStatus.OK);
+    }
+
+    // GET : Daily Likes (게시물의 일별 좋아요 수, 기간이 없으면 최근 30일)
+    @GetMapping("daily/board/{bno}")
+    public ResponseEntity<Map<String, Object>> getDailyLikes(@PathVariable("bno") final Long bno,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate endDate) {
+        log.info("GET | Daily Likes Controller");
+        final PageRequestDTO pageRequestDTO = PageRequestDTO.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+        final List<LikeDailyDTO> dailyLike = likeService.dailyLikes(pageRequestDTO, bno);
+        return new ResponseEntity<>(Map.of("dailyLike", dailyLike), HttpStatus.OK);
+    }
+
     // GET : Check Toggle Member
     @GetMapping("check/board/member/{bno}")
     public ResponseEntity<Map<String, Object>> getCheckToggleLikeMember(@PathVariable("bno") final Long bno,
@@ -60,4 +105,15 @@ public class LikeController {
         final LikeToggleDTO resultToggle = likeService.checkToggleMember(bno, email);
         return new ResponseEntity<>(Map.of("boolean", resultToggle.isLiked()), HttpStatus.OK);
     }
+
+    // GET : Check Liked Boards (목록 화면의 여러 게시물 좋아요 여부를 한 번에 확인, 최대 100개)
+    @GetMapping("check/board/member")
+    public ResponseEntity<Map<String, Object>> getCheckLikedBoards(@RequestParam("bno") final List<Long> bnos,
+            final Authentication authentication) {
+        log.info("GET | Check Liked Boards Controller");
+        final UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        final String email = userDetails.getUsername();
+        final List<Long> liked = likeService.checkLikedBoards(bnos.stream().distinct().limit(100).toList(), email);
+        return new ResponseEntity<>(Map.of("liked", liked), HttpStatus.OK);
+    }
 }
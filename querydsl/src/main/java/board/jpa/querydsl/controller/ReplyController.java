@@ -1,8 +1,12 @@
 package board.jpa.querydsl.controller;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,8 +21,12 @@ import board.jpa.querydsl.dto.reply.ReplyCreateDTO;
 import board.jpa.querydsl.dto.reply.ReplyListDTO;
 import board.jpa.querydsl.dto.reply.ReplyUpdateDTO;
 import board.jpa.querydsl.service.ReplyService;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
+import board.jpa.querydsl.util.version.BoardVersionRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -27,18 +35,66 @@ import lombok.extern.log4j.Log4j2;
 public class ReplyController {
 
     private final ReplyService replyService;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     @Autowired
-    public ReplyController(final ReplyService replyService) {
+    public ReplyController(final ReplyService replyService, final BoardVersionRegistry boardVersionRegistry) {
         log.info("Inject ReplyService");
         this.replyService = replyService;
+        this.boardVersionRegistry = boardVersionRegistry;
     }
 
+    // If-None-Match가 게시물의 현재 버전과 같으면 DB 조회 없이 304
+    // 페이지, 크기, 검색 조건마다 응답이 다르므로 ETag에 요청 조건을 포함합니다.
     @GetMapping("list/{bno}")
     public ResponseEntity<Map<String,Object>> listReply(@PathVariable("bno") final Long bno,
-            final PageRequestDTO pageRequestDTO) {
+            final PageRequestDTO pageRequestDTO, final HttpServletRequest request) {
         log.info("GET | Reply List Controller ");
+        final long version = boardVersionRegistry.version(bno);
+        final String eTag = BoardVersionRegistry.eTag("reply", bno, version, listReplyVariant(pageRequestDTO));
+        if (BoardVersionRegistry.isNotModified(request, eTag, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(version)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
         final PageResponseDTO<ReplyListDTO> listReply = replyService.listReply(pageRequestDTO, bno);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(version)
+                .cacheControl(CacheControl.noCache())
+                .body(Map.of("listReply", listReply));
+    }
+
+    // link는 요청 파라미터로 덮어쓸 수 있으므로 사용하지 않고 조건 값으로 직접 만듭니다.
+    private static String listReplyVariant(final PageRequestDTO pageRequestDTO) {
+        return "page=" + pageRequestDTO.getPage()
+                + "&size=" + pageRequestDTO.getSize()
+                + "&replyLast=" + pageRequestDTO.isReplyLast()
+                + "&type=" + encode(pageRequestDTO.getType())
+                + "&keyword=" + encode(pageRequestDTO.getKeyword())
+                + "&startDate=" + Objects.toString(pageRequestDTO.getStartDate(), "")
+                + "&endDate=" + Objects.toString(pageRequestDTO.getEndDate(), "");
+    }
+
+    private static String encode(final String value) {
+        return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @GetMapping("list/slice/{bno}")
+    public ResponseEntity<Map<String,Object>> sliceReply(@PathVariable("bno") final Long bno,
+            final PageRequestDTO pageRequestDTO) {
+        log.info("GET | Reply List Slice Controller ");
+        final SliceResponseDTO<ReplyListDTO> listReply = replyService.sliceReply(pageRequestDTO, bno);
+        return new ResponseEntity<>(Map.of("listReply", listReply), HttpStatus.OK);
+    }
+
+    @GetMapping("list/cursor/{bno}")
+    public ResponseEntity<Map<String,Object>> listReplyCursor(@PathVariable("bno") final Long bno,
+            final PageRequestDTO pageRequestDTO) {
+        log.info("GET | Reply List Cursor Controller");
+        final CursorResponseDTO<ReplyListDTO> listReply = replyService.listReplyCursor(pageRequestDTO, bno);
         return new ResponseEntity<>(Map.of("listReply", listReply), HttpStatus.OK);
     }
 
@@ -0,0 +1,15 @@
+package board.jpa.querydsl.domain;
+
+/**
+ * 테이블 기반 ID 생성기(tbl_id_sequence) 설정 값입니다.
+ * IDENTITY 전략은 INSERT 후에야 ID를 알 수 있어 JDBC batch insert를 사용할 수 없으므로,
+ * ID를 {@link #ALLOCATION_SIZE}개씩 미리 할당받아 사용합니다. (pooled optimizer)
+ */
+public final class IdSequence {
+
+    public static final String TABLE = "tbl_id_sequence";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+}
@@ -1,13 +1,18 @@
 package board.jpa.querydsl.domain.board;
 
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import board.jpa.querydsl.domain.IdSequence;
 import board.jpa.querydsl.domain.reply.ReplyEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -17,7 +22,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -37,7 +44,9 @@ public class BoardEntity {
     @Id
     @Comment("게시물 번호")
     @Column(name = "`bno`")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_id_generator")
+    @TableGenerator(name = "board_id_generator", table = IdSequence.TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "tbl_board", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long bno;
 
     @NotBlank
@@ -83,7 +92,13 @@ public class BoardEntity {
     @Column(name = "`replyCount`", nullable = false, columnDefinition = "bigint default 0")
     private Long replyCount = 0L;
 
+    @Comment("삭제 여부 (1이면 삭제되어 연관 데이터 정리 대기)")
     @Builder.Default
+    @Column(name = "`isDeleted`", nullable = false, columnDefinition = "int default 0")
+    private Long isDeleted = 0L;
+
+    @Builder.Default
+    @OrderBy("ord ASC")
     @OneToMany(mappedBy = "boardEntity", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<BoardFileEntity> fileNames = new ArrayList<>();
 
@@ -115,6 +130,41 @@ public class BoardEntity {
         fileNames.clear();
     }
 
+    /**
+     * 이미지 목록을 uuid 기준으로 기존 이미지와 비교해서 바꿉니다.
+     * 새 이미지만 추가하고, 빠진 이미지만 삭제(orphanRemoval)하며, 순서가 바뀐 이미지만 ord를 수정합니다.
+     *
+     * @param images 변경할 이미지 목록. (순서대로 ord 0부터 부여)
+     */
+    public void changeImages(List<BoardFileEntity> images) {
+        Map<String, Deque<BoardFileEntity>> current = new HashMap<>();
+        for (BoardFileEntity fileEntity : fileNames) {
+            current.computeIfAbsent(fileEntity.getUuid(), key -> new ArrayDeque<>()).add(fileEntity);
+        }
+        List<BoardFileEntity> changed = new ArrayList<>(images.size());
+        for (BoardFileEntity image : images) {
+            Deque<BoardFileEntity> matched = current.get(image.getUuid());
+            BoardFileEntity target = matched == null || matched.isEmpty() ? image : matched.poll();
+            if (target == image) {
+                image.setBoardEntity(this);
+            }
+            if (!Integer.valueOf(changed.size()).equals(target.getOrd())) {
+                target.changeOrd(changed.size());
+            }
+            changed.add(target);
+        }
+        fileNames.clear();
+        fileNames.addAll(changed);
+    }
+
+    public void markDeleted() {
+        this.isDeleted = 1L;
+    }
+
+    public boolean isDeleted() {
+        return isDeleted != null && isDeleted != 0L;
+    }
+
     public void incrementLikeCount() {
         this.likeCount = likeCount + 1;
     }
@@ -2,15 +2,18 @@ package board.jpa.querydsl.domain.board;
 
 import org.hibernate.annotations.Comment;
 
+import board.jpa.querydsl.domain.IdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,11 +24,13 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "`tbl_board_images`")
+@Table(name = "`tbl_board_images`", indexes = @Index(name = "idx_board_images_bno_ord", columnList = "bno, ord"))
 public class BoardFileEntity {
     @Id
     @Column(name = "imageId")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_image_id_generator")
+    @TableGenerator(name = "board_image_id_generator", table = IdSequence.TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "tbl_board_images", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long imageId;
 
     @Comment("이미지 uuid")
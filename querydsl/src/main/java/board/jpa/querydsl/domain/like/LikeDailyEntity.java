@@ -0,0 +1,46 @@
+package board.jpa.querydsl.domain.like;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Comment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시물별 일별 좋아요 수 집계 테이블입니다. (tbl_like의 createDate, bno 기준 GROUP BY 결과)
+ * 좋아요 토글 이벤트로 증감분을 반영하며, 기간 조회는 PK(likeDate, bno), 게시물별 조회는 (bno, likeDate) 인덱스만 읽습니다.
+ */
+@Getter
+@Entity
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(LikeDailyId.class)
+@Table(name = "`tbl_like_daily`",
+        indexes = @Index(name = "idx_like_daily_bno_date", columnList = "bno, likeDate, likeCount"))
+public class LikeDailyEntity {
+    @Id
+    @Comment("좋아요 날짜")
+    @Column(name = "likeDate")
+    private LocalDate likeDate;
+
+    @Id
+    @Comment("게시물 번호")
+    @Column(name = "bno")
+    private Long bno;
+
+    @Comment("좋아요 수")
+    @Column(name = "likeCount", nullable = false, columnDefinition = "bigint default 0")
+    private Long likeCount;
+}
@@ -0,0 +1,18 @@
+package board.jpa.querydsl.domain.like;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LikeDailyId implements Serializable {
+    private LocalDate likeDate;
+    private Long bno;
+}
@@ -5,12 +5,15 @@ import java.time.LocalDate;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.CreationTimestamp;
 
+import board.jpa.querydsl.domain.IdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -25,12 +28,15 @@ import lombok.ToString;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "`tbl_like`", uniqueConstraints = @UniqueConstraint(columnNames = { "bno", "email" }))
+@Table(name = "`tbl_like`", uniqueConstraints = @UniqueConstraint(columnNames = { "bno", "email" }),
+        indexes = @Index(name = "idx_like_create_date_bno", columnList = "createDate, bno"))
 public class LikeEntity {
     @Id
     @Comment("라이크 번호")
     @Column(name = "`likeId`")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "like_id_generator")
+    @TableGenerator(name = "like_id_generator", table = IdSequence.TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "tbl_like", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long likeId;
 
     @NotBlank
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import board.jpa.querydsl.domain.IdSequence;
 import board.jpa.querydsl.domain.board.BoardEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,9 +13,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,12 +30,17 @@ import lombok.ToString;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "`tbl_reply`")
+// (bno, gno, rno) 인덱스는 threadKey 채우기가 끝나기 전의 (gno, rno) 정렬에 사용합니다.
+@Table(name = "`tbl_reply`", indexes = {
+        @Index(name = "idx_reply_bno_thread_key", columnList = "bno, threadKey"),
+        @Index(name = "idx_reply_bno_gno_rno", columnList = "bno, gno, rno") })
 @ToString(exclude = "boardEntity")
 public class ReplyEntity {
     @Id
     @Column(name = "rno")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reply_id_generator")
+    @TableGenerator(name = "reply_id_generator", table = IdSequence.TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "tbl_reply", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long rno;
 
     @Column(name = "reply", nullable = false, length = 500)
@@ -47,6 +56,14 @@ public class ReplyEntity {
     @Column(name = "bno", nullable = false)
     private Long bno;
 
+    // 스레드 정렬 키 (ReplyThreadKey 참고)
+    @Column(name = "threadKey", length = ReplyThreadKey.MAX_LENGTH)
+    private String threadKey;
+
+    // 답글 대상 댓글의 스레드 정렬 키 (저장 시 threadKey 계산에만 사용)
+    @Transient
+    private String parentThreadKey;
+
     @CreationTimestamp
     @Column(name = "createDate")
     private LocalDate createDate;
@@ -76,17 +93,34 @@ public class ReplyEntity {
                 .build();
     }
 
-    public void updateReply(Long bno, Long rno, String reply, String replyer, Long gno, LocalDate updateDate,
-            Long isDeleted) {
-        this.bno = bno;
-        this.rno = rno;
+    /**
+     * 댓글 내용만 수정합니다. 게시물, 그룹 번호, 스레드 정렬 키(threadKey)는 작성 시점에 정해지므로 바꾸지 않습니다.
+     */
+    public void updateReply(String reply, String replyer, LocalDate updateDate) {
         this.reply = reply;
         this.replyer = replyer;
-        this.gno = gno;
-        this.isDeleted = isDeleted;
         this.updateDate = updateDate;
     }
 
+    public void replyTo(String parentThreadKey) {
+        this.parentThreadKey = parentThreadKey;
+    }
+
+    /**
+     * ID가 할당된 직후, INSERT 값이 만들어지기 전에 호출됩니다. (ReplyIdentityInterceptor)
+     * 최상위 댓글의 그룹 번호와 스레드 정렬 키가 자신의 댓글 번호로 정해지므로 INSERT 한 번에 함께 저장합니다.
+     */
+    public void assignIdentity(Long rno) {
+        if (gno == null || gno == 0L) {
+            this.gno = rno;
+        }
+        if (threadKey == null) {
+            this.threadKey = parentThreadKey != null
+                    ? ReplyThreadKey.child(parentThreadKey, rno)
+                    : ReplyThreadKey.of(gno, rno);
+        }
+    }
+
     public void deleteReply() {
         this.reply = "삭제된 댓글입니다.";
         this.replyer = "삭제된 게시자입니다.";
@@ -0,0 +1,107 @@
+package board.jpa.querydsl.domain.reply;
+
+/**
+ * 댓글 스레드 정렬 키(threadKey)를 만드는 클래스입니다.
+ * 댓글 번호를 고정 길이(13자리) 36진수 구간으로 만들어 부모 댓글의 키 뒤에 이어 붙입니다.
+ *
+ * <pre>
+ * 댓글        : [rno]
+ * 답글        : [그룹 번호(gno)][rno]
+ * 답글의 답글 : [그룹 번호(gno)][부모 rno][rno]
+ * </pre>
+ *
+ * 부모의 키가 자식 키의 접두어이고 같은 부모의 답글은 댓글 번호(rno) 순서로 이어지므로,
+ * threadKey 오름차순이 곧 스레드 순서가 됩니다. (재귀 조회 없이 (bno, threadKey) 인덱스 범위 조회)
+ * 댓글 번호는 인스턴스마다 {@link board.jpa.querydsl.domain.IdSequence#ALLOCATION_SIZE}개씩 미리 할당받으므로,
+ * 여러 인스턴스에서 작성된 답글의 순서는 작성 시각과 다를 수 있습니다. (순서는 바뀌지 않고 항상 같습니다)
+ */
+public final class ReplyThreadKey {
+
+    public static final int SEGMENT_LENGTH = 13; // Long.MAX_VALUE의 36진수 자릿수
+    public static final int MAX_LENGTH = 247; // 최대 19단계
+    public static final int MAX_DEPTH = MAX_LENGTH / SEGMENT_LENGTH - 1;
+
+    private static final int RADIX = 36;
+    private static final String PADDING = "0".repeat(SEGMENT_LENGTH);
+    private static final String MAX_SEGMENT = segment(Long.MAX_VALUE);
+
+    private ReplyThreadKey() {
+    }
+
+    /**
+     * 최상위 댓글의 키를 만듭니다.
+     */
+    public static String root(final long rno) {
+        return segment(rno);
+    }
+
+    /**
+     * 부모 댓글 키 아래에 답글의 키를 만듭니다.
+     * 최대 깊이를 넘으면 부모와 같은 단계(부모의 다음 형제)로 붙입니다.
+     */
+    public static String child(final String parentKey, final long rno) {
+        final String base = parentKey.length() + SEGMENT_LENGTH > MAX_LENGTH
+                ? parentKey.substring(0, parentKey.length() - SEGMENT_LENGTH)
+                : parentKey;
+        return base + segment(rno);
+    }
+
+    /**
+     * threadKey 도입 전 (gno, rno) 두 단계 댓글의 키를 만듭니다.
+     */
+    public static String of(final Long gno, final long rno) {
+        if (gno == null || gno == 0L || gno == rno) {
+            return root(rno);
+        }
+        return root(gno) + segment(rno);
+    }
+
+    /**
+     * 키의 첫 구간(최상위 댓글 번호, 그룹 번호)을 반환합니다.
+     */
+    public static long gnoOf(final String threadKey) {
+        return Long.parseLong(threadKey.substring(0, SEGMENT_LENGTH), RADIX);
+    }
+
+    /**
+     * 키의 마지막 구간(댓글 번호)을 반환합니다.
+     */
+    public static long rnoOf(final String threadKey) {
+        return Long.parseLong(threadKey.substring(threadKey.length() - SEGMENT_LENGTH), RADIX);
+    }
+
+    /**
+     * 키의 깊이를 반환합니다. (최상위 댓글 0)
+     */
+    public static int depth(final String threadKey) {
+        return threadKey.length() / SEGMENT_LENGTH - 1;
+    }
+
+    /**
+     * 키 형식(13자리 36진수 구간의 연속, 각 구간은 Long 범위)이 맞는지 확인합니다.
+     */
+    public static boolean isValid(final String threadKey) {
+        if (threadKey == null || threadKey.isEmpty() || threadKey.length() > MAX_LENGTH
+                || threadKey.length() % SEGMENT_LENGTH != 0) {
+            return false;
+        }
+        for (int i = 0; i < threadKey.length(); i++) {
+            final char c = threadKey.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'z')) {
+                return false;
+            }
+        }
+        // 같은 길이의 구간은 문자열 순서가 곧 숫자 순서입니다.
+        for (int i = 0; i < threadKey.length(); i += SEGMENT_LENGTH) {
+            if (threadKey.substring(i, i + SEGMENT_LENGTH).compareTo(MAX_SEGMENT) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String segment(final long rno) {
+        final String digits = Long.toString(rno, RADIX);
+        return PADDING.substring(digits.length()) + digits;
+    }
+}
@@ -0,0 +1,17 @@
+package board.jpa.querydsl.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardImportFailureDTO {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,31 @@
+package board.jpa.querydsl.dto.board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardImportResultDTO {
+    private String importId;
+    // 끝나기 전에는 chunk를 저장할 때마다 진행 상황이 갱신됩니다.
+    private boolean finished;
+    private long total;
+    private long imported;
+    private long failed;
+    private long elapsedMillis;
+
+    // 실패 행은 최대 1000개까지만 보관합니다.
+    @Builder.Default
+    private List<BoardImportFailureDTO> failures = new ArrayList<>();
+}
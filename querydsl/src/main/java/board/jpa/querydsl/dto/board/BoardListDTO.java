@@ -23,5 +23,7 @@ public class BoardListDTO {
     private LocalDate createDate;
     private LocalDate updateDate;
     private Long viewCount;
+    private Long likeCount;
+    private Long replyCount;
     private String fileName;
 }
@@ -0,0 +1,19 @@
+package board.jpa.querydsl.dto.like;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeCountDTO {
+    private Long bno;
+    private Long likeCount;
+}
@@ -0,0 +1,30 @@
+package board.jpa.querydsl.dto.like;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 좋아요 토글 전 상태입니다. 좋아요하지 않은 상태이면 likeId가 null입니다.
+ * likeDate는 nullable 컬럼이므로(기존 데이터) 좋아요 여부 판단에 사용하지 않습니다.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStateDTO {
+    private Long likeCount;
+    private Long likeId;
+    private LocalDate likeDate;
+
+    public boolean isLiked() {
+        return likeId != null;
+    }
+}
@@ -20,4 +20,5 @@ public class LikeToggleDTO {
     private Long bno;
     private LocalDate createDate;
     private boolean liked;
+    private Long likeCount;
 }
@@ -24,6 +24,8 @@ public class ReplyCreateDTO {
     @Builder.Default
     private Long gno = 0L;
 
+    private Long parentRno; // 답글 대상 댓글 번호 (없으면 그룹의 최상위 댓글에 대한 답글)
+
     private LocalDate createDate;
     private LocalDate updateDate;
 
@@ -25,4 +25,5 @@ public class ReplyListDTO {
     private LocalDate updateDate;
     private Long isDeleted;
     private String step;
+    private String threadKey;
 }
@@ -3,7 +3,8 @@ package board.jpa.querydsl.exception.errorcode;
 public enum BoardErrorMessage {
     
     DATA_NOT_FOUND("E001", "작성자, 제목, 내용은 필수 사항입니다."),
-    BOARD_NUMBER_NOT_FOUND("E002", "해당하는 게시물의 번호가 없습니다. %");
+    BOARD_NUMBER_NOT_FOUND("E002", "해당하는 게시물의 번호가 없습니다. %s"),
+    IMPORT_NOT_FOUND("E003", "해당하는 대량 등록 작업이 없습니다. %s");
 
     private final String code;
     private final String message;
@@ -1,7 +1,9 @@
 package board.jpa.querydsl.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,5 +17,14 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Long>, Board
     @Query("UPDATE BoardEntity b SET b.viewCount = b.viewCount + 1 WHERE b.bno = :bno")
     Integer incrementViewCount(@Param("bno") Long bno);
 
+    @Query("SELECT b.viewCount FROM BoardEntity b WHERE b.bno = :bno")
+    Optional<Long> findViewCountByBno(@Param("bno") Long bno);
+
+    @Query("SELECT COUNT(b) > 0 FROM BoardEntity b WHERE b.bno = :bno AND b.isDeleted = 0")
+    boolean existsReadableByBno(@Param("bno") Long bno);
+
     Optional<BoardEntity> findByBno(@Param("bno") Long bno);
+
+    @Query("SELECT b FROM BoardEntity b WHERE b.bno > :bno ORDER BY b.bno ASC")
+    List<BoardEntity> findBatchAfter(@Param("bno") Long bno, Pageable pageable);
 }
@@ -1,5 +1,7 @@
 package board.jpa.querydsl.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,15 +10,31 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import board.jpa.querydsl.domain.like.LikeEntity;
+import board.jpa.querydsl.dto.like.LikeCountDTO;
+import board.jpa.querydsl.dto.like.LikeStateDTO;
+import board.jpa.querydsl.repository.serach.LikeSearch;
 
-public interface LikeRepository extends JpaRepository<LikeEntity, Long> {
+public interface LikeRepository extends JpaRepository<LikeEntity, Long>, LikeSearch {
 
     @Query("SELECT like FROM LikeEntity like WHERE like.bno = :bno AND like.email = :email")
     Optional<LikeEntity> findByEmailAndBno(@Param("bno") Long bno, @Param("email") String email);
 
     @Modifying
     @Query("DELETE FROM LikeEntity like WHERE like.bno = :bno AND like.email = :email")
-    void deleteByEmailAndBno(@Param("bno") Long bno, @Param("email") String email);
+    int deleteByEmailAndBno(@Param("bno") Long bno, @Param("email") String email);
+
+    // 게시물과 회원이 모두 있는 경우에만 게시물의 좋아요 수와 회원의 좋아요 번호, 날짜를 반환합니다.
+    // (존재 확인, 좋아요 여부, 좋아요 수 조회를 한 번에)
+    @Query("SELECT new board.jpa.querydsl.dto.like.LikeStateDTO(board.likeCount, like.likeId, like.createDate) "
+            + "FROM BoardEntity board JOIN MemberEntity member ON member.email = :email "
+            + "LEFT JOIN LikeEntity like ON like.bno = board.bno AND like.email = member.email "
+            + "WHERE board.bno = :bno AND board.isDeleted = 0")
+    Optional<LikeStateDTO> findLikeState(@Param("bno") Long bno, @Param("email") String email);
+
+    // 게시물에 비정규화된 좋아요 수를 PK IN 조건으로 한 번에 조회합니다.
+    @Query("SELECT new board.jpa.querydsl.dto.like.LikeCountDTO(board.bno, board.likeCount) FROM BoardEntity board "
+            + "WHERE board.bno IN :bnos AND board.isDeleted = 0")
+    List<LikeCountDTO> findLikeCountByBnoIn(@Param("bnos") Collection<Long> bnos);
 
     @Query("SELECT COUNT(*) FROM LikeEntity like WHERE like.bno = :bno")
     Integer countByEmailAndBno(@Param("bno") Long bno);
@@ -24,6 +42,9 @@ public interface LikeRepository extends JpaRepository<LikeEntity, Long> {
     @Query("SELECT like FROM LikeEntity like WHERE like.bno = :bno")
     Optional<LikeEntity> findByLikeBno(@Param("bno") Long bno);
 
+    @Query("SELECT like.bno FROM LikeEntity like WHERE like.email = :email")
+    List<Long> findBnoByEmail(@Param("email") String email);
+
     @Query("SELECT like FROM LikeEntity like WHERE like.bno = :bno AND like.email = :email")
     Optional<LikeEntity> checkToggleLikeMember(@Param("bno") Long bno, @Param("email") String email);
 }
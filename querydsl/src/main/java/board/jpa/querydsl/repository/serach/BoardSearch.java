@@ -1,9 +1,28 @@
 package board.jpa.querydsl.repository.serach;
 
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import board.jpa.querydsl.domain.board.BoardEntity;
+import board.jpa.querydsl.dto.board.BoardDTO;
 import board.jpa.querydsl.dto.board.BoardListDTO;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public interface BoardSearch {
+    Optional<BoardDTO> readBoard(Long bno);
+
     PageResponseDTO<BoardListDTO> listBoard(PageRequestDTO pageRequestDTO); 
+
+    PageResponseDTO<BoardListDTO> listBoard(PageRequestDTO pageRequestDTO, Long totalCount);
+
+    Long countBoard(PageRequestDTO pageRequestDTO);
+
+    SliceResponseDTO<BoardListDTO> sliceBoard(PageRequestDTO pageRequestDTO);
+
+    CursorResponseDTO<BoardListDTO> listBoardCursor(PageRequestDTO pageRequestDTO);
+
+    long scrollBoard(PageRequestDTO pageRequestDTO, Consumer<BoardEntity> consumer);
 }
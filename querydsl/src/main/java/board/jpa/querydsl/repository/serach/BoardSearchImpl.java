@@ -1,64 +1,109 @@
 package board.jpa.querydsl.repository.serach;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.AbstractJPAQuery;
 
 import board.jpa.querydsl.domain.board.BoardEntity;
 import board.jpa.querydsl.domain.board.QBoardEntity;
 import board.jpa.querydsl.domain.board.QBoardFileEntity;
+import board.jpa.querydsl.dto.board.BoardDTO;
 import board.jpa.querydsl.dto.board.BoardListDTO;
+import board.jpa.querydsl.util.search.BoardSearchIndex;
 
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardSearch {
 
-    public BoardSearchImpl() {
+    private static final int SCROLL_CLEAR_SIZE = 1_000;
+
+    private final BoardSearchIndex boardSearchIndex;
+
+    public BoardSearchImpl(final BoardSearchIndex boardSearchIndex) {
         super(BoardEntity.class);
+        this.boardSearchIndex = boardSearchIndex;
     }
 
+    /**
+     * 게시물 상세와 이미지 이름(ord 순)을 한 번의 조회로 가져옵니다.
+     * 엔티티가 아닌 컬럼 값만 조회하므로 영속성 컨텍스트에 엔티티가 올라가지 않습니다.
+     * (이미지 수만큼 행이 반환되며 게시물 컬럼은 첫 행에서만 읽습니다)
+     */
     @Override
-    public PageResponseDTO<BoardListDTO> listBoard(PageRequestDTO pageRequestDTO) {
+    public Optional<BoardDTO> readBoard(Long bno) {
         QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
         QBoardFileEntity qBoardFileEntity = QBoardFileEntity.boardFileEntity;
 
-        JPQLQuery<BoardEntity> query = from(qBoardEntity)
+        List<Tuple> rows = from(qBoardEntity)
                 .leftJoin(qBoardFileEntity)
                 .on(qBoardEntity.bno.eq(qBoardFileEntity.boardEntity.bno))
-                .where(qBoardEntity.bno.gt(0L))
-                .orderBy(qBoardEntity.bno.desc());
+                .where(qBoardEntity.bno.eq(bno), qBoardEntity.isDeleted.eq(0L))
+                .orderBy(qBoardFileEntity.ord.asc())
+                .select(qBoardEntity.bno,
+                        qBoardEntity.title,
+                        qBoardEntity.writer,
+                        qBoardEntity.content,
+                        qBoardEntity.createDate,
+                        qBoardEntity.updateDate,
+                        qBoardEntity.viewCount,
+                        qBoardFileEntity.fileName)
+                .fetch();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
 
-        BooleanBuilder builder = new BooleanBuilder();
-        // 검색 조건
-        if (StringUtils.isNoneBlank(pageRequestDTO.getKeyword(), pageRequestDTO.getType())) {
-            // tc->[t,c,w]
-            String[] searchArr = pageRequestDTO.getType().split("");
-            BooleanBuilder searchBuilder = new BooleanBuilder();
-            for (String type : searchArr) {
-                switch (type) {
-                    case "t" -> searchBuilder.or(qBoardEntity.title.contains(pageRequestDTO.getKeyword()));
-                    case "c" -> searchBuilder.or(qBoardEntity.content.contains(pageRequestDTO.getKeyword()));
-                    case "w" -> searchBuilder.or(qBoardEntity.writer.contains(pageRequestDTO.getKeyword()));
-                }
+        Tuple first = rows.get(0);
+        List<String> fileNames = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            String fileName = row.get(qBoardFileEntity.fileName);
+            if (fileName != null) {
+                fileNames.add(fileName);
             }
-            builder.and(qBoardFileEntity.ord.eq(0));
-        }
-        // 날짜 검색 조건
-        if (pageRequestDTO.getStartDate() != null && pageRequestDTO.getEndDate() != null) {
-            builder.and(qBoardEntity.createDate.between(
-                    pageRequestDTO.getStartDate(),
-                    pageRequestDTO.getEndDate()));
         }
-        query.where(builder);
+        return Optional.of(BoardDTO.builder()
+                .bno(first.get(qBoardEntity.bno))
+                .title(first.get(qBoardEntity.title))
+                .writer(first.get(qBoardEntity.writer))
+                .content(first.get(qBoardEntity.content))
+                .createDate(first.get(qBoardEntity.createDate))
+                .updateDate(first.get(qBoardEntity.updateDate))
+                .viewCount(first.get(qBoardEntity.viewCount))
+                .fileName(fileNames)
+                .build());
+    }
+
+    @Override
+    public PageResponseDTO<BoardListDTO> listBoard(PageRequestDTO pageRequestDTO) {
+        return listBoard(pageRequestDTO, countBoard(pageRequestDTO));
+    }
+
+    @Override
+    public PageResponseDTO<BoardListDTO> listBoard(PageRequestDTO pageRequestDTO, Long totalCount) {
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+        QBoardFileEntity qBoardFileEntity = QBoardFileEntity.boardFileEntity;
+
+        JPQLQuery<BoardEntity> query = listQuery(pageRequestDTO)
+                .orderBy(qBoardEntity.bno.desc());
 
         int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
 
@@ -75,10 +120,166 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
                         qBoardEntity.createDate,
                         qBoardEntity.updateDate,
                         qBoardEntity.viewCount,
-                        qBoardFileEntity.fileName,
-                        qBoardFileEntity.ord));
+                        qBoardEntity.likeCount,
+                        qBoardEntity.replyCount,
+                        qBoardFileEntity.fileName));
         List<BoardListDTO> dtoList = list.fetch();
-        Long totalCount = list.fetchCount();
         return new PageResponseDTO<>(dtoList, totalCount, pageRequestDTO);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Long countBoard(PageRequestDTO pageRequestDTO) {
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+        // 이미지 조인 없이 게시물 테이블만으로 개수 계산
+        return from(qBoardEntity)
+                .where(qBoardEntity.bno.gt(0L), searchCondition(pageRequestDTO, qBoardEntity))
+                .select(qBoardEntity.count())
+                .fetchOne();
+    }
+
+    @Override
+    public SliceResponseDTO<BoardListDTO> sliceBoard(PageRequestDTO pageRequestDTO) {
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+        QBoardFileEntity qBoardFileEntity = QBoardFileEntity.boardFileEntity;
+
+        int size = pageRequestDTO.getSize();
+        int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
+
+        // COUNT 대신 size + 1 건을 조회해서 다음 페이지 유무를 판단
+        List<BoardListDTO> dtoList = listQuery(pageRequestDTO)
+                .orderBy(qBoardEntity.bno.desc())
+                .offset((long) pageNum * size)
+                .limit(size + 1)
+                .select(Projections.bean(BoardListDTO.class,
+                        qBoardEntity.bno,
+                        qBoardEntity.title,
+                        qBoardEntity.writer,
+                        qBoardEntity.content,
+                        qBoardEntity.createDate,
+                        qBoardEntity.updateDate,
+                        qBoardEntity.viewCount,
+                        qBoardEntity.likeCount,
+                        qBoardEntity.replyCount,
+                        qBoardFileEntity.fileName))
+                .fetch();
+
+        boolean hasNext = dtoList.size() > size;
+        List<BoardListDTO> pageList = hasNext ? new ArrayList<>(dtoList.subList(0, size)) : dtoList;
+        return new SliceResponseDTO<>(pageList, hasNext, pageRequestDTO);
+    }
+
+    @Override
+    public CursorResponseDTO<BoardListDTO> listBoardCursor(PageRequestDTO pageRequestDTO) {
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+        QBoardFileEntity qBoardFileEntity = QBoardFileEntity.boardFileEntity;
+
+        JPQLQuery<BoardEntity> query = listQuery(pageRequestDTO);
+        // 커서 조건: OFFSET 없이 PK 인덱스에서 afterBno 다음 위치부터 바로 탐색
+        if (pageRequestDTO.getAfterBno() != null) {
+            query.where(qBoardEntity.bno.lt(pageRequestDTO.getAfterBno()));
+        }
+
+        // size가 0이면 다음 커서를 만들 마지막 게시물이 없으므로 최소 1건씩 조회합니다.
+        int size = Math.max(pageRequestDTO.getSize(), 1);
+        // 다음 페이지 유무 확인을 위해 size + 1 건 조회
+        List<BoardListDTO> dtoList = query
+                .orderBy(qBoardEntity.bno.desc())
+                .limit(size + 1)
+                .select(Projections.bean(BoardListDTO.class,
+                        qBoardEntity.bno,
+                        qBoardEntity.title,
+                        qBoardEntity.writer,
+                        qBoardEntity.content,
+                        qBoardEntity.createDate,
+                        qBoardEntity.updateDate,
+                        qBoardEntity.viewCount,
+                        qBoardEntity.likeCount,
+                        qBoardEntity.replyCount,
+                        qBoardFileEntity.fileName))
+                .fetch();
+
+        boolean hasNext = dtoList.size() > size;
+        List<BoardListDTO> pageList = hasNext ? new ArrayList<>(dtoList.subList(0, size)) : dtoList;
+        String nextCursor = hasNext ? String.valueOf(pageList.get(pageList.size() - 1).getBno()) : null;
+        return new CursorResponseDTO<>(pageList, hasNext, nextCursor, size);
+    }
+
+    /**
+     * 검색 조건(날짜, 검색어)에 맞는 게시물을 게시물 번호 오름차순으로 한 건씩 consumer에 전달합니다.
+     * 결과 목록을 만들지 않고 forward-only 커서로 읽으며, 일정 건수마다 영속성 컨텍스트를 비웁니다.
+     * 트랜잭션 안에서 호출해야 하며, 호출 전 영속성 컨텍스트에 있던 엔티티도 준영속 상태가 됩니다.
+     *
+     * @return 전달한 게시물 수.
+     */
+    @Override
+    public long scrollBoard(PageRequestDTO pageRequestDTO, Consumer<BoardEntity> consumer) {
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+
+        JPQLQuery<BoardEntity> query = from(qBoardEntity)
+                .where(qBoardEntity.bno.gt(0L), searchCondition(pageRequestDTO, qBoardEntity))
+                .orderBy(qBoardEntity.bno.asc());
+
+        Query<?> hibernateQuery = ((AbstractJPAQuery<?, ?>) query).createQuery().unwrap(Query.class);
+        // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍합니다.
+        hibernateQuery.setReadOnly(true);
+        hibernateQuery.setFetchSize(Integer.MIN_VALUE);
+
+        long count = 0;
+        try (ScrollableResults<?> results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept((BoardEntity) results.get());
+                if (++count % SCROLL_CLEAR_SIZE == 0) {
+                    getEntityManager().clear();
+                }
+            }
+        }
+        getEntityManager().clear();
+        return count;
+    }
+
+    // 리스트, 커서, 슬라이스가 공유하는 조인 및 조건
+    // 대표 이미지(ord = 0)만 (bno, ord) 인덱스로 조인해서 게시물당 한 행만 조회
+    private JPQLQuery<BoardEntity> listQuery(PageRequestDTO pageRequestDTO) {
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+        QBoardFileEntity qBoardFileEntity = QBoardFileEntity.boardFileEntity;
+
+        return from(qBoardEntity)
+                .leftJoin(qBoardFileEntity)
+                .on(qBoardEntity.bno.eq(qBoardFileEntity.boardEntity.bno), qBoardFileEntity.ord.eq(0))
+                .where(qBoardEntity.bno.gt(0L), searchCondition(pageRequestDTO, qBoardEntity));
+    }
+
+    // 검색 조건 (통합검색, 날짜검색)
+    private BooleanBuilder searchCondition(PageRequestDTO pageRequestDTO, QBoardEntity qBoardEntity) {
+        // 삭제 처리된 게시물은 연관 데이터가 정리될 때까지 남아있으므로 제외
+        BooleanBuilder builder = new BooleanBuilder(qBoardEntity.isDeleted.eq(0L));
+        // 검색 조건
+        if (StringUtils.isNoneBlank(pageRequestDTO.getKeyword(), pageRequestDTO.getType())) {
+            // tc->[t,c,w]
+            String[] searchArr = pageRequestDTO.getType().split("");
+            BooleanBuilder searchBuilder = new BooleanBuilder();
+            for (String type : searchArr) {
+                switch (type) {
+                    case "t" -> searchBuilder.or(qBoardEntity.title.contains(pageRequestDTO.getKeyword()));
+                    case "c" -> searchBuilder.or(qBoardEntity.content.contains(pageRequestDTO.getKeyword()));
+                    case "w" -> searchBuilder.or(qBoardEntity.writer.contains(pageRequestDTO.getKeyword()));
+                }
+            }
+            // 역색인 후보군이 있으면 PK IN 조건으로 범위를 좁히고, LIKE는 후보군에 대해서만 확인
+            long[] candidates = boardSearchIndex.search(pageRequestDTO.getType(), pageRequestDTO.getKeyword());
+            if (candidates != null) {
+                builder.and(candidates.length == 0
+                        ? qBoardEntity.bno.lt(0L)
+                        : qBoardEntity.bno.in(Arrays.stream(candidates).boxed().toList()));
+            }
+            builder.and(searchBuilder);
+        }
+        // 날짜 검색 조건
+        if (pageRequestDTO.getStartDate() != null && pageRequestDTO.getEndDate() != null) {
+            builder.and(qBoardEntity.createDate.between(
+                    pageRequestDTO.getStartDate(),
+                    pageRequestDTO.getEndDate()));
+        }
+        return builder;
+    }
+}
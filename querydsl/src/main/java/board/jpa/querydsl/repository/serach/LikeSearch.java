@@ -1,9 +1,17 @@
 package board.jpa.querydsl.repository.serach;
 
+import java.util.List;
+
+import board.jpa.querydsl.dto.like.LikeCountDTO;
+import board.jpa.querydsl.dto.like.LikeDailyDTO;
 import board.jpa.querydsl.dto.like.LikeToggleDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
 
 public interface LikeSearch {
     PageResponseDTO<LikeToggleDTO> listLike(PageRequestDTO pageRequestDTO);
+
+    List<LikeCountDTO> topLikedBoards(PageRequestDTO pageRequestDTO);
+
+    List<LikeDailyDTO> dailyLikes(PageRequestDTO pageRequestDTO, Long bno);
 }
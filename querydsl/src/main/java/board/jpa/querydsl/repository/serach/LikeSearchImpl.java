@@ -1,7 +1,92 @@
 package board.jpa.querydsl.repository.serach;
 
+import java.util.List;
 
-public class LikeSearchImpl {
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 
-}
\ No newline at end of file
+import board.jpa.querydsl.domain.board.QBoardEntity;
+import board.jpa.querydsl.domain.like.LikeEntity;
+import board.jpa.querydsl.domain.like.QLikeDailyEntity;
+import board.jpa.querydsl.domain.like.QLikeEntity;
+import board.jpa.querydsl.dto.like.LikeCountDTO;
+import board.jpa.querydsl.dto.like.LikeDailyDTO;
+import board.jpa.querydsl.dto.like.LikeToggleDTO;
+import board.jpa.querydsl.util.page.PageRequestDTO;
+import board.jpa.querydsl.util.page.PageResponseDTO;
+
+public class LikeSearchImpl extends QuerydslRepositorySupport implements LikeSearch {
+
+    public LikeSearchImpl() {
+        super(LikeEntity.class);
+    }
+
+    @Override
+    public PageResponseDTO<LikeToggleDTO> listLike(PageRequestDTO pageRequestDTO) {
+        QLikeEntity qLikeEntity = QLikeEntity.likeEntity;
+
+        List<LikeToggleDTO> dtoList = from(qLikeEntity)
+                .orderBy(qLikeEntity.likeId.desc())
+                .offset(pageRequestDTO.getSkip())
+                .limit(pageRequestDTO.getSize())
+                .select(Projections.bean(LikeToggleDTO.class,
+                        qLikeEntity.email,
+                        qLikeEntity.bno,
+                        qLikeEntity.createDate))
+                .fetch();
+        Long totalCount = from(qLikeEntity)
+                .select(qLikeEntity.count())
+                .fetchOne();
+        return new PageResponseDTO<>(dtoList, totalCount, pageRequestDTO);
+    }
+
+    /**
+     * 기간(startDate ~ endDate) 동안 좋아요를 가장 많이 받은 게시물을 size 개 조회합니다.
+     * 일별 집계 테이블의 PK(likeDate, bno) 범위만 읽으므로 좋아요 원본 행 수와 관계없이 기간 * 게시물 수만큼만 읽습니다.
+     * 삭제 처리되었거나 정리된 게시물은 게시물 PK 조회(semi-join)로 제외합니다.
+     */
+    @Override
+    public List<LikeCountDTO> topLikedBoards(PageRequestDTO pageRequestDTO) {
+        QLikeDailyEntity qLikeDailyEntity = QLikeDailyEntity.likeDailyEntity;
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+        NumberExpression<Long> likeCount = qLikeDailyEntity.likeCount.sum();
+
+        return from(qLikeDailyEntity)
+                .where(qLikeDailyEntity.likeDate.between(pageRequestDTO.getStartDate(), pageRequestDTO.getEndDate()),
+                        JPAExpressions.selectOne()
+                                .from(qBoardEntity)
+                                .where(qBoardEntity.bno.eq(qLikeDailyEntity.bno), qBoardEntity.isDeleted.eq(0L))
+                                .exists())
+                .groupBy(qLikeDailyEntity.bno)
+                .having(likeCount.gt(0L))
+                .orderBy(likeCount.desc(), qLikeDailyEntity.bno.desc())
+                .limit(pageRequestDTO.getSize())
+                .select(Projections.constructor(LikeCountDTO.class,
+                        qLikeDailyEntity.bno,
+                        likeCount))
+                .fetch();
+    }
+
+    /**
+     * 게시물의 기간(startDate ~ endDate) 내 일별 좋아요 수를 날짜 오름차순으로 조회합니다.
+     * (bno, likeDate, likeCount) 인덱스만 읽습니다.
+     */
+    @Override
+    public List<LikeDailyDTO> dailyLikes(PageRequestDTO pageRequestDTO, Long bno) {
+        QLikeDailyEntity qLikeDailyEntity = QLikeDailyEntity.likeDailyEntity;
+
+        JPQLQuery<LikeDailyDTO> query = from(qLikeDailyEntity)
+                .where(qLikeDailyEntity.bno.eq(bno),
+                        qLikeDailyEntity.likeDate.between(pageRequestDTO.getStartDate(), pageRequestDTO.getEndDate()),
+                        qLikeDailyEntity.likeCount.gt(0L))
+                .orderBy(qLikeDailyEntity.likeDate.asc())
+                .select(Projections.constructor(LikeDailyDTO.class,
+                        qLikeDailyEntity.likeDate,
+                        qLikeDailyEntity.likeCount));
+        return query.fetch();
+    }
+}
@@ -3,7 +3,14 @@ package board.jpa.querydsl.repository.serach;
 import board.jpa.querydsl.dto.member.MemberListDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public interface MemberSearch {
     PageResponseDTO<MemberListDTO> listMember(PageRequestDTO pageRequestDTO);
+
+    PageResponseDTO<MemberListDTO> listMember(PageRequestDTO pageRequestDTO, Long totalCount);
+
+    Long countMember(PageRequestDTO pageRequestDTO);
+
+    SliceResponseDTO<MemberListDTO> sliceMember(PageRequestDTO pageRequestDTO);
 }
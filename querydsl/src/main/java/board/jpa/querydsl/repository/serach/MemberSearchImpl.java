@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -18,6 +19,7 @@ import board.jpa.querydsl.domain.member.QMemberRoleEntity;
 import board.jpa.querydsl.dto.member.MemberListDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public class MemberSearchImpl extends QuerydslRepositorySupport implements MemberSearch {
 
@@ -27,13 +29,80 @@ public class MemberSearchImpl extends QuerydslRepositorySupport implements Membe
 
     @Override
     public PageResponseDTO<MemberListDTO> listMember(PageRequestDTO pageRequestDTO) {
+        return listMember(pageRequestDTO, countMember(pageRequestDTO));
+    }
+
+    @Override
+    public PageResponseDTO<MemberListDTO> listMember(PageRequestDTO pageRequestDTO, Long totalCount) {
+        QMemberEntity qMemberEntity = QMemberEntity.memberEntity;
+        QMemberRoleEntity qMemberRoleEntity = QMemberRoleEntity.memberRoleEntity;
+
+        JPQLQuery<MemberEntity> query = listQuery(pageRequestDTO)
+                .orderBy(qMemberEntity.createDate.desc());
+
+        int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
+
+        Pageable pageable = PageRequest.of(pageNum, pageRequestDTO.getSize(), Sort.by("createDate").descending());
+
+        this.getQuerydsl().applyPagination(pageable, query);
+
+        JPQLQuery<MemberListDTO> list = query.select(
+                Projections.bean(MemberListDTO.class,
+                        qMemberEntity.email,
+                        qMemberEntity.memberPw,
+                        qMemberEntity.memberPhone,
+                        qMemberEntity.createDate,
+                        qMemberEntity.updateDate,
+                        qMemberEntity.memberName,
+                        qMemberRoleEntity.roleName.as("rolenames")));
+        List<MemberListDTO> dtoList = list.fetch();
+        return new PageResponseDTO<>(dtoList, totalCount, pageRequestDTO);
+    }
+
+    @Override
+    public Long countMember(PageRequestDTO pageRequestDTO) {
+        QMemberEntity qMemberEntity = QMemberEntity.memberEntity;
+        return listQuery(pageRequestDTO)
+                .select(qMemberEntity.count())
+                .fetchOne();
+    }
+
+    @Override
+    public SliceResponseDTO<MemberListDTO> sliceMember(PageRequestDTO pageRequestDTO) {
+        QMemberEntity qMemberEntity = QMemberEntity.memberEntity;
+        QMemberRoleEntity qMemberRoleEntity = QMemberRoleEntity.memberRoleEntity;
+
+        int size = pageRequestDTO.getSize();
+        int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
+
+        // COUNT 대신 size + 1 건을 조회해서 다음 페이지 유무를 판단
+        List<MemberListDTO> dtoList = listQuery(pageRequestDTO)
+                .orderBy(qMemberEntity.createDate.desc())
+                .offset((long) pageNum * size)
+                .limit(size + 1)
+                .select(Projections.bean(MemberListDTO.class,
+                        qMemberEntity.email,
+                        qMemberEntity.memberPw,
+                        qMemberEntity.memberPhone,
+                        qMemberEntity.createDate,
+                        qMemberEntity.updateDate,
+                        qMemberEntity.memberName,
+                        qMemberRoleEntity.roleName.as("rolenames")))
+                .fetch();
+
+        boolean hasNext = dtoList.size() > size;
+        List<MemberListDTO> pageList = hasNext ? new ArrayList<>(dtoList.subList(0, size)) : dtoList;
+        return new SliceResponseDTO<>(pageList, hasNext, pageRequestDTO);
+    }
+
+    // 리스트, 카운트, 슬라이스가 공유하는 조인 및 조건
+    private JPQLQuery<MemberEntity> listQuery(PageRequestDTO pageRequestDTO) {
         QMemberEntity qMemberEntity = QMemberEntity.memberEntity;
         QMemberRoleEntity qMemberRoleEntity = QMemberRoleEntity.memberRoleEntity;
 
         JPQLQuery<MemberEntity> query = from(qMemberEntity)
                 .leftJoin(qMemberRoleEntity)
-                .on(qMemberEntity.email.eq(qMemberRoleEntity.memberEntity.email))
-                .orderBy(qMemberEntity.createDate.desc());
+                .on(qMemberEntity.email.eq(qMemberRoleEntity.memberEntity.email));
 
         BooleanBuilder builder = new BooleanBuilder();
         if (StringUtils.isNoneBlank(pageRequestDTO.getKeyword(), pageRequestDTO.getType())) {
@@ -46,30 +115,13 @@ public class MemberSearchImpl extends QuerydslRepositorySupport implements Membe
                     case "p" -> searchBuilder.or(qMemberEntity.memberPhone.contains(pageRequestDTO.getKeyword()));
                 }
             }
+            builder.and(searchBuilder);
         }
         if (pageRequestDTO.getStartDate() != null && pageRequestDTO.getEndDate() != null) {
             builder.and(qMemberEntity.createDate.between(
                     pageRequestDTO.getStartDate(),
                     pageRequestDTO.getEndDate()));
         }
-        query.where(builder);
-        int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
-
-        Pageable pageable = PageRequest.of(pageNum, pageRequestDTO.getSize(), Sort.by("createDate").descending());
-
-        this.getQuerydsl().applyPagination(pageable, query);
-
-        JPQLQuery<MemberListDTO> list = query.select(
-                Projections.bean(MemberListDTO.class,
-                        qMemberEntity.email,
-                        qMemberEntity.memberPw,
-                        qMemberEntity.memberPhone,
-                        qMemberEntity.createDate,
-                        qMemberEntity.updateDate,
-                        qMemberEntity.memberName,
-                        qMemberRoleEntity.roleName.as("rolenames")));
-        List<MemberListDTO> dtoList = list.fetch();
-        Long totalCount = list.fetchCount();
-        return new PageResponseDTO<>(dtoList, totalCount, pageRequestDTO);
+        return query.where(builder);
     }
-}
\ No newline at end of file
+}
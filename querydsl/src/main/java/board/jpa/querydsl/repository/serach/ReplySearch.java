@@ -1,9 +1,21 @@
 package board.jpa.querydsl.repository.serach;
 
 import board.jpa.querydsl.dto.reply.ReplyListDTO;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public interface ReplySearch {
     PageResponseDTO<ReplyListDTO> listReply(PageRequestDTO pageRequestDTO, Long bno);
+
+    PageResponseDTO<ReplyListDTO> listReply(PageRequestDTO pageRequestDTO, Long bno, Long totalCount);
+
+    Long countReply(PageRequestDTO pageRequestDTO, Long bno);
+
+    Long countReplyOfBoard(PageRequestDTO pageRequestDTO, Long bno);
+
+    SliceResponseDTO<ReplyListDTO> sliceReply(PageRequestDTO pageRequestDTO, Long bno);
+
+    CursorResponseDTO<ReplyListDTO> listReplyCursor(PageRequestDTO pageRequestDTO, Long bno);
 }
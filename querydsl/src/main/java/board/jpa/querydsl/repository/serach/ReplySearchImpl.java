@@ -1,37 +1,189 @@
 package board.jpa.querydsl.repository.serach;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.QBean;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 
+import board.jpa.querydsl.domain.board.QBoardEntity;
 import board.jpa.querydsl.domain.reply.QReplyEntity;
 import board.jpa.querydsl.domain.reply.ReplyEntity;
+import board.jpa.querydsl.domain.reply.ReplyThreadKey;
 import board.jpa.querydsl.dto.reply.ReplyListDTO;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.ReplyCursor;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
+import board.jpa.querydsl.util.reply.ReplyThreadKeyBackfill;
 
 public class ReplySearchImpl extends QuerydslRepositorySupport implements ReplySearch {
 
-    public ReplySearchImpl() {
+    private final ReplyThreadKeyBackfill replyThreadKeyBackfill;
+
+    @Autowired
+    public ReplySearchImpl(final ReplyThreadKeyBackfill replyThreadKeyBackfill) {
         super(ReplyEntity.class);
+        this.replyThreadKeyBackfill = replyThreadKeyBackfill;
     }
 
     @Override
     public PageResponseDTO<ReplyListDTO> listReply(PageRequestDTO pageRequestDTO, Long bno) {
+        return listReply(pageRequestDTO, bno, countReply(pageRequestDTO, bno));
+    }
+
+    @Override
+    public PageResponseDTO<ReplyListDTO> listReply(PageRequestDTO pageRequestDTO, Long bno, Long totalCount) {
+        QReplyEntity qReplyEntity = QReplyEntity.replyEntity;
+
+        // 스레드 순서: (bno, threadKey) 인덱스 순서 그대로 읽습니다.
+        // threadKey 채우기가 끝나기 전에는 (bno, gno, rno) 인덱스 순서로 읽습니다. (threadOrder 참고)
+        JPQLQuery<ReplyEntity> query = listQuery(pageRequestDTO, bno)
+                .orderBy(threadOrder(qReplyEntity));
+
+        int total = totalCount.intValue();
+        int lastPage = (int) Math.ceil(total / (double) pageRequestDTO.getSize());
+
+        Pageable pageable;
+
+        if (!pageRequestDTO.isReplyLast()) {
+            int pageNum = Math.max(lastPage - 1, 0); // 0-based 페이지 번호로 변환
+            pageable = PageRequest.of(pageNum, pageRequestDTO.getSize());
+        } else {
+            int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
+            pageable = PageRequest.of(pageNum, pageRequestDTO.getSize());
+        }
+
+        this.getQuerydsl().applyPagination(pageable, query);
+
+        JPQLQuery<ReplyListDTO> dtoQuery = query.select(replyListProjection(qReplyEntity));
+
+        List<ReplyListDTO> dtoList = withStep(dtoQuery.fetch());
+
+        return new PageResponseDTO<>(dtoList, totalCount, pageRequestDTO);
+    }
+
+    @Override
+    public Long countReply(PageRequestDTO pageRequestDTO, Long bno) {
+        QReplyEntity qReplyEntity = QReplyEntity.replyEntity;
+        return listQuery(pageRequestDTO, bno)
+                .select(qReplyEntity.count())
+                .fetchOne();
+    }
+
+    // 게시물 존재 확인과 댓글 수 조회를 한 번의 조회로 처리합니다. (게시물이 없거나 삭제 처리된 경우 null)
+    @Override
+    public Long countReplyOfBoard(PageRequestDTO pageRequestDTO, Long bno) {
+        QBoardEntity qBoardEntity = QBoardEntity.boardEntity;
+        QReplyEntity qReplyEntity = QReplyEntity.replyEntity;
+        return from(qBoardEntity)
+                .where(qBoardEntity.bno.eq(bno)
+                        .and(qBoardEntity.isDeleted.eq(0L)))
+                .select(JPAExpressions
+                        .select(qReplyEntity.count())
+                        .from(qReplyEntity)
+                        .where(listCondition(pageRequestDTO, bno)))
+                .fetchOne();
+    }
+
+    @Override
+    public SliceResponseDTO<ReplyListDTO> sliceReply(PageRequestDTO pageRequestDTO, Long bno) {
+        QReplyEntity qReplyEntity = QReplyEntity.replyEntity;
+
+        int size = pageRequestDTO.getSize();
+        int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
+
+        // COUNT 대신 size + 1 건을 조회해서 다음 페이지 유무를 판단
+        List<ReplyListDTO> dtoList = withStep(listQuery(pageRequestDTO, bno)
+                .orderBy(threadOrder(qReplyEntity))
+                .offset((long) pageNum * size)
+                .limit(size + 1)
+                .select(replyListProjection(qReplyEntity))
+                .fetch());
+
+        boolean hasNext = dtoList.size() > size;
+        List<ReplyListDTO> pageList = hasNext ? new ArrayList<>(dtoList.subList(0, size)) : dtoList;
+        return new SliceResponseDTO<>(pageList, hasNext, pageRequestDTO);
+    }
+
+    @Override
+    public CursorResponseDTO<ReplyListDTO> listReplyCursor(PageRequestDTO pageRequestDTO, Long bno) {
         QReplyEntity qReplyEntity = QReplyEntity.replyEntity;
 
-        JPQLQuery<ReplyEntity> query = from(qReplyEntity)
-                .orderBy(qReplyEntity.rno.asc())
-                .orderBy(qReplyEntity.gno.asc());
+        JPQLQuery<ReplyEntity> query = listQuery(pageRequestDTO, bno);
+        // 커서 조건: threadKey > 커서 threadKey
+        // OFFSET 없이 (bno, threadKey) 인덱스에서 커서 다음 위치부터 바로 탐색
+        ReplyCursor cursor = ReplyCursor.decode(pageRequestDTO.getCursor());
+        if (cursor != null) {
+            query.where(afterCursor(qReplyEntity, cursor));
+        }
+
+        // size가 0이면 다음 커서를 만들 마지막 댓글이 없으므로 최소 1건씩 조회합니다.
+        int size = Math.max(pageRequestDTO.getSize(), 1);
+        // 다음 페이지 유무 확인을 위해 size + 1 건 조회, 부모 댓글 뒤에 답글이 이어지는 순서
+        List<ReplyListDTO> dtoList = withStep(query
+                .orderBy(threadOrder(qReplyEntity))
+                .limit(size + 1)
+                .select(replyListProjection(qReplyEntity))
+                .fetch());
+
+        boolean hasNext = dtoList.size() > size;
+        List<ReplyListDTO> pageList = hasNext ? new ArrayList<>(dtoList.subList(0, size)) : dtoList;
+        String nextCursor = null;
+        if (hasNext) {
+            ReplyListDTO last = pageList.get(pageList.size() - 1);
+            nextCursor = new ReplyCursor(cursorKeyOf(last)).encode();
+        }
+        return new CursorResponseDTO<>(pageList, hasNext, nextCursor, size);
+    }
+
+    // 스레드 순서. 키가 없는 기존 댓글이 남아 있는 동안은 (gno, rno) 순서로 조회합니다.
+    // (NULL 키가 맨 앞에 정렬되거나 threadKey > 커서 조건에서 빠지지 않도록)
+    private OrderSpecifier<?>[] threadOrder(QReplyEntity qReplyEntity) {
+        if (replyThreadKeyBackfill.isComplete()) {
+            return new OrderSpecifier<?>[] { qReplyEntity.threadKey.asc() };
+        }
+        return new OrderSpecifier<?>[] { qReplyEntity.gno.asc(), qReplyEntity.rno.asc() };
+    }
+
+    // 커서 다음 위치 조건. (gno, rno) 순서일 때는 커서 키의 첫 구간(gno)과 마지막 구간(rno)으로 비교합니다.
+    private BooleanBuilder afterCursor(QReplyEntity qReplyEntity, ReplyCursor cursor) {
+        if (replyThreadKeyBackfill.isComplete()) {
+            return new BooleanBuilder(qReplyEntity.threadKey.gt(cursor.threadKey()));
+        }
+        long gno = ReplyThreadKey.gnoOf(cursor.threadKey());
+        long rno = ReplyThreadKey.rnoOf(cursor.threadKey());
+        return new BooleanBuilder(qReplyEntity.gno.gt(gno))
+                .or(qReplyEntity.gno.eq(gno).and(qReplyEntity.rno.gt(rno)));
+    }
+
+    // 커서에 담을 키. (gno, rno) 순서일 때는 두 값을 그대로 구간으로 담습니다.
+    private String cursorKeyOf(ReplyListDTO replyListDTO) {
+        if (replyThreadKeyBackfill.isComplete()) {
+            return threadKeyOf(replyListDTO);
+        }
+        return ReplyThreadKey.child(ReplyThreadKey.root(replyListDTO.getGno()), replyListDTO.getRno());
+    }
+
+    // 리스트, 카운트, 슬라이스가 공유하는 조건
+    private JPQLQuery<ReplyEntity> listQuery(PageRequestDTO pageRequestDTO, Long bno) {
+        return from(QReplyEntity.replyEntity)
+                .where(listCondition(pageRequestDTO, bno));
+    }
+
+    private BooleanBuilder listCondition(PageRequestDTO pageRequestDTO, Long bno) {
+        QReplyEntity qReplyEntity = QReplyEntity.replyEntity;
 
         BooleanBuilder builder = new BooleanBuilder();
         if (StringUtils.isNoneBlank(pageRequestDTO.getKeyword(), pageRequestDTO.getType())) {
@@ -43,35 +195,18 @@ public class ReplySearchImpl extends QuerydslRepositorySupport implements ReplyS
                     case "ry" -> searchBuilder.or(qReplyEntity.replyer.contains(pageRequestDTO.getKeyword()));
                 }
             }
+            builder.and(searchBuilder);
         }
         if (pageRequestDTO.getStartDate() != null && pageRequestDTO.getEndDate() != null) {
             builder.and(qReplyEntity.createDate.between(pageRequestDTO.getStartDate(),
                     pageRequestDTO.getEndDate()));
         }
-        query.where(builder.and(qReplyEntity.bno.eq(bno)));
-
-        int total = (int) query.fetchCount();
-        int lastPage = (int) Math.ceil(total / (double) pageRequestDTO.getSize());
-
-        Pageable pageable;
-
-        if (!pageRequestDTO.isReplyLast()) {
-            int pageNum = lastPage - 1; // 0-based 페이지 번호로 변환
-            pageable = PageRequest.of(pageNum, pageRequestDTO.getSize(), Sort.by("createDate").descending());
-        } else {
-            int pageNum = pageRequestDTO.getPage() <= 0 ? 0 : pageRequestDTO.getPage() - 1;
-            pageable = PageRequest.of(pageNum, pageRequestDTO.getSize(), Sort.by("createDate").descending());
-        }
-
-        this.getQuerydsl().applyPagination(pageable, query);
+        return builder.and(qReplyEntity.bno.eq(bno));
+    }
 
-        JPQLQuery<ReplyListDTO> dtoQuery = query.select(Projections.bean(ReplyListDTO.class,
-                new CaseBuilder()
-                        .when(qReplyEntity.rno
-                                .eq(qReplyEntity.gno))
-                        .then("0")
-                        .otherwise("1")
-                        .as("step"),
+    private QBean<ReplyListDTO> replyListProjection(QReplyEntity qReplyEntity) {
+        return Projections.bean(ReplyListDTO.class,
+                qReplyEntity.threadKey,
                 qReplyEntity.bno,
                 qReplyEntity.rno,
                 qReplyEntity.gno,
@@ -79,11 +214,20 @@ public class ReplySearchImpl extends QuerydslRepositorySupport implements ReplyS
                 qReplyEntity.replyer,
                 qReplyEntity.isDeleted,
                 qReplyEntity.createDate,
-                qReplyEntity.updateDate));
+                qReplyEntity.updateDate);
+    }
 
-        List<ReplyListDTO> dtoList = dtoQuery.fetch();
-        long totalCount = dtoQuery.fetchCount();
+    // 댓글 깊이(step)는 threadKey 길이로 계산합니다. (0: 댓글, 1: 답글, 2: 답글의 답글 ...)
+    private List<ReplyListDTO> withStep(List<ReplyListDTO> dtoList) {
+        for (ReplyListDTO replyListDTO : dtoList) {
+            replyListDTO.setStep(String.valueOf(ReplyThreadKey.depth(threadKeyOf(replyListDTO))));
+        }
+        return dtoList;
+    }
 
-        return new PageResponseDTO<>(dtoList, totalCount, pageRequestDTO);
+    // 아직 키를 채우지 않은 기존 댓글은 (gno, rno)로 같은 키를 계산합니다. (ReplyThreadKeyBackfill)
+    private String threadKeyOf(ReplyListDTO replyListDTO) {
+        return replyListDTO.getThreadKey() != null ? replyListDTO.getThreadKey()
+                : ReplyThreadKey.of(replyListDTO.getGno(), replyListDTO.getRno());
     }
 }
@@ -83,6 +83,12 @@ public class SecurityConfig {
             config.successHandler(customOAuthSuccessHandler());
         });
 
+        // 관리자 API는 관리자만 접근, 나머지는 기존과 같이 허용
+        http.authorizeHttpRequests(config -> {
+            config.requestMatchers("/api/admin/**").hasRole("ADMIN")
+                    .anyRequest().permitAll();
+        });
+
         // 권한이 없는 페이지를 접속했을 시 처리
         http.exceptionHandling(config -> {
             config.accessDeniedHandler(new CustomAccessDeniedHandler());
@@ -30,5 +30,6 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
             AccessDeniedException accessDeniedException) throws IOException, ServletException {
         log.info("Is Running AccessDenied Handler");
         log.info(accessDeniedException);
+        response.sendError(HttpServletResponse.SC_FORBIDDEN);
     }
 }
@@ -0,0 +1,10 @@
+package board.jpa.querydsl.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import board.jpa.querydsl.util.page.PageRequestDTO;
+
+public interface BoardExportService {
+    long exportBoards(PageRequestDTO pageRequestDTO, String format, OutputStream outputStream) throws IOException;
+}
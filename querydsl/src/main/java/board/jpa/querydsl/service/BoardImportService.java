@@ -0,0 +1,11 @@
+package board.jpa.querydsl.service;
+
+import java.io.InputStream;
+
+import board.jpa.querydsl.dto.board.BoardImportResultDTO;
+
+public interface BoardImportService {
+    BoardImportResultDTO importBoards(InputStream inputStream, String format, String importId);
+
+    BoardImportResultDTO getImportProgress(String importId);
+}
@@ -4,19 +4,27 @@ import board.jpa.querydsl.dto.board.BoardCreateDTO;
 import board.jpa.querydsl.dto.board.BoardDTO;
 import board.jpa.querydsl.dto.board.BoardListDTO;
 import board.jpa.querydsl.dto.board.BoardUpdateDTO;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public interface BoardService {
     Long createBoard(BoardCreateDTO boardCreateDTO);
 
     BoardDTO readBoard(Long bno);
 
+    boolean existsBoard(Long bno);
+
     Long updateBoard(BoardUpdateDTO boardUpdateDTO);
 
     Long deleteBoard(Long bno);
 
     PageResponseDTO<BoardListDTO> listBoard(PageRequestDTO pageRequest);
 
+    CursorResponseDTO<BoardListDTO> listBoardCursor(PageRequestDTO pageRequest);
+
+    SliceResponseDTO<BoardListDTO> sliceBoard(PageRequestDTO pageRequest);
+
     Integer incrementViewCount(Long bno);
 }
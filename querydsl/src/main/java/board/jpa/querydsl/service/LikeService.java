@@ -1,11 +1,25 @@
 package board.jpa.querydsl.service;
 
+import java.util.List;
+import java.util.Map;
+
+import board.jpa.querydsl.dto.like.LikeCountDTO;
+import board.jpa.querydsl.dto.like.LikeDailyDTO;
 import board.jpa.querydsl.dto.like.LikeToggleDTO;
+import board.jpa.querydsl.util.page.PageRequestDTO;
 
 public interface LikeService {
-    Long toggleLike(Long bno, String email);
+    LikeToggleDTO toggleLike(Long bno, String email);
 
     Integer countLike(Long bno);
 
     LikeToggleDTO checkToggleMember(Long bno, String email);
+
+    List<Long> checkLikedBoards(List<Long> bnos, String email);
+
+    Map<Long, Long> countLikes(List<Long> bnos);
+
+    List<LikeCountDTO> topLikedBoards(PageRequestDTO pageRequestDTO);
+
+    List<LikeDailyDTO> dailyLikes(PageRequestDTO pageRequestDTO, Long bno);
 }
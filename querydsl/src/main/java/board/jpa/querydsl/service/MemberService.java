@@ -6,6 +6,7 @@ import board.jpa.querydsl.dto.member.MemberListDTO;
 import board.jpa.querydsl.dto.member.MemberUpdateDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public interface MemberService {
     void createMember(MemberCreateDTO memberCreateDTO);
@@ -17,4 +18,6 @@ public interface MemberService {
     void deleteMember(String email);
 
     PageResponseDTO<MemberListDTO> listMember(PageRequestDTO pageRequestDTO);
+
+    SliceResponseDTO<MemberListDTO> sliceMember(PageRequestDTO pageRequestDTO);
 }
@@ -4,8 +4,10 @@ import board.jpa.querydsl.dto.reply.ReplyCreateDTO;
 import board.jpa.querydsl.dto.reply.ReplyDTO;
 import board.jpa.querydsl.dto.reply.ReplyListDTO;
 import board.jpa.querydsl.dto.reply.ReplyUpdateDTO;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
 
 public interface ReplyService {
     Long createReply(ReplyCreateDTO replyCreateDTO);
@@ -16,5 +18,9 @@ public interface ReplyService {
 
     PageResponseDTO<ReplyListDTO> listReply(PageRequestDTO pageRequestDTO, Long bno);
 
+    SliceResponseDTO<ReplyListDTO> sliceReply(PageRequestDTO pageRequestDTO, Long bno);
+
+    CursorResponseDTO<ReplyListDTO> listReplyCursor(PageRequestDTO pageRequestDTO, Long bno);
+
     Long updateReply(ReplyUpdateDTO replyUpdateDTO);
 }
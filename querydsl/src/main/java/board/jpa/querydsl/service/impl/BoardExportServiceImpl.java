@@ -0,0 +1,143 @@
+package board.jpa.querydsl.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import board.jpa.querydsl.domain.board.BoardEntity;
+import board.jpa.querydsl.repository.BoardRepository;
+import board.jpa.querydsl.service.BoardExportService;
+import board.jpa.querydsl.util.csv.CsvWriter;
+import board.jpa.querydsl.util.page.PageRequestDTO;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 게시물 내보내기 서비스입니다.
+ * 게시물을 forward-only 커서로 한 건씩 읽어 바로 출력 스트림에 쓰므로
+ * 게시물 수와 관계없이 일정한 메모리만 사용합니다.
+ */
+@Log4j2
+@Service
+public class BoardExportServiceImpl implements BoardExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_SIZE = 10_000;
+
+    private final BoardRepository boardRepository;
+    private final JsonFactory jsonFactory;
+
+    @Autowired
+    public BoardExportServiceImpl(final BoardRepository boardRepository, final ObjectMapper objectMapper) {
+        log.info("Inject BoardRepository");
+        this.boardRepository = boardRepository;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 게시물을 내보냅니다.
+     *
+     * @param pageRequestDTO 검색 조건. (날짜, 검색어만 사용하고 페이지, 사이즈는 무시합니다)
+     * @param format         csv 또는 ndjson.
+     * @param outputStream   게시물을 쓸 출력 스트림. 닫지 않습니다.
+     * @return 내보낸 게시물 수.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBoards(final PageRequestDTO pageRequestDTO, final String format,
+            final OutputStream outputStream) throws IOException {
+        log.info("Is Running Export Board ServiceImpl");
+        final long start = System.currentTimeMillis();
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        final long count;
+        try {
+            if ("ndjson".equalsIgnoreCase(format)) {
+                count = writeNdjson(pageRequestDTO, writer);
+            } else {
+                count = writeCsv(pageRequestDTO, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Export Board Finished (exported: " + count + ", " + (System.currentTimeMillis() - start) + "ms)");
+        return count;
+    }
+
+    private long writeCsv(final PageRequestDTO pageRequestDTO, final Writer writer) throws IOException {
+        final CsvWriter csvWriter = new CsvWriter(writer);
+        csvWriter.write("bno", "title", "writer", "content", "createDate", "updateDate", "viewCount");
+        return scroll(pageRequestDTO, writer, boardEntity -> {
+            try {
+                csvWriter.write(
+                        boardEntity.getBno(),
+                        boardEntity.getTitle(),
+                        boardEntity.getWriter(),
+                        boardEntity.getContent(),
+                        boardEntity.getCreateDate(),
+                        boardEntity.getUpdateDate(),
+                        boardEntity.getViewCount());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long writeNdjson(final PageRequestDTO pageRequestDTO, final Writer writer) throws IOException {
+        // 출력 스트림은 컨트롤러(서블릿 컨테이너)가 닫으므로 generator가 닫지 않도록 합니다.
+        final JsonGenerator generator = jsonFactory.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        final long count = scroll(pageRequestDTO, generator, boardEntity -> {
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("bno", boardEntity.getBno());
+                generator.writeStringField("title", boardEntity.getTitle());
+                generator.writeStringField("writer", boardEntity.getWriter());
+                generator.writeStringField("content", boardEntity.getContent());
+                generator.writeStringField("createDate", toString(boardEntity.getCreateDate()));
+                generator.writeStringField("updateDate", toString(boardEntity.getUpdateDate()));
+                generator.writeNumberField("viewCount", boardEntity.getViewCount());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.close();
+        return count;
+    }
+
+    // 일정 건수마다 버퍼를 비워 클라이언트가 바로 받을 수 있도록 합니다.
+    private long scroll(final PageRequestDTO pageRequestDTO, final Flushable flushable,
+            final Consumer<BoardEntity> consumer) {
+        final long[] written = { 0 };
+        return boardRepository.scrollBoard(pageRequestDTO, boardEntity -> {
+            consumer.accept(boardEntity);
+            if (++written[0] % FLUSH_SIZE == 0) {
+                try {
+                    flushable.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    private static String toString(final Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,326 @@
+package board.jpa.querydsl.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import board.jpa.querydsl.domain.board.BoardEntity;
+import board.jpa.querydsl.domain.board.BoardFileEntity;
+import board.jpa.querydsl.dto.board.BoardCreateDTO;
+import board.jpa.querydsl.dto.board.BoardImportFailureDTO;
+import board.jpa.querydsl.dto.board.BoardImportResultDTO;
+import board.jpa.querydsl.exception.DataNotFoundException;
+import board.jpa.querydsl.exception.errorcode.BoardErrorMessage;
+import board.jpa.querydsl.service.BoardImportService;
+import board.jpa.querydsl.util.csv.CsvReader;
+import board.jpa.querydsl.util.page.TotalCountCache;
+import board.jpa.querydsl.util.search.BoardSearchIndex;
+import jakarta.persistence.EntityManager;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 게시물 대량 등록 서비스입니다.
+ * 요청 본문(NDJSON, CSV)을 한 행씩 읽어 chunk 단위 트랜잭션으로 저장하므로
+ * 입력 크기와 관계없이 한 chunk 만큼의 메모리만 사용합니다.
+ * 진행 상황은 chunk를 저장할 때마다 작업 번호별로 보관하므로 등록 도중에도 조회할 수 있습니다.
+ */
+@Log4j2
+@Service
+public class BoardImportServiceImpl implements BoardImportService {
+
+    private static final String BOARD_COUNT_DOMAIN = "board";
+    private static final int MAX_FAILURES = 1_000;
+    private static final int UUID_LENGTH = 36;
+    // 보관하는 진행 상황 개수. 넘으면 가장 오래된 작업부터 제거합니다.
+    private static final int MAX_PROGRESS = 100;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader boardReader;
+    private final TotalCountCache totalCountCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final int chunkSize;
+
+    private final Map<String, BoardImportResultDTO> progress = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, BoardImportResultDTO> eldest) {
+                    return size() > MAX_PROGRESS;
+                }
+            });
+
+    @Autowired
+    public BoardImportServiceImpl(final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager, final ObjectMapper objectMapper,
+            final TotalCountCache totalCountCache, final BoardSearchIndex boardSearchIndex,
+            @Value("${board.import.chunk-size:1000}") final int chunkSize) {
+        log.info("Inject EntityManager, TransactionManager");
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.boardReader = objectMapper.readerFor(BoardCreateDTO.class);
+        this.totalCountCache = totalCountCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 게시물을 대량 등록합니다.
+     *
+     * @param inputStream 요청 본문.
+     * @param format      ndjson 또는 csv. (csv는 title,writer,content,fileName 헤더 필요, 파일 이름은 | 로 구분)
+     * @param importId    진행 상황 조회에 사용할 작업 번호.
+     * @return 전체/성공/실패 건수와 실패 행 목록.
+     */
+    @Override
+    public BoardImportResultDTO importBoards(final InputStream inputStream, final String format,
+            final String importId) {
+        log.info("Is Running Import Board ServiceImpl");
+        final long start = System.currentTimeMillis();
+        final BoardImportResultDTO result = BoardImportResultDTO.builder().importId(importId).build();
+        final List<BoardCreateDTO> chunk = new ArrayList<>(chunkSize);
+        final List<Long> chunkLines = new ArrayList<>(chunkSize);
+        publish(result, start);
+
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        try {
+            if ("csv".equalsIgnoreCase(format)) {
+                readCsv(reader, result, chunk, chunkLines, start);
+            } else {
+                readNdjson(reader, result, chunk, chunkLines, start);
+            }
+            saveChunk(result, chunk, chunkLines, start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 요청 본문을 끝까지 읽지 못해도 그때까지 저장한 결과는 남깁니다.
+            totalCountCache.invalidate(BOARD_COUNT_DOMAIN);
+            result.setFinished(true);
+            publish(result, start);
+        }
+        log.info("Import Board Finished (total: " + result.getTotal() + ", imported: " + result.getImported()
+                + ", failed: " + result.getFailed() + ", " + result.getElapsedMillis() + "ms)");
+        return result;
+    }
+
+    /**
+     * 진행 중이거나 최근에 끝난 대량 등록의 진행 상황을 조회합니다.
+     *
+     * @param importId 작업 번호.
+     * @return 마지막으로 저장한 chunk까지의 전체/성공/실패 건수와 실패 행 목록.
+     */
+    @Override
+    public BoardImportResultDTO getImportProgress(final String importId) {
+        final BoardImportResultDTO result = progress.get(importId);
+        if (result == null) {
+            throw new DataNotFoundException(BoardErrorMessage.IMPORT_NOT_FOUND.getFormattedMessage(importId));
+        }
+        return result;
+    }
+
+    private void readNdjson(final BufferedReader reader, final BoardImportResultDTO result,
+            final List<BoardCreateDTO> chunk, final List<Long> chunkLines, final long start) throws IOException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            result.setTotal(result.getTotal() + 1);
+            try {
+                addRow(result, chunk, chunkLines, lineNumber, boardReader.readValue(line), start);
+            } catch (JsonProcessingException e) {
+                fail(result, lineNumber, "JSON 형식이 올바르지 않습니다. " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(final BufferedReader reader, final BoardImportResultDTO result,
+            final List<BoardCreateDTO> chunk, final List<Long> chunkLines, final long start) throws IOException {
+        final CsvReader csvReader = new CsvReader(reader);
+        final List<String> header = csvReader.next();
+        if (header == null) {
+            return;
+        }
+        final int title = header.indexOf("title");
+        final int writer = header.indexOf("writer");
+        final int content = header.indexOf("content");
+        final int fileName = header.indexOf("fileName");
+        List<String> record;
+        long lineNumber = csvReader.getLine();
+        while ((record = csvReader.next()) != null) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                lineNumber = csvReader.getLine();
+                continue;
+            }
+            result.setTotal(result.getTotal() + 1);
+            final BoardCreateDTO boardCreateDTO = BoardCreateDTO.builder()
+                    .title(column(record, title))
+                    .writer(column(record, writer))
+                    .content(column(record, content))
+                    .build();
+            final String fileNames = column(record, fileName);
+            if (fileNames != null && !fileNames.isEmpty()) {
+                boardCreateDTO.setFileName(Arrays.asList(fileNames.split("\\|")));
+            }
+            addRow(result, chunk, chunkLines, lineNumber, boardCreateDTO, start);
+            lineNumber = csvReader.getLine();
+        }
+    }
+
+    private void addRow(final BoardImportResultDTO result, final List<BoardCreateDTO> chunk,
+            final List<Long> chunkLines, final long lineNumber, final BoardCreateDTO boardCreateDTO,
+            final long start) {
+        final String error = validate(boardCreateDTO);
+        if (error != null) {
+            fail(result, lineNumber, error);
+            return;
+        }
+        chunk.add(boardCreateDTO);
+        chunkLines.add(lineNumber);
+        if (chunk.size() >= chunkSize) {
+            saveChunk(result, chunk, chunkLines, start);
+        }
+    }
+
+    private void saveChunk(final BoardImportResultDTO result, final List<BoardCreateDTO> chunk,
+            final List<Long> chunkLines, final long start) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            saveRows(result, chunk, chunkLines);
+            log.info("Imported " + result.getImported() + " Boards");
+        } finally {
+            chunk.clear();
+            chunkLines.clear();
+            publish(result, start);
+        }
+    }
+
+    // 행 목록을 하나의 트랜잭션으로 저장합니다. 저장 후 영속성 컨텍스트를 비워 메모리를 일정하게 유지합니다.
+    // 실패하면 절반씩 나누어 다시 저장해서, 잘못된 행 하나 때문에 chunk 전체가 실패하지 않고 그 행만 실패로 기록합니다.
+    // (잘못된 행이 k개이면 추가 트랜잭션은 약 k * log2(chunk-size)번)
+    private void saveRows(final BoardImportResultDTO result, final List<BoardCreateDTO> rows,
+            final List<Long> rowLines) {
+        try {
+            final List<BoardEntity> saved = transactionTemplate.execute(status -> {
+                final List<BoardEntity> entities = new ArrayList<>(rows.size());
+                for (BoardCreateDTO boardCreateDTO : rows) {
+                    final BoardEntity boardEntity = toEntity(boardCreateDTO);
+                    entityManager.persist(boardEntity);
+                    entities.add(boardEntity);
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return entities;
+            });
+            for (BoardEntity boardEntity : saved) {
+                boardSearchIndex.index(boardEntity.getBno(), boardEntity.getTitle(), boardEntity.getContent(),
+                        boardEntity.getWriter());
+            }
+            result.setImported(result.getImported() + saved.size());
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                log.error("Import Row Failed (line " + rowLines.get(0) + ")", e);
+                fail(result, rowLines.get(0), "저장에 실패했습니다. " + e.getMessage());
+                return;
+            }
+            log.warn("Import Rows Failed, Retry In Halves (line " + rowLines.get(0) + " ~ "
+                    + rowLines.get(rowLines.size() - 1) + ")");
+            final int half = rows.size() / 2;
+            saveRows(result, rows.subList(0, half), rowLines.subList(0, half));
+            saveRows(result, rows.subList(half, rows.size()), rowLines.subList(half, rowLines.size()));
+        }
+    }
+
+    // 조회 중에 실패 행 목록이 바뀌지 않도록 복사해서 보관합니다.
+    private void publish(final BoardImportResultDTO result, final long start) {
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        progress.put(result.getImportId(), BoardImportResultDTO.builder()
+                .importId(result.getImportId())
+                .finished(result.isFinished())
+                .total(result.getTotal())
+                .imported(result.getImported())
+                .failed(result.getFailed())
+                .elapsedMillis(result.getElapsedMillis())
+                .failures(new ArrayList<>(result.getFailures()))
+                .build());
+    }
+
+    private BoardEntity toEntity(final BoardCreateDTO boardCreateDTO) {
+        final BoardEntity boardEntity = BoardEntity.createBoard(
+                boardCreateDTO.getTitle(),
+                boardCreateDTO.getWriter(),
+                boardCreateDTO.getContent());
+        if (boardCreateDTO.getFileName() != null) {
+            for (String str : boardCreateDTO.getFileName()) {
+                final BoardFileEntity fileEntity = BoardFileEntity.builder()
+                        .uuid(str.substring(0, UUID_LENGTH))
+                        .fileName(str.substring(UUID_LENGTH + 1))
+                        .build();
+                fileEntity.setBoardEntity(boardEntity);
+                boardEntity.addImage(fileEntity);
+            }
+        }
+        return boardEntity;
+    }
+
+    // BoardEntity 컬럼 제약 조건과 같은 기준으로 검증합니다.
+    private String validate(final BoardCreateDTO boardCreateDTO) {
+        if (isBlank(boardCreateDTO.getTitle()) || boardCreateDTO.getTitle().length() > 100) {
+            return "제목은 필수 사항이며 100자 이하여야 합니다.";
+        }
+        if (isBlank(boardCreateDTO.getWriter()) || boardCreateDTO.getWriter().length() > 50) {
+            return "작성자는 필수 사항이며 50자 이하여야 합니다.";
+        }
+        if (isBlank(boardCreateDTO.getContent()) || boardCreateDTO.getContent().length() > 1000) {
+            return "내용은 필수 사항이며 1000자 이하여야 합니다.";
+        }
+        if (boardCreateDTO.getFileName() != null) {
+            for (String str : boardCreateDTO.getFileName()) {
+                if (str == null || str.length() <= UUID_LENGTH + 1) {
+                    return "파일 이름은 uuid_파일이름 형식이어야 합니다. " + str;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void fail(final BoardImportResultDTO result, final long lineNumber, final String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getFailures().size() < MAX_FAILURES) {
+            result.getFailures().add(BoardImportFailureDTO.builder()
+                    .line(lineNumber)
+                    .message(message)
+                    .build());
+        }
+    }
+
+    private static String column(final List<String> record, final int index) {
+        return index >= 0 && index < record.size() ? record.get(index) : null;
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+}
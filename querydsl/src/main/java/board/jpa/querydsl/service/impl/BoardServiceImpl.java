@@ -15,24 +15,60 @@ import board.jpa.querydsl.dto.board.BoardListDTO;
 import board.jpa.querydsl.dto.board.BoardUpdateDTO;
 import board.jpa.querydsl.repository.BoardRepository;
 import board.jpa.querydsl.service.BoardService;
+import board.jpa.querydsl.util.cache.BoardCache;
+import board.jpa.querydsl.util.counter.BoardCounter;
+import board.jpa.querydsl.util.counter.BoardCounterBuffer;
+import board.jpa.querydsl.util.loader.EntityLoader;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
+import board.jpa.querydsl.util.page.TotalCountCache;
+import board.jpa.querydsl.util.ranking.HotBoardRanking;
+import board.jpa.querydsl.util.search.BoardSearchIndex;
 import board.jpa.querydsl.util.validator.BoardValidator;
+import board.jpa.querydsl.util.version.BoardVersionRegistry;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @Service
 public class BoardServiceImpl implements BoardService {
 
+    private static final String BOARD_COUNT_DOMAIN = "board";
+
     private final BoardRepository boardRepository;
 
     private final BoardValidator boardValidator;
 
+    private final TotalCountCache totalCountCache;
+
+    private final BoardSearchIndex boardSearchIndex;
+
+    private final BoardCache boardCache;
+
+    private final EntityLoader entityLoader;
+
+    private final BoardCounterBuffer boardCounterBuffer;
+
+    private final HotBoardRanking hotBoardRanking;
+
+    private final BoardVersionRegistry boardVersionRegistry;
+
     @Autowired
-    public BoardServiceImpl(final BoardRepository boardRepository, final BoardValidator boardValidator) {
+    public BoardServiceImpl(final BoardRepository boardRepository, final BoardValidator boardValidator,
+            final TotalCountCache totalCountCache, final BoardSearchIndex boardSearchIndex,
+            final BoardCache boardCache, final EntityLoader entityLoader, final BoardCounterBuffer boardCounterBuffer,
+            final HotBoardRanking hotBoardRanking, final BoardVersionRegistry boardVersionRegistry) {
         log.info("Inject BoardRepository");
         this.boardRepository = boardRepository;
         this.boardValidator = boardValidator;
+        this.totalCountCache = totalCountCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardCache = boardCache;
+        this.entityLoader = entityLoader;
+        this.boardCounterBuffer = boardCounterBuffer;
+        this.hotBoardRanking = hotBoardRanking;
+        this.boardVersionRegistry = boardVersionRegistry;
     }
 
     @Override
@@ -43,25 +79,26 @@ public class BoardServiceImpl implements BoardService {
 
         final BoardEntity boardEntity = BoardEntity.createBoard(
                 boardCreateDTO.getTitle(),
-                boardCreateDTO.getContent(),
-                boardCreateDTO.getWriter());
-        final BoardEntity saveBoard = boardRepository.save(boardEntity);
-
+                boardCreateDTO.getWriter(),
+                boardCreateDTO.getContent());
         List<String> fileNames = boardCreateDTO.getFileName();
-        if (boardCreateDTO.getFileName() != null && !boardCreateDTO.getFileName().isEmpty()) {
-            final List<BoardFileEntity> list = fileNames.stream().map(str -> {
+        if (fileNames != null && !fileNames.isEmpty()) {
+            fileNames.stream().map(str -> {
                 String uuid = str.substring(0, 36);
                 String fileName = str.substring(37);
                 BoardFileEntity fileEntity = BoardFileEntity.builder()
                         .uuid(uuid)
                         .fileName(fileName)
                         .build();
-                fileEntity.setBoardEntity(saveBoard);
+                fileEntity.setBoardEntity(boardEntity);
                 return fileEntity;
-            }).collect(Collectors.toList());
-            list.forEach(boardEntity::addImage);
-            boardRepository.save(saveBoard);
+            }).forEach(boardEntity::addImage);
         }
+        // 게시물과 이미지는 커밋 시점에 각각 한 번의 batch INSERT로 저장됩니다.
+        final BoardEntity saveBoard = boardRepository.save(boardEntity);
+        totalCountCache.invalidate(BOARD_COUNT_DOMAIN);
+        boardSearchIndex.index(saveBoard.getBno(), saveBoard.getTitle(), saveBoard.getContent(),
+                saveBoard.getWriter());
         return saveBoard.getBno();
     }
 
@@ -69,25 +106,36 @@ public class BoardServiceImpl implements BoardService {
     @Transactional(readOnly = true)
     public BoardDTO readBoard(final Long bno) {
         log.info("Is Running Read Board ServiceImpl");
-        boardValidator.findBoardNumber(bno);
-        
-        final BoardEntity boardEntity = boardRepository.findById(bno)
-                .orElse(null);
-        final List<String> fileNames = boardEntity.getFileNames()
-                .stream()
-                .map(BoardFileEntity::getFileName)
-                .collect(Collectors.toList());
-        final BoardDTO boardDTO = BoardDTO.builder()
-                .bno(boardEntity.getBno())
-                .title(boardEntity.getTitle())
-                .writer(boardEntity.getWriter())
-                .content(boardEntity.getContent())
-                .updateDate(boardEntity.getUpdateDate())
-                .createDate(boardEntity.getCreateDate())
-                .viewCount(boardEntity.getViewCount())
-                .fileName(fileNames)
-                .build();
-        return boardDTO;
+        // 조회수 DB 값과 반영 대기 증감분을 같은 시점의 값으로 읽습니다.
+        return boardCounterBuffer.read(() -> {
+            final BoardDTO cached = boardCache.get(bno);
+            if (cached != null) {
+                // 조회수는 캐시하지 않고 PK로 한 컬럼만 조회합니다.
+                final Long viewCount = boardRepository.findViewCountByBno(bno)
+                        .orElseThrow(() -> {
+                            boardCache.evict(bno);
+                            return entityLoader.boardNotFound(bno);
+                        });
+                cached.setViewCount(viewCount + boardCounterBuffer.pendingCount(BoardCounter.VIEW, bno));
+                return cached;
+            }
+
+            final long generation = boardCache.generation();
+            // 엔티티와 이미지 컬렉션을 따로 조회하지 않고 DTO로 한 번에 조회합니다.
+            final BoardDTO boardDTO = boardRepository.readBoard(bno)
+                    .orElseThrow(() -> entityLoader.boardNotFound(bno));
+            boardCache.put(bno, boardDTO, generation);
+            boardDTO.setViewCount(boardDTO.getViewCount() + boardCounterBuffer.pendingCount(BoardCounter.VIEW, bno));
+            return boardDTO;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsBoard(final Long bno) {
+        log.info("Is Running Exists Board ServiceImpl");
+        // 캐시에 있으면 삭제되지 않은 게시물입니다. (삭제시 캐시에서 제거)
+        return boardCache.get(bno) != null || boardRepository.existsReadableByBno(bno);
     }
 
     @Override
@@ -95,30 +143,29 @@ public class BoardServiceImpl implements BoardService {
     public Long updateBoard(final BoardUpdateDTO boardUpdateDTO) {
         log.info("Is Running Update Board ServiceImpl");
         boardValidator.validationBoardUpdateData(boardUpdateDTO);
-        boardValidator.findBoardNumber(boardUpdateDTO.getBno());
-        
-        final BoardEntity boardEntity = boardRepository.findById(boardUpdateDTO.getBno())
-                .orElse(null);
+        final BoardEntity boardEntity = entityLoader.loadBoard(boardUpdateDTO.getBno());
 
-        boardEntity.updateBoard(boardUpdateDTO.getWriter(), boardUpdateDTO.getContent(), boardUpdateDTO.getTitle());
+        final String oldTitle = boardEntity.getTitle();
+        final String oldContent = boardEntity.getContent();
+        final String oldWriter = boardEntity.getWriter();
+        boardEntity.updateBoard(boardUpdateDTO.getTitle(), boardUpdateDTO.getWriter(), boardUpdateDTO.getContent());
         final BoardEntity updateBoard = boardRepository.save(boardEntity);
         List<String> fileNames = boardUpdateDTO.getFileName();
-        if (boardUpdateDTO.getFileName() != null && !boardUpdateDTO.getFileName().isEmpty()) {
-            boardEntity.clearImage();
-            boardRepository.save(boardEntity);
-            final List<BoardFileEntity> list = fileNames.stream().map(str -> {
-                String uuid = str.substring(0, 36);
-                String fileName = str.substring(37);
-                BoardFileEntity fileEntity = BoardFileEntity.builder()
-                        .uuid(uuid)
-                        .fileName(fileName)
-                        .build();
-                fileEntity.setBoardEntity(boardEntity);
-                return fileEntity;
-            }).collect(Collectors.toList());
-            list.forEach(boardEntity::addImage);
-            boardRepository.save(boardEntity);
+        if (fileNames != null && !fileNames.isEmpty()) {
+            // 전체 삭제 후 재등록하지 않고 uuid로 비교해서 바뀐 이미지만 INSERT/DELETE/UPDATE 합니다.
+            final List<BoardFileEntity> list = fileNames.stream().map(str -> BoardFileEntity.builder()
+                    .uuid(str.substring(0, 36))
+                    .fileName(str.substring(37))
+                    .build())
+                    .collect(Collectors.toList());
+            // 새 이미지는 flush 시점에 cascade로 저장됩니다.
+            boardEntity.changeImages(list);
         }
+        totalCountCache.invalidate(BOARD_COUNT_DOMAIN);
+        boardCache.evict(boardEntity.getBno());
+        boardSearchIndex.update(boardEntity.getBno(), oldTitle, oldContent, oldWriter,
+                boardEntity.getTitle(), boardEntity.getContent(), boardEntity.getWriter());
+        boardVersionRegistry.bump(boardEntity.getBno());
         return updateBoard.getBno();
     }
 
@@ -126,12 +173,18 @@ public class BoardServiceImpl implements BoardService {
     @Transactional
     public Long deleteBoard(final Long bno) {
         log.info("Is Running Delete Board ServiceImpl");
-        boardValidator.findBoardNumber(bno);
-
-        final BoardEntity boardEntity = boardRepository.findById(bno)
-                .orElse(null);
-        boardRepository.deleteById(bno);
-        boardEntity.clearImage();
+        final BoardEntity boardEntity = entityLoader.loadBoard(bno);
+        // 댓글, 좋아요, 이미지를 엔티티로 불러와 한 건씩 지우지 않도록 삭제 표시만 하고 바로 반환합니다.
+        // 연관 데이터와 게시물 행, 업로드 파일은 BoardPurgeWorker가 나누어 삭제합니다.
+        boardEntity.markDeleted();
+        totalCountCache.invalidate(BOARD_COUNT_DOMAIN);
+        // 캐시된 댓글 수로 삭제된 게시물의 댓글 목록을 조회하지 않도록 함께 비웁니다.
+        totalCountCache.invalidate("reply:" + bno);
+        boardCache.evict(bno);
+        boardSearchIndex.remove(boardEntity.getBno(), boardEntity.getTitle(), boardEntity.getContent(),
+                boardEntity.getWriter());
+        hotBoardRanking.remove(bno);
+        boardVersionRegistry.bump(bno);
         return boardEntity.getBno();
     }
 
@@ -139,17 +192,61 @@ public class BoardServiceImpl implements BoardService {
     @Transactional(readOnly = true)
     public PageResponseDTO<BoardListDTO> listBoard(final PageRequestDTO pageRequest) {
         log.info("Is Running List Board ServiceImpl");
-        return boardRepository.listBoard(pageRequest);
+        return boardCounterBuffer.read(() -> {
+            final Long totalCount = totalCountCache.getOrLoad(BOARD_COUNT_DOMAIN, pageRequest,
+                    () -> boardRepository.countBoard(pageRequest));
+            final PageResponseDTO<BoardListDTO> pageResponse = boardRepository.listBoard(pageRequest, totalCount);
+            applyPendingCounts(pageResponse.getList());
+            return pageResponse;
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public CursorResponseDTO<BoardListDTO> listBoardCursor(final PageRequestDTO pageRequest) {
+        log.info("Is Running List Board Cursor ServiceImpl");
+        return boardCounterBuffer.read(() -> {
+            final CursorResponseDTO<BoardListDTO> cursorResponse = boardRepository.listBoardCursor(pageRequest);
+            applyPendingCounts(cursorResponse.getList());
+            return cursorResponse;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<BoardListDTO> sliceBoard(final PageRequestDTO pageRequest) {
+        log.info("Is Running Slice Board ServiceImpl");
+        return boardCounterBuffer.read(() -> {
+            final SliceResponseDTO<BoardListDTO> sliceResponse = boardRepository.sliceBoard(pageRequest);
+            applyPendingCounts(sliceResponse.getList());
+            return sliceResponse;
+        });
+    }
+
+    // 목록의 조회수, 좋아요 수, 댓글 수에 아직 DB에 반영되지 않은 증감분을 더합니다. (목록 조회와 함께 read 안에서 호출)
+    private void applyPendingCounts(final List<BoardListDTO> dtoList) {
+        for (BoardListDTO boardListDTO : dtoList) {
+            final Long bno = boardListDTO.getBno();
+            boardListDTO.setViewCount(boardListDTO.getViewCount()
+                    + boardCounterBuffer.pendingCount(BoardCounter.VIEW, bno));
+            boardListDTO.setLikeCount(Math.max(0L, boardListDTO.getLikeCount()
+                    + boardCounterBuffer.pendingCount(BoardCounter.LIKE, bno)));
+            boardListDTO.setReplyCount(Math.max(0L, boardListDTO.getReplyCount()
+                    + boardCounterBuffer.pendingCount(BoardCounter.REPLY, bno)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Integer incrementViewCount(final Long bno) {
         log.info("Is Running Increment View Count Board ServiceImpl");
-        boardValidator.findBoardNumber(bno); 
-
-        final BoardEntity boardEntity = boardRepository.findById(bno)
-                .orElse(null);
-        return boardRepository.incrementViewCount(bno);
+        // 삭제된 게시물(isDeleted = 1)의 조회수는 올리지 않습니다.
+        if (!boardRepository.existsReadableByBno(bno)) {
+            throw entityLoader.boardNotFound(bno);
+        }
+        // 조회수는 메모리에 누적했다가 주기적으로 batch UPDATE 합니다.
+        boardCounterBuffer.increment(BoardCounter.VIEW, bno);
+        hotBoardRanking.recordView(bno);
+        return 1;
     }
-}
\ No newline at end of file
+}
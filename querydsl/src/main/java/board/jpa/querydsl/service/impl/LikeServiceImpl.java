@@ -1,25 +1,41 @@
 package board.jpa.querydsl.service.impl;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import board.jpa.querydsl.domain.board.BoardEntity;
 import board.jpa.querydsl.domain.like.LikeEntity;
 import board.jpa.querydsl.domain.member.MemberEntity;
+import board.jpa.querydsl.dto.like.LikeCountDTO;
+import board.jpa.querydsl.dto.like.LikeDailyDTO;
+import board.jpa.querydsl.dto.like.LikeStateDTO;
 import board.jpa.querydsl.dto.like.LikeToggleDTO;
-import board.jpa.querydsl.exception.BoardNumberNotFoundException;
 import board.jpa.querydsl.exception.DataNotFoundException;
-import board.jpa.querydsl.exception.LikeToggleNotFoundException;
-import board.jpa.querydsl.exception.MemberNotFoundException;
-import board.jpa.querydsl.exception.errorcode.BoardErrorMessage;
 import board.jpa.querydsl.exception.errorcode.LikeErroreMessage;
-import board.jpa.querydsl.exception.errorcode.MemberErrorMessage;
 import board.jpa.querydsl.repository.BoardRepository;
 import board.jpa.querydsl.repository.LikeRepository;
-import board.jpa.querydsl.repository.MemberRepository;
 import board.jpa.querydsl.service.LikeService;
+import board.jpa.querydsl.util.cache.LikeCountCache;
+import board.jpa.querydsl.util.cache.MemberLikeCache;
+import board.jpa.querydsl.util.counter.BoardCounter;
+import board.jpa.querydsl.util.counter.BoardCounterBuffer;
+import board.jpa.querydsl.util.counter.LikeToggledEvent;
+import board.jpa.querydsl.util.loader.EntityLoader;
+import board.jpa.querydsl.util.page.PageRequestDTO;
+import board.jpa.querydsl.util.ranking.HotBoardRanking;
+import board.jpa.querydsl.util.version.BoardVersionRegistry;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -28,43 +44,112 @@ public class LikeServiceImpl implements LikeService {
 
     private final LikeRepository likeRepository;
     private final BoardRepository boardRepository;
-    private final MemberRepository memberRepository;
+    private final EntityLoader entityLoader;
+    private final HotBoardRanking hotBoardRanking;
+    private final BoardVersionRegistry boardVersionRegistry;
+    private final BoardCounterBuffer boardCounterBuffer;
+    private final MemberLikeCache memberLikeCache;
+    private final LikeCountCache likeCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int TOP_LIKED_DEFAULT_DAYS = 7;
+    private static final int DAILY_LIKES_DEFAULT_DAYS = 30;
 
     public LikeServiceImpl(final LikeRepository likeRepository, final BoardRepository boardRepository,
-            final MemberRepository memberRepository) {
+            final EntityLoader entityLoader, final HotBoardRanking hotBoardRanking,
+            final BoardVersionRegistry boardVersionRegistry, final BoardCounterBuffer boardCounterBuffer,
+            final MemberLikeCache memberLikeCache, final LikeCountCache likeCountCache,
+            final ApplicationEventPublisher eventPublisher, final PlatformTransactionManager transactionManager) {
         log.info("Inject LikeRepository");
         this.likeRepository = likeRepository;
         this.boardRepository = boardRepository;
-        this.memberRepository = memberRepository;
+        this.entityLoader = entityLoader;
+        this.hotBoardRanking = hotBoardRanking;
+        this.boardVersionRegistry = boardVersionRegistry;
+        this.boardCounterBuffer = boardCounterBuffer;
+        this.memberLikeCache = memberLikeCache;
+        this.likeCountCache = likeCountCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * 좋아요를 추가하거나 취소하고, 변경된 좋아요 여부와 좋아요 수를 반환합니다.
+     * 게시물/회원 확인과 좋아요 상태, 좋아요 수 조회 1회, INSERT 또는 DELETE 1회로 처리합니다.
+     * 같은 회원의 동시 요청은 (bno, email) 유니크 제약 조건이 중복 INSERT를 막고, 막힌 요청은 트랜잭션을 롤백한 뒤
+     * 이미 좋아요한 상태로 응답합니다. 동시 취소는 삭제된 행이 있는 요청만 좋아요 수에 반영합니다.
+     * <p>
+     * 반환하는 좋아요 수는 (DB 값 + 반영 대기 중인 증감분 ± 이번 토글)로 계산한 근사값입니다.
+     * 게시물의 좋아요 수는 write-behind로 반영되어 토글 트랜잭션 안에서 다시 읽어도 같은 값이므로,
+     * 같은 트랜잭션의 정확한 값은 COUNT(*) 없이는 얻을 수 없습니다.
+     * 다른 회원의 토글이 커밋 직후 아직 증감분으로 누적되지 않았거나 DB 값이 보정 전이면 실제 개수와 다를 수 있습니다.
+     * (정확한 값은 countLike)
+     */
     @Override
-    @Transactional
-    public Long toggleLike(final Long bno, final String email) {
+    public LikeToggleDTO toggleLike(final Long bno, final String email) {
         log.info("Is Running Toggle Like ServiceImpl");
         validationCreateData(bno, email);
-        
-        final BoardEntity boardEntity = getBoardEntityById(bno);
-        final MemberEntity memberEntity = getMemberEntityByEmail(email);
+        try {
+            return transactionTemplate.execute(status -> toggle(bno, email));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 회원의 좋아요 요청이 동시에 들어와 다른 요청이 먼저 INSERT 한 경우 (변경 없음)
+            log.info("Concurrent Like Request Ignored (bno: " + bno + ", email: " + email + ")");
+            return boardCounterBuffer.read(() -> {
+                final LikeStateDTO likeState = likeRepository.findLikeState(bno, email)
+                        .orElseThrow(() -> entityLoader.boardNotFound(bno));
+                memberLikeCache.update(email, bno, true);
+                return toggleResult(bno, email, true,
+                        likeState.getLikeCount() + boardCounterBuffer.pendingCount(BoardCounter.LIKE, bno));
+            });
+        }
+    }
 
-        LikeToggleDTO likeToggleDTO = LikeToggleDTO.builder()
-                .bno(bno)
-                .email(email)
-                .build();
+    private LikeToggleDTO toggle(final Long bno, final String email) {
+        final LikeStateDTO likeState = likeRepository.findLikeState(bno, email).orElse(null);
+        if (likeState == null) {
+            // 게시물과 회원 중 어느 쪽이 없는지 확인해서 알맞은 예외를 던집니다.
+            entityLoader.loadBoard(bno);
+            entityLoader.loadMember(email);
+            throw entityLoader.boardNotFound(bno);
+        }
 
-        LikeEntity likeEntity = likeRepository
-                .findByEmailAndBno(likeToggleDTO.getBno(), likeToggleDTO.getEmail())
-                .orElse(null);
-        if (likeEntity == null) {
-            likeEntity = LikeEntity.createLike(likeToggleDTO.getEmail(), likeToggleDTO.getBno(), LocalDate.now());
-            likeRepository.save(likeEntity);
-            boardEntity.incrementLikeCount();
+        final boolean liked = !likeState.isLiked();
+        final LocalDate likeDate;
+        boolean changed = true;
+        if (liked) {
+            likeDate = LocalDate.now();
+            // 중복 INSERT를 아래 캐시, 랭킹 반영 전에 확인하도록 바로 실행합니다.
+            likeRepository.saveAndFlush(LikeEntity.createLike(email, bno, likeDate));
         } else {
-            likeRepository.deleteByEmailAndBno(likeToggleDTO.getBno(), likeToggleDTO.getEmail());
-            boardEntity.decrementLikeCount();
+            // 취소는 좋아요한 날짜의 일별 집계에서 뺍니다. (날짜가 없는 기존 좋아요는 집계에서 빼지 않음)
+            likeDate = likeState.getLikeDate();
+            changed = likeRepository.deleteByEmailAndBno(bno, email) > 0;
+        }
+        if (changed) {
+            // 좋아요 수는 커밋 이후 이벤트로 모아서 반영합니다. 그 전까지는 보정 대상에서 제외합니다.
+            // 트랜잭션 이벤트 리스너가 먼저 실행되도록 이벤트를 발행한 뒤에 표시합니다.
+            eventPublisher.publishEvent(new LikeToggledEvent(bno, email, liked, likeDate));
+            boardCounterBuffer.markUnsettled(BoardCounter.LIKE, bno);
+            hotBoardRanking.recordLike(bno, liked);
+            likeCountCache.evict(bno);
+            boardVersionRegistry.bump(bno);
         }
-        boardRepository.save(boardEntity);
-        return likeToggleDTO.getBno();
+        memberLikeCache.update(email, bno, liked);
+
+        // DB에 반영된 좋아요 수 + 반영 대기 중인 증감분 + 이번 토글
+        final long likeCount = likeState.getLikeCount() + boardCounterBuffer.pendingCount(BoardCounter.LIKE, bno)
+                + (changed ? (liked ? 1L : -1L) : 0L);
+        return toggleResult(bno, email, liked, likeCount);
+    }
+
+    private LikeToggleDTO toggleResult(final Long bno, final String email, final boolean liked, final long likeCount) {
+        return LikeToggleDTO.builder()
+                .bno(bno)
+                .email(email)
+                .liked(liked)
+                .likeCount(Math.max(likeCount, 0L))
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -79,8 +164,7 @@ public class LikeServiceImpl implements LikeService {
     @Transactional(readOnly = true)
     public Integer countLike(final Long bno) {
         log.info("Is Running CountLike serviceImpl");
-        final BoardEntity boardEntity = getBoardEntityById(bno);
-        final LikeEntity likeEntity = getLikeEntityByBno(bno);
+        entityLoader.loadBoard(bno);
         Integer likeCount = likeRepository.countByEmailAndBno(bno);
         return likeCount;
     }
@@ -89,8 +173,8 @@ public class LikeServiceImpl implements LikeService {
     @Transactional
     public LikeToggleDTO checkToggleMember(final Long bno, final String email) {
         log.info("Is Running Check Toggle Member ServiceImpl");
-        final BoardEntity boardEntity = getBoardEntityById(bno);
-        final MemberEntity memberEntity = getMemberEntityByEmail(email);
+        final BoardEntity boardEntity = entityLoader.loadBoard(bno);
+        final MemberEntity memberEntity = entityLoader.loadMember(email);
 
         LikeToggleDTO likeToggleDTO = LikeToggleDTO
                 .builder()
@@ -108,29 +192,113 @@ public class LikeServiceImpl implements LikeService {
         return likeToggleDTO;
     }
 
+    /**
+     * 게시물 번호 목록 중 회원이 좋아요한 게시물 번호를 반환합니다.
+     * 회원의 좋아요 목록은 처음 한 번만 DB에서 읽고, 이후에는 캐시된 비트맵으로 확인합니다.
+     *
+     * @param bnos  확인할 게시물 번호.
+     * @param email 회원 이메일.
+     * @return 좋아요한 게시물 번호 (입력 순서 유지).
+     */
+    @Override
     @Transactional(readOnly = true)
-    private BoardEntity getBoardEntityById(final Long bno) {
-        return boardRepository.findById(bno)
-                .orElseThrow(() -> new BoardNumberNotFoundException(
-                        String.format(
-                                BoardErrorMessage.BOARD_NUMBER_NOT_FOUND
-                                        .getFormattedMessage(String.valueOf(bno)))));
+    public List<Long> checkLikedBoards(final List<Long> bnos, final String email) {
+        log.info("Is Running Check Liked Boards ServiceImpl");
+        if (bnos == null || email == null) {
+            throw new DataNotFoundException(
+                    LikeErroreMessage.DATA_NOT_FOUND.getMessage());
+        }
+        final List<Long> cached = memberLikeCache.filterLiked(email, bnos);
+        if (cached != null) {
+            return cached;
+        }
+        final long generation = memberLikeCache.generation();
+        final List<Long> likedBnos = likeRepository.findBnoByEmail(email);
+        memberLikeCache.put(email, likedBnos, generation);
+        final Set<Long> liked = new HashSet<>(likedBnos);
+        return bnos.stream().filter(liked::contains).toList();
     }
 
+    /**
+     * 여러 게시물의 좋아요 수를 한 번에 반환합니다.
+     * 캐시에 없는 게시물만 게시물 테이블의 좋아요 수를 IN 조건 한 번으로 조회합니다. (COUNT 없음)
+     *
+     * @param bnos 게시물 번호.
+     * @return 게시물 번호별 좋아요 수 (입력 순서 유지, 없는 게시물 제외).
+     */
+    @Override
     @Transactional(readOnly = true)
-    private MemberEntity getMemberEntityByEmail(final String email) {
-        return memberRepository.findById(email)
-                .orElseThrow(() -> new MemberNotFoundException(
-                        String.format(
-                                MemberErrorMessage.MEMBER_NOT_FOUND
-                                        .getFormattedMessage(email))));
+    public Map<Long, Long> countLikes(final List<Long> bnos) {
+        log.info("Is Running Count Likes ServiceImpl");
+        if (bnos == null) {
+            throw new DataNotFoundException(
+                    LikeErroreMessage.DATA_NOT_FOUND.getMessage());
+        }
+        final Map<Long, Long> likeCounts = new LinkedHashMap<>();
+        final List<Long> missed = new ArrayList<>();
+        for (Long bno : bnos) {
+            final Long cached = likeCountCache.get(bno);
+            if (cached != null) {
+                likeCounts.put(bno, cached);
+            } else {
+                likeCounts.put(bno, null);
+                missed.add(bno);
+            }
+        }
+        if (!missed.isEmpty()) {
+            final long generation = likeCountCache.generation();
+            // 좋아요 수 DB 값과 반영 대기 증감분을 같은 시점의 값으로 읽습니다.
+            boardCounterBuffer.read(() -> {
+                for (LikeCountDTO likeCountDTO : likeRepository.findLikeCountByBnoIn(missed)) {
+                    // DB에 반영된 좋아요 수 + 반영 대기 중인 증감분
+                    final long likeCount = Math.max(0L, likeCountDTO.getLikeCount()
+                            + boardCounterBuffer.pendingCount(BoardCounter.LIKE, likeCountDTO.getBno()));
+                    likeCounts.put(likeCountDTO.getBno(), likeCount);
+                    likeCountCache.put(likeCountDTO.getBno(), likeCount, generation);
+                }
+                return null;
+            });
+        }
+        likeCounts.values().removeIf(likeCount -> likeCount == null);
+        return likeCounts;
     }
 
+    /**
+     * 기간 동안 좋아요를 가장 많이 받은 게시물을 조회합니다. 기간이 없으면 오늘까지 최근 7일입니다.
+     *
+     * @param pageRequestDTO startDate, endDate, size.
+     * @return 좋아요 수 내림차순 게시물 번호와 기간 내 좋아요 수.
+     */
+    @Override
     @Transactional(readOnly = true)
-    private LikeEntity getLikeEntityByBno(final Long bno) {
-        return likeRepository.findByLikeBno(bno)
-                .orElseThrow(() -> new LikeToggleNotFoundException(
-                        String.format(BoardErrorMessage.BOARD_NUMBER_NOT_FOUND
-                                .getFormattedMessage(String.valueOf(bno)))));
+    public List<LikeCountDTO> topLikedBoards(final PageRequestDTO pageRequestDTO) {
+        log.info("Is Running Top Liked Boards ServiceImpl");
+        applyDefaultPeriod(pageRequestDTO, TOP_LIKED_DEFAULT_DAYS);
+        return likeRepository.topLikedBoards(pageRequestDTO);
+    }
+
+    /**
+     * 게시물의 기간 내 일별 좋아요 수를 조회합니다. 기간이 없으면 오늘까지 최근 30일입니다.
+     *
+     * @param pageRequestDTO startDate, endDate.
+     * @param bno            게시글 번호.
+     * @return 날짜 오름차순 일별 좋아요 수. (좋아요가 없는 날 제외)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<LikeDailyDTO> dailyLikes(final PageRequestDTO pageRequestDTO, final Long bno) {
+        log.info("Is Running Daily Likes ServiceImpl");
+        entityLoader.loadBoard(bno);
+        applyDefaultPeriod(pageRequestDTO, DAILY_LIKES_DEFAULT_DAYS);
+        return likeRepository.dailyLikes(pageRequestDTO, bno);
+    }
+
+    private void applyDefaultPeriod(final PageRequestDTO pageRequestDTO, final int days) {
+        if (pageRequestDTO.getEndDate() == null) {
+            pageRequestDTO.setEndDate(LocalDate.now());
+        }
+        if (pageRequestDTO.getStartDate() == null) {
+            pageRequestDTO.setStartDate(pageRequestDTO.getEndDate().minusDays(days - 1));
+        }
     }
-}
\ No newline at end of file
+}
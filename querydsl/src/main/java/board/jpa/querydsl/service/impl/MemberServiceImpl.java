@@ -18,8 +18,11 @@ import board.jpa.querydsl.dto.member.MemberListDTO;
 import board.jpa.querydsl.dto.member.MemberUpdateDTO;
 import board.jpa.querydsl.repository.MemberRepository;
 import board.jpa.querydsl.service.MemberService;
+import board.jpa.querydsl.util.loader.EntityLoader;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
+import board.jpa.querydsl.util.page.TotalCountCache;
 import board.jpa.querydsl.util.validator.MemberValidator;
 import lombok.extern.log4j.Log4j2;
 
@@ -27,17 +30,26 @@ import lombok.extern.log4j.Log4j2;
 @Service
 public class MemberServiceImpl implements MemberService {
 
+    private static final String MEMBER_COUNT_DOMAIN = "member";
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
 
     private final MemberValidator memberValidator;
 
+    private final TotalCountCache totalCountCache;
+
+    private final EntityLoader entityLoader;
+
     @Autowired
-    public MemberServiceImpl(final MemberRepository memberRepository, final PasswordEncoder passwordEncoder, final MemberValidator memberValidator) {
+    public MemberServiceImpl(final MemberRepository memberRepository, final PasswordEncoder passwordEncoder, final MemberValidator memberValidator,
+            final TotalCountCache totalCountCache, final EntityLoader entityLoader) {
         log.info("Inject MemberRepository");
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.memberValidator = memberValidator;
+        this.totalCountCache = totalCountCache;
+        this.entityLoader = entityLoader;
     }
 
     @Override
@@ -62,16 +74,14 @@ public class MemberServiceImpl implements MemberService {
         memberRoleEntity.setMemberEntity(memberEntity);
         memberEntity.addMemberRole(memberRoleEntity);
         memberRepository.save(memberEntity);
+        totalCountCache.invalidate(MEMBER_COUNT_DOMAIN);
     }
 
     @Override
     @Transactional(readOnly = true)
     public MemberConvertDTO readMember(final String email) {
         log.info("Is Running Read Member ServiceImpl");
-        memberValidator.findMemberEmail(email);
-
-        final MemberEntity memberEntity = memberRepository.findById(email)
-                .orElse(null);
+        final MemberEntity memberEntity = entityLoader.loadMember(email);
         final List<String> roleNames = memberEntity.getMemberRoleEntities()
                 .stream()
                 .map(MemberRoleEntity::getRoleName)
@@ -95,34 +105,39 @@ public class MemberServiceImpl implements MemberService {
     public void updateMember(final MemberUpdateDTO memberUpdateDTO) {
         log.info("IS Running Update Member ServiceImpl");
         memberValidator.validationMemberUpdateData(memberUpdateDTO);
-        memberValidator.findMemberEmail(memberUpdateDTO.getEmail());
-
-        final MemberEntity memberEntity = memberRepository.findById(memberUpdateDTO.getEmail())
-                .orElse(null);
+        final MemberEntity memberEntity = entityLoader.loadMember(memberUpdateDTO.getEmail());
         memberEntity.updateMember(
                 memberUpdateDTO.getEmail(),
                 passwordEncoder.encode(memberUpdateDTO.getMemberPw()),
                 memberUpdateDTO.getMemberName(),
                 memberUpdateDTO.getMemberPhone());
         memberRepository.save(memberEntity);
+        totalCountCache.invalidate(MEMBER_COUNT_DOMAIN);
     }
 
     @Override
     @Transactional
     public void deleteMember(final String email) {
         log.info("Is Running Delete Member ServiceImpl");
-        memberValidator.findMemberEmail(email);
-
-        final MemberEntity memberEntity = memberRepository.findById(email)
-                .orElse(null);
+        final MemberEntity memberEntity = entityLoader.loadMember(email);
         memberEntity.deleteMemberRole();
-        memberRepository.deleteById(email);
+        memberRepository.delete(memberEntity);
+        totalCountCache.invalidate(MEMBER_COUNT_DOMAIN);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<MemberListDTO> listMember(final PageRequestDTO pageRequestDTO) {
         log.info("Is Running List Member ServiceImpl");
-        return memberRepository.listMember(pageRequestDTO);
+        final Long totalCount = totalCountCache.getOrLoad(MEMBER_COUNT_DOMAIN, pageRequestDTO,
+                () -> memberRepository.countMember(pageRequestDTO));
+        return memberRepository.listMember(pageRequestDTO, totalCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<MemberListDTO> sliceMember(final PageRequestDTO pageRequestDTO) {
+        log.info("Is Running Slice Member ServiceImpl");
+        return memberRepository.sliceMember(pageRequestDTO);
     }
 }
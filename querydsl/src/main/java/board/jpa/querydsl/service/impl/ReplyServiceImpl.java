@@ -1,24 +1,33 @@
 package board.jpa.querydsl.service.impl;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import board.jpa.querydsl.domain.board.BoardEntity;
 import board.jpa.querydsl.domain.reply.ReplyEntity;
+import board.jpa.querydsl.domain.reply.ReplyThreadKey;
 import board.jpa.querydsl.dto.reply.ReplyCreateDTO;
 import board.jpa.querydsl.dto.reply.ReplyDTO;
 import board.jpa.querydsl.dto.reply.ReplyListDTO;
 import board.jpa.querydsl.dto.reply.ReplyUpdateDTO;
-import board.jpa.querydsl.exception.BoardNumberNotFoundException;
 import board.jpa.querydsl.exception.DataNotFoundException;
 import board.jpa.querydsl.exception.ReplyNumberNotFoundException;
 import board.jpa.querydsl.exception.errorcode.ReplyErrorMessage;
 import board.jpa.querydsl.repository.BoardRepository;
 import board.jpa.querydsl.repository.ReplyRepository;
 import board.jpa.querydsl.service.ReplyService;
+import board.jpa.querydsl.util.counter.BoardCounter;
+import board.jpa.querydsl.util.counter.BoardCounterBuffer;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
+import board.jpa.querydsl.util.loader.EntityLoader;
+import board.jpa.querydsl.util.page.TotalCountCache;
+import board.jpa.querydsl.util.ranking.HotBoardRanking;
+import board.jpa.querydsl.util.version.BoardVersionRegistry;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -27,20 +36,33 @@ public class ReplyServiceImpl implements ReplyService {
 
     private final ReplyRepository replyRepository;
     private final BoardRepository boardRepository;
+    private final TotalCountCache totalCountCache;
+    private final EntityLoader entityLoader;
+    private final HotBoardRanking hotBoardRanking;
+    private final BoardVersionRegistry boardVersionRegistry;
+    private final BoardCounterBuffer boardCounterBuffer;
 
     @Autowired
-    public ReplyServiceImpl(final ReplyRepository replyRepository, final BoardRepository boardRepository) {
+    public ReplyServiceImpl(final ReplyRepository replyRepository, final BoardRepository boardRepository,
+            final TotalCountCache totalCountCache, final EntityLoader entityLoader,
+            final HotBoardRanking hotBoardRanking, final BoardVersionRegistry boardVersionRegistry,
+            final BoardCounterBuffer boardCounterBuffer) {
         log.info("Inject ReplyRepository, BoardRepository");
         this.replyRepository = replyRepository;
         this.boardRepository = boardRepository;
+        this.totalCountCache = totalCountCache;
+        this.entityLoader = entityLoader;
+        this.hotBoardRanking = hotBoardRanking;
+        this.boardVersionRegistry = boardVersionRegistry;
+        this.boardCounterBuffer = boardCounterBuffer;
     }
 
     @Override
     @Transactional
     public Long createReply(final ReplyCreateDTO replyCreateDTO) {
-        validationBoardNumber(replyCreateDTO.getBno());
         createReplyValidationData(replyCreateDTO);
-        if (replyCreateDTO.getGno() == null || replyCreateDTO.getGno() == 0L) {
+        entityLoader.loadBoard(replyCreateDTO.getBno());
+        if ((replyCreateDTO.getGno() == null || replyCreateDTO.getGno() == 0L) && replyCreateDTO.getParentRno() == null) {
             final ReplyEntity replyEntity = ReplyEntity.createReply(
                     replyCreateDTO.getBno(),
                     replyCreateDTO.getReply(),
@@ -49,31 +71,63 @@ public class ReplyServiceImpl implements ReplyService {
                     replyCreateDTO.getCreateDate(),
                     replyCreateDTO.getUpdateDate(),
                     replyCreateDTO.getIsDeleted());
-            final BoardEntity boardEntity = boardRepository.findByBno(replyCreateDTO.getBno())
-                    .orElse(null);
-            boardEntity.incremnetReplyCount();
-            boardRepository.save(boardEntity);
+            // 그룹 번호와 스레드 정렬 키는 ID 할당 직후 INSERT 값에 채워집니다. (ReplyIdentityInterceptor)
             replyRepository.save(replyEntity);
-            replyRepository.updateGno(replyEntity.getRno());
+            boardCounterBuffer.increment(BoardCounter.REPLY, replyCreateDTO.getBno());
+            totalCountCache.invalidate(replyCountDomain(replyCreateDTO.getBno()));
+            hotBoardRanking.recordReply(replyCreateDTO.getBno());
+            boardVersionRegistry.bump(replyCreateDTO.getBno());
             return replyEntity.getRno();
         } else {
+            final ReplyEntity parentEntity = loadParentReply(replyCreateDTO);
+            final Long gno = parentEntity == null ? replyCreateDTO.getGno() : groupOf(parentEntity);
             final ReplyEntity replyEntity = ReplyEntity.createReply(
                     replyCreateDTO.getBno(),
                     replyCreateDTO.getReply(),
                     replyCreateDTO.getReplyer(),
-                    replyCreateDTO.getGno(),
+                    gno,
                     replyCreateDTO.getCreateDate(),
                     replyCreateDTO.getUpdateDate(),
                     replyCreateDTO.getIsDeleted());
-            final BoardEntity boardEntity = boardRepository.findByBno(replyCreateDTO.getBno())
-                    .orElse(null);
-            boardEntity.incremnetReplyCount();
-            boardRepository.save(boardEntity);
+            replyEntity.replyTo(parentThreadKey(parentEntity, gno));
             replyRepository.save(replyEntity);
+            boardCounterBuffer.increment(BoardCounter.REPLY, replyCreateDTO.getBno());
+            totalCountCache.invalidate(replyCountDomain(replyCreateDTO.getBno()));
+            hotBoardRanking.recordReply(replyCreateDTO.getBno());
+            boardVersionRegistry.bump(replyCreateDTO.getBno());
             return replyEntity.getRno();
         }
     }
 
+    // 그룹의 최상위 댓글에 대한 답글은 그룹 번호로 부모 키를 만들 수 있으므로 부모 댓글을 조회하지 않습니다. (null 반환)
+    private ReplyEntity loadParentReply(final ReplyCreateDTO replyCreateDTO) {
+        final Long parentRno = replyCreateDTO.getParentRno();
+        if (parentRno == null || parentRno.equals(replyCreateDTO.getGno())) {
+            return null;
+        }
+        final ReplyEntity parentEntity = entityLoader.loadReply(parentRno);
+        if (!parentEntity.getBno().equals(replyCreateDTO.getBno())) {
+            throw new ReplyNumberNotFoundException(ReplyErrorMessage.REPLY_NUMBER_NOT_FOUND.getFormattedMessage(parentRno));
+        }
+        return parentEntity;
+    }
+
+    // 그룹 번호가 없는 (gno 도입 전) 최상위 댓글은 자신의 번호가 그룹 번호입니다.
+    private Long groupOf(final ReplyEntity replyEntity) {
+        final Long gno = replyEntity.getGno();
+        return gno == null || gno == 0L ? replyEntity.getRno() : gno;
+    }
+
+    private String parentThreadKey(final ReplyEntity parentEntity, final Long gno) {
+        if (parentEntity == null) {
+            return ReplyThreadKey.root(gno);
+        }
+        if (parentEntity.getThreadKey() != null) {
+            return parentEntity.getThreadKey();
+        }
+        return ReplyThreadKey.of(parentEntity.getGno(), parentEntity.getRno());
+    }
+
     @Transactional(readOnly = true)
     private void createReplyValidationData(final ReplyCreateDTO replyCreateDTO) {
         if (replyCreateDTO.getBno() == null ||
@@ -93,26 +147,10 @@ public class ReplyServiceImpl implements ReplyService {
         }
     }
 
-    @Transactional(readOnly = true)
-    private void validationBoardNumber(final Long bno) {
-        final BoardEntity boardEntity = boardRepository.findByBno(bno)
-                .orElseThrow(() -> new BoardNumberNotFoundException(
-                        String.format(ReplyErrorMessage.BOARD_NUMBER_NOT_FOUND.getFormattedMessage(bno))));
-    }
-
-    @Transactional(readOnly = true)
-    private void validationReplyNumber(final Long rno) {
-        final ReplyEntity replyEntity = replyRepository.findById(rno)
-                .orElseThrow(() -> new ReplyNumberNotFoundException(
-                        String.format(ReplyErrorMessage.REPLY_NUMBER_NOT_FOUND.getFormattedMessage(rno))));
-    }
-
     @Override
     @Transactional
     public ReplyDTO readReply(final Long rno) {
-        validationReplyNumber(rno);
-        final ReplyEntity replyEntity = replyRepository.findById(rno)
-                .orElse(null);
+        final ReplyEntity replyEntity = entityLoader.loadReply(rno);
         final ReplyDTO replyDTO = ReplyDTO
                 .builder()
                 .bno(replyEntity.getBno())
@@ -130,40 +168,71 @@ public class ReplyServiceImpl implements ReplyService {
     @Override
     @Transactional
     public Long deleteReply(Long rno) {
-        validationReplyNumber(rno);
-        final ReplyEntity replyEntity = replyRepository.findById(rno)
-                .orElse(null);
-        final BoardEntity boardEntity = boardRepository.findByBno(replyEntity.getBno())
-                .orElse(null);
-        validationBoardNumber(boardEntity.getBno());
+        final ReplyEntity replyEntity = entityLoader.loadReply(rno);
+        entityLoader.loadBoard(replyEntity.getBno());
         replyEntity.deleteReply();
         replyRepository.save(replyEntity);
-        boardEntity.decremnetReplyCount();
-        boardRepository.save(boardEntity);
+        boardCounterBuffer.add(BoardCounter.REPLY, replyEntity.getBno(), -1L);
+        totalCountCache.invalidate(replyCountDomain(replyEntity.getBno()));
+        boardVersionRegistry.bump(replyEntity.getBno());
         return replyEntity.getRno();
     }
 
     @Override
     @Transactional
     public PageResponseDTO<ReplyListDTO> listReply(PageRequestDTO pageRequestDTO, Long bno) {
-        validationBoardNumber(bno);
-        return replyRepository.listReply(pageRequestDTO, bno);
+        // 게시물 존재 확인은 댓글 수 조회에 포함합니다. 삭제된 댓글도 목록에 표시되므로
+        // 게시물의 replyCount(삭제되지 않은 댓글 수) 대신 목록 조건과 같은 COUNT를 사용합니다.
+        final AtomicBoolean boardChecked = new AtomicBoolean();
+        final Long totalCount = totalCountCache.getOrLoad(replyCountDomain(bno), pageRequestDTO, () -> {
+            boardChecked.set(true);
+            final Long count = replyRepository.countReplyOfBoard(pageRequestDTO, bno);
+            if (count == null) {
+                throw entityLoader.boardNotFound(bno);
+            }
+            return count;
+        });
+        final PageResponseDTO<ReplyListDTO> pageResponse = replyRepository.listReply(pageRequestDTO, bno, totalCount);
+        // 캐시된 댓글 수를 사용했고 목록이 비어 있으면 게시물이 없는 경우와 구분하기 위해 한 번 더 확인합니다.
+        if (!boardChecked.get() && pageResponse.getList().isEmpty()) {
+            entityLoader.loadBoard(bno);
+        }
+        return pageResponse;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<ReplyListDTO> sliceReply(final PageRequestDTO pageRequestDTO, final Long bno) {
+        entityLoader.loadBoard(bno);
+        return replyRepository.sliceReply(pageRequestDTO, bno);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponseDTO<ReplyListDTO> listReplyCursor(final PageRequestDTO pageRequestDTO, final Long bno) {
+        entityLoader.loadBoard(bno);
+        return replyRepository.listReplyCursor(pageRequestDTO, bno);
+    }
+
+    private String replyCountDomain(final Long bno) {
+        return "reply:" + bno;
     }
 
     @Override
     @Transactional
     public Long updateReply(final ReplyUpdateDTO replyUpdateDTO) {
-        validationReplyNumber(replyUpdateDTO.getRno());
-        validationBoardNumber(replyUpdateDTO.getBno());
-        final ReplyEntity replyEntity = replyRepository.findById(replyUpdateDTO.getRno())
-                .orElse(null);
-        replyEntity.updateReply(replyUpdateDTO.getBno(),
-                replyUpdateDTO.getRno(),
-                replyUpdateDTO.getReply(),
+        entityLoader.loadBoard(replyUpdateDTO.getBno());
+        final ReplyEntity replyEntity = entityLoader.loadReply(replyUpdateDTO.getRno());
+        // 다른 게시물의 댓글은 수정하지 않습니다. (게시물, 그룹 번호는 스레드 정렬 키와 함께 바뀌지 않습니다)
+        if (!replyEntity.getBno().equals(replyUpdateDTO.getBno())) {
+            throw new ReplyNumberNotFoundException(
+                    ReplyErrorMessage.REPLY_NUMBER_NOT_FOUND.getFormattedMessage(replyUpdateDTO.getRno()));
+        }
+        replyEntity.updateReply(replyUpdateDTO.getReply(),
                 replyUpdateDTO.getReplyer(),
-                replyUpdateDTO.getGno(),
-                replyUpdateDTO.getUpdateDate(),
-                replyUpdateDTO.getGno());
+                replyUpdateDTO.getUpdateDate());
+        totalCountCache.invalidate(replyCountDomain(replyEntity.getBno()));
+        boardVersionRegistry.bump(replyEntity.getBno());
         return replyEntity.getRno();
     }
 }
\ No newline at end of file
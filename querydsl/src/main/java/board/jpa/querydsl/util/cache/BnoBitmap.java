@@ -0,0 +1,216 @@
+package board.jpa.querydsl.util.cache;
+
+import java.util.Arrays;
+
+/**
+ * 게시물 번호 집합을 압축해서 보관하는 비트맵입니다. (Roaring 방식)
+ * 번호의 상위 비트로 2^16 단위 구간을 나누고, 구간마다 원소가 적으면 정렬된 하위 16비트 배열,
+ * 많으면 65536비트 비트셋으로 보관합니다. 동기화는 호출하는 쪽에서 합니다.
+ */
+class BnoBitmap {
+
+    // 배열 컨테이너(원소당 2바이트)가 비트셋(8KB)보다 커지는 기준
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITSET_WORDS = (1 << 16) / 64;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int size;
+    private long cardinality;
+
+    static BnoBitmap of(final Iterable<Long> bnos) {
+        final BnoBitmap bitmap = new BnoBitmap();
+        for (Long bno : bnos) {
+            bitmap.add(bno);
+        }
+        return bitmap;
+    }
+
+    boolean contains(final long bno) {
+        final int index = Arrays.binarySearch(keys, 0, size, bno >>> 16);
+        return index >= 0 && containers[index].contains((char) bno);
+    }
+
+    void add(final long bno) {
+        final long key = bno >>> 16;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        containers[index] = container.add((char) bno);
+        cardinality += containers[index].cardinality() - before;
+    }
+
+    void remove(final long bno) {
+        final int index = Arrays.binarySearch(keys, 0, size, bno >>> 16);
+        if (index < 0) {
+            return;
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        final Container removed = container.remove((char) bno);
+        if (removed.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = removed;
+        }
+        cardinality -= before - removed.cardinality();
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 대략적인 메모리 사용량(바이트)을 반환합니다.
+     */
+    long sizeInBytes() {
+        long bytes = keys.length * 8L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private void insertContainer(final int index, final long key, final Container container) {
+        if (size == keys.length) {
+            final int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private interface Container {
+        boolean contains(char value);
+
+        // 변경 후 컨테이너를 반환합니다. (크기에 따라 다른 종류로 바뀔 수 있음)
+        Container add(char value);
+
+        Container remove(char value);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    // 정렬된 하위 16비트 배열
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public boolean contains(final char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container add(final char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_MAX_SIZE) {
+                return toBitset().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(final char value) {
+            final int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return values.length * 2L;
+        }
+
+        private BitsetContainer toBitset() {
+            final BitsetContainer bitset = new BitsetContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitset.add(values[i]);
+            }
+            return bitset;
+        }
+    }
+
+    // 65536비트 비트셋
+    private static final class BitsetContainer implements Container {
+        private final long[] words = new long[BITSET_WORDS];
+        private int cardinality;
+
+        @Override
+        public boolean contains(final char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(final char value) {
+            if (!contains(value)) {
+                words[value >>> 6] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(final char value) {
+            if (!contains(value)) {
+                return this;
+            }
+            words[value >>> 6] &= ~(1L << value);
+            cardinality--;
+            return cardinality <= ARRAY_MAX_SIZE / 2 ? toArray() : this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return BITSET_WORDS * 8L;
+        }
+
+        // 경계 부근에서 변환이 반복되지 않도록 절반 이하로 줄었을 때만 배열로 되돌립니다.
+        private ArrayContainer toArray() {
+            final ArrayContainer array = new ArrayContainer();
+            for (int word = 0; word < BITSET_WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.add((char) (word * 64 + Long.numberOfTrailingZeros(bits)));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
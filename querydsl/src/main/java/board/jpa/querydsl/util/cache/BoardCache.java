@@ -0,0 +1,77 @@
+package board.jpa.querydsl.util.cache;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.dto.board.BoardDTO;
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+
+/**
+ * 게시물 조회 결과({@link BoardDTO})를 보관하는 크기/시간 제한 LRU 캐시입니다.
+ * 조회수는 자주 바뀌므로 캐시에 보관하지 않고 조회 시점에 따로 채웁니다.
+ */
+@Component
+public class BoardCache {
+
+    private final GenerationLruCache<Long, BoardDTO> cache;
+
+    public BoardCache(@Value("${board.cache.board.max-size:10000}") final int maxSize,
+            @Value("${board.cache.board.ttl-seconds:300}") final long ttlSeconds) {
+        this.cache = new GenerationLruCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    /**
+     * 캐시된 게시물을 반환합니다. 없거나 만료되었으면 null을 반환합니다.
+     *
+     * @param bno 게시글 번호.
+     * @return 캐시된 게시물의 복사본 (조회수 제외).
+     */
+    public BoardDTO get(final Long bno) {
+        return cache.get(bno, this::copy);
+    }
+
+    public long generation() {
+        return cache.generation();
+    }
+
+    /**
+     * 게시물을 캐시에 저장합니다. 조회 도중 무효화가 있었다면 오래된 값이므로 저장하지 않습니다.
+     *
+     * @param bno        게시글 번호.
+     * @param boardDTO   게시물.
+     * @param generation 조회 시작 전에 읽은 세대.
+     */
+    public void put(final Long bno, final BoardDTO boardDTO, final long generation) {
+        cache.put(bno, copy(boardDTO), generation);
+    }
+
+    /**
+     * 게시물을 즉시 캐시에서 제거하고, 트랜잭션 안이라면 커밋 이후에 한 번 더 제거합니다.
+     *
+     * @param bno 게시글 번호.
+     */
+    public void evict(final Long bno) {
+        cache.remove(bno);
+        TransactionUtil.afterCommit(() -> cache.remove(bno));
+    }
+
+    public Map<String, Long> getStats() {
+        return cache.getStats();
+    }
+
+    private BoardDTO copy(final BoardDTO boardDTO) {
+        return BoardDTO.builder()
+                .bno(boardDTO.getBno())
+                .title(boardDTO.getTitle())
+                .writer(boardDTO.getWriter())
+                .content(boardDTO.getContent())
+                .createDate(boardDTO.getCreateDate())
+                .updateDate(boardDTO.getUpdateDate())
+                .viewCount(boardDTO.getViewCount())
+                .fileName(new ArrayList<>(boardDTO.getFileName()))
+                .build();
+    }
+}
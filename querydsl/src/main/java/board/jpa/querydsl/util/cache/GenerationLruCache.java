@@ -0,0 +1,185 @@
+package board.jpa.querydsl.util.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 세대(generation)로 오래된 조회 결과의 저장을 막는 크기/시간 제한 LRU 캐시입니다.
+ * 캐시를 채우기 전에 {@link #generation()}을 읽어 {@link #put(Object, Object, long)}에 그대로 전달하면,
+ * 조회 도중 무효화가 있었을 때 오래된 값을 저장하지 않습니다.
+ * 모든 접근은 캐시 단위로 동기화되므로, 값을 직접 수정하는 작업도 {@link #updateOrInvalidate}로 처리할 수 있습니다.
+ *
+ * @param <K> 캐시 키.
+ * @param <V> 캐시 값.
+ */
+public class GenerationLruCache<K, V> {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LinkedHashMap<K, Entry<V>> cache;
+
+    /**
+     * 유지 시간 없이 최대 개수만 제한하는 캐시를 만듭니다.
+     *
+     * @param maxSize 최대 개수. 0 이하이면 저장하지 않습니다.
+     */
+    public GenerationLruCache(final int maxSize) {
+        this(maxSize, NO_EXPIRY);
+    }
+
+    /**
+     * @param maxSize   최대 개수. 0 이하이면 저장하지 않습니다.
+     * @param ttlMillis 유지 시간(ms). 0 이하이면 저장하지 않습니다.
+     */
+    public GenerationLruCache(final int maxSize, final long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                if (size() > GenerationLruCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값을 반환합니다. 없거나 만료되었으면 null을 반환합니다.
+     */
+    public V get(final K key) {
+        return get(key, Function.identity());
+    }
+
+    /**
+     * 캐시된 값을 잠금 안에서 읽어 변환합니다. 없거나 만료되었으면 null을 반환합니다. (수정되는 값을 읽을 때 사용)
+     *
+     * @param key    캐시 키.
+     * @param reader 캐시된 값을 읽는 함수.
+     * @return reader의 결과.
+     */
+    public <R> R get(final K key, final Function<? super V, ? extends R> reader) {
+        synchronized (cache) {
+            final Entry<V> entry = cache.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                cache.remove(key);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return reader.apply(entry.value());
+        }
+    }
+
+    /**
+     * 캐시를 채우기 전에 현재 세대를 읽습니다. {@link #put(Object, Object, long)}에 그대로 전달합니다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 값을 캐시에 저장합니다. 세대를 읽은 뒤 무효화가 있었다면 오래된 값이므로 저장하지 않습니다.
+     *
+     * @param key        캐시 키.
+     * @param value      캐시 값.
+     * @param generation 조회 시작 전에 읽은 세대.
+     */
+    public void put(final K key, final V value, final long generation) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            return;
+        }
+        final long expiresAt = ttlMillis == NO_EXPIRY ? NO_EXPIRY : System.currentTimeMillis() + ttlMillis;
+        synchronized (cache) {
+            if (this.generation.get() == generation) {
+                cache.put(key, new Entry<>(value, expiresAt));
+            }
+        }
+    }
+
+    /**
+     * 값을 제거하고 세대를 올립니다.
+     */
+    public void remove(final K key) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.remove(key);
+        }
+    }
+
+    /**
+     * 조건에 맞는 키를 모두 제거하고 세대를 올립니다.
+     */
+    public void removeIf(final Predicate<? super K> filter) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.keySet().removeIf(filter);
+        }
+    }
+
+    /**
+     * 캐시된 값이 있으면 잠금 안에서 수정하고, 없으면 세대를 올려 진행 중인 조회 결과를 저장하지 않도록 합니다.
+     * (조회 결과에 이번 수정이 빠졌을 수 있으므로)
+     *
+     * @param key     캐시 키.
+     * @param updater 캐시된 값을 수정하는 함수.
+     */
+    public void updateOrInvalidate(final K key, final Consumer<? super V> updater) {
+        synchronized (cache) {
+            final Entry<V> entry = cache.get(key);
+            if (entry == null) {
+                generation.incrementAndGet();
+            } else {
+                updater.accept(entry.value());
+            }
+        }
+    }
+
+    /**
+     * 캐시된 모든 값에 대한 합계를 구합니다. (통계용)
+     */
+    public long sum(final ToLongFunction<? super V> mapper) {
+        long sum = 0;
+        synchronized (cache) {
+            for (Entry<V> entry : cache.values()) {
+                sum += mapper.applyAsLong(entry.value());
+            }
+        }
+        return sum;
+    }
+
+    public Map<String, Long> getStats() {
+        final int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return Map.of(
+                "size", (long) size,
+                "hits", hits.get(),
+                "misses", misses.get(),
+                "evictions", evictions.get());
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,55 @@
+package board.jpa.querydsl.util.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+
+/**
+ * 목록 화면의 게시물별 좋아요 수를 짧은 시간 동안 보관하는 LRU 캐시입니다.
+ * 다른 회원의 좋아요는 유지 시간만큼 늦게 보일 수 있지만, 본인의 토글은 캐시에서 바로 제거합니다.
+ */
+@Component
+public class LikeCountCache {
+
+    private final GenerationLruCache<Long, Long> cache;
+
+    public LikeCountCache(@Value("${board.cache.like-count.max-size:10000}") final int maxSize,
+            @Value("${board.cache.like-count.ttl-ms:3000}") final long ttlMillis) {
+        this.cache = new GenerationLruCache<>(maxSize, ttlMillis);
+    }
+
+    /**
+     * 캐시된 좋아요 수를 반환합니다. 없거나 만료되었으면 null을 반환합니다.
+     *
+     * @param bno 게시글 번호.
+     * @return 좋아요 수.
+     */
+    public Long get(final Long bno) {
+        return cache.get(bno);
+    }
+
+    public long generation() {
+        return cache.generation();
+    }
+
+    /**
+     * 좋아요 수를 캐시에 저장합니다. 조회 도중 무효화가 있었다면 오래된 값이므로 저장하지 않습니다.
+     *
+     * @param bno        게시글 번호.
+     * @param count      좋아요 수.
+     * @param generation 조회 시작 전에 읽은 세대.
+     */
+    public void put(final Long bno, final Long count, final long generation) {
+        cache.put(bno, count, generation);
+    }
+
+    /**
+     * 좋아요 수를 캐시에서 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 제거합니다.
+     *
+     * @param bno 게시글 번호.
+     */
+    public void evict(final Long bno) {
+        TransactionUtil.afterCommit(() -> cache.remove(bno));
+    }
+}
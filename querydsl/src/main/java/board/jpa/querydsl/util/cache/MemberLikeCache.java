@@ -0,0 +1,84 @@
+package board.jpa.querydsl.util.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+
+/**
+ * 회원별로 좋아요한 게시물 번호를 압축 비트맵({@link BnoBitmap})으로 보관하는 LRU 캐시입니다.
+ * 처음 조회할 때 회원의 좋아요 목록을 한 번 읽어 채우고, 이후에는 좋아요 토글을 캐시에 직접 반영합니다.
+ */
+@Component
+public class MemberLikeCache {
+
+    private final GenerationLruCache<String, BnoBitmap> cache;
+
+    public MemberLikeCache(@Value("${board.cache.member-like.max-size:10000}") final int maxSize) {
+        this.cache = new GenerationLruCache<>(maxSize);
+    }
+
+    /**
+     * 게시물 번호 중 회원이 좋아요한 번호를 반환합니다. 캐시에 회원이 없으면 null을 반환합니다.
+     *
+     * @param email 회원 이메일.
+     * @param bnos  확인할 게시물 번호.
+     * @return 좋아요한 게시물 번호 (입력 순서 유지).
+     */
+    public List<Long> filterLiked(final String email, final Collection<Long> bnos) {
+        return cache.get(email, bitmap -> {
+            final List<Long> liked = new ArrayList<>();
+            for (Long bno : bnos) {
+                if (bitmap.contains(bno)) {
+                    liked.add(bno);
+                }
+            }
+            return liked;
+        });
+    }
+
+    public long generation() {
+        return cache.generation();
+    }
+
+    /**
+     * 회원의 좋아요 목록 전체를 캐시에 저장합니다. 조회 도중 캐시에 없는 회원의 토글이 있었다면 저장하지 않습니다.
+     *
+     * @param email      회원 이메일.
+     * @param likedBnos  회원이 좋아요한 모든 게시물 번호.
+     * @param generation 조회 시작 전에 읽은 세대.
+     */
+    public void put(final String email, final Collection<Long> likedBnos, final long generation) {
+        cache.put(email, BnoBitmap.of(likedBnos), generation);
+    }
+
+    /**
+     * 좋아요 토글을 캐시에 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     * 캐시에 없는 회원이면 진행 중인 조회 결과에 이번 토글이 빠졌을 수 있으므로 저장하지 않도록 합니다.
+     *
+     * @param email 회원 이메일.
+     * @param bno   게시글 번호.
+     * @param liked 좋아요 여부.
+     */
+    public void update(final String email, final Long bno, final boolean liked) {
+        TransactionUtil.afterCommit(() -> cache.updateOrInvalidate(email, bitmap -> {
+            if (liked) {
+                bitmap.add(bno);
+            } else {
+                bitmap.remove(bno);
+            }
+        }));
+    }
+
+    public Map<String, Long> getStats() {
+        final Map<String, Long> stats = new HashMap<>(cache.getStats());
+        stats.put("bytes", cache.sum(BnoBitmap::sizeInBytes));
+        return stats;
+    }
+}
@@ -1,18 +1,86 @@
 package board.jpa.querydsl.util.cookie;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * 조회수를 관리하기 위한 쿠키 유틸리티 클래스입니다.
+ * 게시물마다 쿠키를 만들지 않고, 조회한 게시물 번호를 서명된 쿠키 하나로 관리합니다.
+ *
+ * <pre>
+ * 토큰 구조 (base64url): [버전 1][세대 수 1][세대별 (시작 시각(시간 단위) 4, 게시물 수 varint, 게시물 번호 차이값 varint...)][HMAC 16]
+ * </pre>
+ *
+ * 세대마다 게시물 번호를 정렬해서 이전 번호와의 차이값(delta)으로 저장하므로, 토큰은 조회한 게시물 수만큼만 커지고 오판이 없습니다.
+ * 세대는 12시간마다 새로 시작하고 최대 3개까지 유지합니다.
+ * 따라서 같은 게시물은 최소 24시간(최대 36시간) 동안 다시 조회수가 증가하지 않습니다.
+ * 토큰이 {@link #MAX_PAYLOAD_BYTES}를 넘으면 (크롤러 등) 12시간을 기다리지 않고 새 세대를 시작하고 가장 오래된 세대를 버립니다.
+ * 이때 버린 세대의 게시물은 24시간 전에 다시 조회수가 증가할 수 있지만, 처음 보는 게시물의 조회수는 항상 증가합니다.
  */
+@Log4j2
 @Component
 public class ManagementCookie {
 
-    private static final String COOKIE_NAME = "read_board_";
+    private static final String COOKIE_NAME = "board_views";
+    private static final String LEGACY_COOKIE_PREFIX = "read_board_";
+
+    private static final byte VERSION = 3;
+    private static final int GENERATIONS = 3;
+    private static final int GENERATION_HOURS = 12;
+    // 쿠키 하나의 크기 제한(4KB)보다 충분히 작게 둡니다. (base64 약 2KB)
+    static final int MAX_PAYLOAD_BYTES = 1536;
+    private static final int HEADER_BYTES = 1 + 1;
+    private static final int MAC_BYTES = 16;
+    private static final int MAX_AGE_SECONDS = GENERATIONS * GENERATION_HOURS * 60 * 60;
+    private static final long[] EMPTY = new long[0];
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec secretKey;
+    private final ThreadLocal<Mac> macs;
+
+    public ManagementCookie(@Value("${board.view-token.secret:}") final String secret) {
+        final byte[] key;
+        if (secret == null || secret.isBlank()) {
+            // 설정이 없으면 실행할 때마다 키를 새로 만듭니다. (재시작 후 기존 토큰은 무효)
+            log.warn("board.view-token.secret Is Not Set, Using Random Key");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.secretKey = new SecretKeySpec(key, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                final Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
 
     /**
      * 쿠키 생성 및 조회수 증가 여부를 결정합니다.
@@ -20,28 +88,182 @@ public class ManagementCookie {
      * @param request  HTTP 요청 객체.
      * @param response HTTP 응답 객체.
      * @param bno      게시글 번호.
-     * @return 쿠키가 생성되어 조회수가 증가할 경우 true를 반환하고, 이미 존재하는 쿠키인 경우 false를 반환합니다.
+     * @return 쿠키가 생성되어 조회수가 증가할 경우 true를 반환하고, 이미 조회한 게시물인 경우 false를 반환합니다.
      */
     public boolean createCookie(final HttpServletRequest request, final HttpServletResponse response, final Long bno) {
-        String cookieName = COOKIE_NAME + bno;
+        return createCookie(request, response, bno, System.currentTimeMillis() / (60 * 60 * 1000));
+    }
+
+    boolean createCookie(final HttpServletRequest request, final HttpServletResponse response, final Long bno,
+            final long nowHour) {
+        List<Generation> generations = null;
+        boolean legacyViewed = false;
 
         Cookie[] cookies = request.getCookies();
         if (cookies != null) {
             for (Cookie cookie : cookies) {
-                if (cookie.getName().equals(cookieName)) {
-                    // 이미 쿠키가 존재하므로 조회수를 증가시키지 않습니다
-                    return false;
+                if (cookie.getName().equals(COOKIE_NAME)) {
+                    generations = decode(cookie.getValue());
+                } else if (cookie.getName().startsWith(LEGACY_COOKIE_PREFIX)) {
+                    // 기존 게시물별 쿠키는 만료시키고, 이번 게시물의 쿠키가 있으면 조회한 것으로 봅니다.
+                    legacyViewed |= cookie.getName().equals(LEGACY_COOKIE_PREFIX + bno);
+                    final Cookie expired = new Cookie(cookie.getName(), "");
+                    expired.setMaxAge(0);
+                    response.addCookie(expired);
+                }
+            }
+        }
+
+        if (generations == null) {
+            generations = new ArrayList<>();
+        }
+        final boolean expired = expire(generations, nowHour);
+        final boolean viewed = legacyViewed || contains(generations, bno);
+        if (!viewed) {
+            add(generations, bno, nowHour);
+        }
+        if (!viewed || expired) {
+            Cookie cookie = new Cookie(COOKIE_NAME, ENCODER.encodeToString(sign(encode(generations))));
+            cookie.setMaxAge(MAX_AGE_SECONDS);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+        return !viewed;
+    }
+
+    // 서명이 맞지 않거나 형식이 다르면 null (새 토큰으로 시작)
+    private List<Generation> decode(final String value) {
+        final byte[] token;
+        try {
+            token = DECODER.decode(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (token.length < HEADER_BYTES + MAC_BYTES || token[0] != VERSION) {
+            return null;
+        }
+        final int payloadBytes = token.length - MAC_BYTES;
+        final Mac mac = macs.get();
+        mac.update(token, 0, payloadBytes);
+        final byte[] expected = mac.doFinal();
+        if (!MessageDigest.isEqual(Arrays.copyOf(expected, MAC_BYTES),
+                Arrays.copyOfRange(token, payloadBytes, token.length))) {
+            return null;
+        }
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(token, 1, payloadBytes - 1);
+            final int count = buffer.get() & 0xFF;
+            if (count > GENERATIONS) {
+                return null;
+            }
+            final List<Generation> generations = new ArrayList<>(count + 1);
+            for (int generation = 0; generation < count; generation++) {
+                final long startHour = buffer.getInt() & 0xFFFFFFFFL;
+                final long size = readVarint(buffer);
+                if (size > buffer.remaining()) {
+                    return null;
+                }
+                final long[] bnos = new long[(int) size];
+                long previous = 0;
+                for (int i = 0; i < bnos.length; i++) {
+                    previous += readVarint(buffer);
+                    bnos[i] = previous;
                 }
+                generations.add(new Generation(startHour, bnos));
+            }
+            return buffer.hasRemaining() ? null : generations;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] encode(final List<Generation> generations) {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        buffer.write(VERSION);
+        buffer.write(generations.size());
+        for (Generation generation : generations) {
+            buffer.writeBytes(ByteBuffer.allocate(4).putInt((int) generation.startHour()).array());
+            writeVarint(buffer, generation.bnos().length);
+            long previous = 0;
+            for (long bno : generation.bnos()) {
+                writeVarint(buffer, bno - previous);
+                previous = bno;
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private byte[] sign(final byte[] payload) {
+        final Mac mac = macs.get();
+        mac.update(payload);
+        final byte[] token = Arrays.copyOf(payload, payload.length + MAC_BYTES);
+        System.arraycopy(mac.doFinal(), 0, token, payload.length, MAC_BYTES);
+        return token;
+    }
+
+    // 36시간이 지난 세대를 버립니다. (세대는 최신 순서)
+    private static boolean expire(final List<Generation> generations, final long nowHour) {
+        return generations.removeIf(generation -> nowHour - generation.startHour() >= GENERATIONS * GENERATION_HOURS);
+    }
+
+    private static boolean contains(final List<Generation> generations, final long bno) {
+        for (Generation generation : generations) {
+            if (Arrays.binarySearch(generation.bnos(), bno) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 최신 세대에 추가합니다. 토큰이 가득 차면 새 세대를 앞당겨 시작하고 오래된 세대부터 버립니다.
+    private void add(final List<Generation> generations, final long bno, final long nowHour) {
+        if (generations.isEmpty() || nowHour - generations.get(0).startHour() >= GENERATION_HOURS) {
+            generations.add(0, new Generation(nowHour, EMPTY));
+        }
+        final Generation latest = generations.get(0);
+        generations.set(0, latest.with(bno));
+        if (encode(generations).length > MAX_PAYLOAD_BYTES && latest.bnos().length > 0) {
+            generations.set(0, latest);
+            generations.add(0, new Generation(nowHour, new long[] { bno }));
+        }
+        while (generations.size() > GENERATIONS || encode(generations).length > MAX_PAYLOAD_BYTES) {
+            generations.remove(generations.size() - 1);
+        }
+    }
+
+    private static long readVarint(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
             }
         }
-        /**
-         * 쿠키 생성
-         * 24 시간 동안 쿠키 유지 후
-         * 쿠키가 없을 시 조회수 증가 하도록 true 반환
-         */
-        Cookie cookie = new Cookie(cookieName, "true");
-        cookie.setMaxAge(60 * 60 * 24);
-        response.addCookie(cookie);
-        return true;
-    }
-}
\ No newline at end of file
+        throw new IllegalArgumentException("Malformed Varint");
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.write((int) value);
+    }
+
+    /**
+     * 같은 12시간 동안 조회한 게시물 번호 (오름차순).
+     */
+    private record Generation(long startHour, long[] bnos) {
+
+        Generation with(final long bno) {
+            final int index = -Arrays.binarySearch(bnos, bno) - 1;
+            final long[] added = new long[bnos.length + 1];
+            System.arraycopy(bnos, 0, added, 0, index);
+            added[index] = bno;
+            System.arraycopy(bnos, index, added, index + 1, bnos.length - index);
+            return new Generation(startHour, added);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package board.jpa.querydsl.util.counter;
+
+/**
+ * {@link BoardCounterBuffer}가 관리하는 게시물 카운터 종류입니다.
+ */
+public enum BoardCounter {
+    // 조회수는 트랜잭션과 관계없이 바로 누적하고, 감소하지 않습니다.
+    VIEW("UPDATE `tbl_board` SET `viewCount` = `viewCount` + ? WHERE `bno` = ?", false),
+    // 좋아요 수는 커밋 이후 LikeToggledEvent로 전달되므로 바로 누적합니다.
+    // 좋아요, 댓글 수는 취소/삭제로 감소하므로 0 아래로 내려가지 않도록 합니다.
+    LIKE("UPDATE `tbl_board` SET `likeCount` = GREATEST(`likeCount` + ?, 0) WHERE `bno` = ?", false),
+    // 댓글 수는 커밋 이후에 누적합니다.
+    REPLY("UPDATE `tbl_board` SET `replyCount` = GREATEST(`replyCount` + ?, 0) WHERE `bno` = ?", true);
+
+    private final String flushSql;
+    private final boolean afterCommit;
+
+    BoardCounter(final String flushSql, final boolean afterCommit) {
+        this.flushSql = flushSql;
+        this.afterCommit = afterCommit;
+    }
+
+    String getFlushSql() {
+        return flushSql;
+    }
+
+    boolean isAfterCommit() {
+        return afterCommit;
+    }
+}
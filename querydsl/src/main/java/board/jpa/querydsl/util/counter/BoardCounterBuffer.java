@@ -0,0 +1,332 @@
+package board.jpa.querydsl.util.counter;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 게시물 카운터(조회수, 좋아요 수, 댓글 수)의 증감분을 메모리에 모았다가 주기적으로 한 번에 반영하는 클래스입니다. (write-behind)
+ * 요청마다 엔티티의 값을 읽고 바꿔 저장(read-modify-write)하지 않으므로 동시 요청의 증감분이 유실되지 않고,
+ * 요청 트랜잭션이 게시물 행 잠금을 잡지 않습니다.
+ * 게시물 번호별 LongAdder(스레드별로 나뉜 셀에 누적)에 모은 증감분을
+ * batch UPDATE의 원자적 덧셈(`SET likeCount = likeCount + ?`)으로 반영합니다.
+ * <p>
+ * 반영 중인 증감분은 커밋 전까지 반영 중(inflight) 값으로 조회 결과에 포함합니다.
+ * 반영 대기 증감분을 반영 중으로 옮기는 작업과, 커밋 후 반영 중 증감분을 제거하는 작업은 쓰기 잠금 안에서 실행되므로
+ * {@link #read}로 DB 값과 반영 대기 증감분을 함께 읽으면 같은 증감분을 두 번 더하거나 빠뜨리지 않습니다.
+ */
+@Log4j2
+@Component
+public class BoardCounterBuffer {
+
+    // 보정 중 증감분 누적 여부를 확인하는 게시물 구간 수 (2의 거듭제곱)
+    private static final int STRIPES = 4096;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<BoardCounter, Deltas> buffers = new EnumMap<>(BoardCounter.class);
+
+    // 반영 대기 증감분 조회(읽기)와, 증감분 이동 및 커밋 이후 반영 중 증감분 제거(쓰기)를 나눕니다.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // DB에 증감분을 반영한 횟수. 보정 도중 반영이 있었는지 확인합니다.
+    private long flushes;
+
+    @Autowired
+    public BoardCounterBuffer(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (BoardCounter counter : BoardCounter.values()) {
+            buffers.put(counter, new Deltas());
+        }
+    }
+
+    /**
+     * 카운터를 1 증가시킵니다. DB에는 다음 반영 주기에 기록됩니다.
+     */
+    public void increment(final BoardCounter counter, final Long bno) {
+        add(counter, bno, 1L);
+    }
+
+    /**
+     * 카운터에 증감분을 더합니다.
+     * 댓글 수는 트랜잭션 안에서 호출되면 커밋 이후에 누적하므로 롤백된 증감분은 반영되지 않습니다.
+     *
+     * @param counter 카운터 종류.
+     * @param bno     게시글 번호.
+     * @param delta   증감분.
+     */
+    public void add(final BoardCounter counter, final Long bno, final long delta) {
+        if (delta == 0L) {
+            return;
+        }
+        if (counter.isAfterCommit()) {
+            markUnsettled(counter, bno);
+            TransactionUtil.afterCommit(() -> accumulate(counter, bno, delta));
+        } else {
+            accumulate(counter, bno, delta);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 게시물의 카운터를 보정 대상에서 제외합니다.
+     * 커밋된 변경이 원본 테이블에는 보이지만 커밋 이후 누적될 증감분은 아직 없는 동안
+     * 보정이 같은 변경을 한 번 더 더하지 않도록 합니다.
+     * 표시는 트랜잭션 종료 콜백에서 등록 순서대로 해제되므로, 트랜잭션 이벤트 리스너가 증감분을 더하는 경우
+     * 이벤트를 발행한 뒤에 호출해야 합니다.
+     */
+    public void markUnsettled(final BoardCounter counter, final Long bno) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        final Deltas deltas = buffers.get(counter);
+        final int stripe = stripe(bno);
+        deltas.unsettled.incrementAndGet(stripe);
+        deltas.stamps.incrementAndGet(stripe);
+        TransactionUtil.afterCompletion(() -> deltas.unsettled.decrementAndGet(stripe));
+    }
+
+    private void accumulate(final BoardCounter counter, final Long bno, final long delta) {
+        final Deltas deltas = buffers.get(counter);
+        // 보정이 반영 대기 증감분을 읽기 전에 누적 표시가 먼저 보이도록 증감분보다 먼저 올립니다.
+        deltas.stamps.incrementAndGet(stripe(bno));
+        deltas.pending.computeIfAbsent(bno, key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분을 반환합니다.
+     * DB 값에 더할 때는 DB 값을 읽는 조회와 함께 {@link #read} 안에서 호출합니다.
+     * (따로 읽으면 그 사이에 커밋된 반영이 DB 값과 반영 대기 증감분 중 한쪽에만 포함될 수 있습니다)
+     *
+     * @param counter 카운터 종류.
+     * @param bno     게시글 번호.
+     * @return 반영 대기 중인 증감분.
+     */
+    public long pendingCount(final BoardCounter counter, final Long bno) {
+        final Deltas deltas = buffers.get(counter);
+        lock.readLock().lock();
+        try {
+            final LongAdder adder = deltas.pending.get(bno);
+            return (adder == null ? 0L : adder.sum()) + deltas.inflight.getOrDefault(bno, 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB 값 조회와 반영 대기 증감분 합산을 반영 커밋과 겹치지 않게 실행합니다.
+     * 트랜잭션의 첫 조회부터 {@link #pendingCount}까지 감싸야 조회 스냅샷과 반영 대기 증감분이 같은 시점의 값이 됩니다.
+     * 반영은 커밋 직전에 쓰기 잠금을 기다리므로, 잠금 대기가 생길 수 있는 조회(잠금 읽기, INSERT, UPDATE)는 감싸지 않습니다.
+     *
+     * @param reader DB 값을 읽고 반영 대기 증감분을 더하는 작업.
+     * @return reader의 결과.
+     */
+    public <T> T read(final Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 누적된 증감분을 카운터별 batch UPDATE로 DB에 반영합니다. 반영에 실패하면 증감분을 다시 누적합니다.
+     * 카운터별 batch는 한 트랜잭션으로 실행되므로 일부 행만 반영된 채 실패하지 않습니다.
+     * (일부만 반영된 증감분을 모두 다시 누적하면 반영된 행이 두 번 더해집니다)
+     */
+    @Scheduled(fixedDelayString = "${board.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        for (Map.Entry<BoardCounter, Deltas> entry : buffers.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void flush(final BoardCounter counter, final Deltas buffer) {
+        final Map<Long, Long> deltas;
+        lock.writeLock().lock();
+        try {
+            deltas = drain(buffer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        flushes++;
+        boolean committed = false;
+        try {
+            final List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+            deltas.forEach((bno, delta) -> batchArgs.add(new Object[] { delta, bno }));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(counter.getFlushSql(), batchArgs);
+                // 커밋된 값이 보이는 시점부터 반영 중 증감분을 제거할 때까지 조회가 끼어들지 않도록 커밋 전에 잠급니다.
+                // (행 잠금을 모두 얻은 뒤에 잠그므로 잠금을 잡은 채 다른 트랜잭션을 기다리지 않습니다)
+                lock.writeLock().lock();
+            });
+            committed = true;
+        } catch (RuntimeException e) {
+            log.error(counter + " Count Flush Failed, Requeue " + deltas.size() + " Boards", e);
+        } finally {
+            if (!lock.isWriteLockedByCurrentThread()) {
+                lock.writeLock().lock();
+            }
+            try {
+                settle(buffer, deltas, !committed);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출합니다. 반영 대기 증감분을 반영 중으로 먼저 옮긴 뒤 LongAdder에서 뺍니다.
+    private Map<Long, Long> drain(final Deltas buffer) {
+        // 게시물 번호 순서로 UPDATE 해서 다른 트랜잭션과 잠금 순서를 맞춥니다.
+        final Map<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> entry : buffer.retired) {
+            move(buffer, deltas, entry.getKey(), entry.getValue());
+        }
+        buffer.retired = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : buffer.pending.entrySet()) {
+            if (!move(buffer, deltas, entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 변화가 없던 게시물은 맵에서 제거합니다.
+                if (buffer.pending.remove(entry.getKey(), entry.getValue())) {
+                    buffer.retired.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private boolean move(final Deltas buffer, final Map<Long, Long> deltas, final Long bno, final LongAdder adder) {
+        // sumThenReset은 초기화 도중 더해진 증감분을 잃을 수 있으므로, 읽은 합계만큼만 뺍니다.
+        final long delta = adder.sum();
+        if (delta == 0L) {
+            return false;
+        }
+        buffer.inflight.merge(bno, delta, Long::sum);
+        adder.add(-delta);
+        deltas.merge(bno, delta, Long::sum);
+        return true;
+    }
+
+    // 쓰기 잠금 안에서 호출합니다. 반영에 실패했으면 반영 대기 증감분으로 되돌립니다.
+    private void settle(final Deltas buffer, final Map<Long, Long> deltas, final boolean requeue) {
+        deltas.forEach((bno, delta) -> {
+            if (requeue) {
+                buffer.pending.computeIfAbsent(bno, key -> new LongAdder()).add(delta);
+            }
+            buffer.inflight.computeIfPresent(bno, (key, value) -> value - delta == 0L ? null : value - delta);
+        });
+    }
+
+    /**
+     * 현재까지 DB에 증감분을 반영한 횟수입니다.
+     */
+    public synchronized long flushes() {
+        return flushes;
+    }
+
+    /**
+     * 보정에 사용할 DB 값을 읽기 전에 현재 반영 횟수와 구간별 누적 표시를 읽습니다. {@link #correct}에 그대로 전달합니다.
+     */
+    public synchronized Snapshot snapshot() {
+        final Map<BoardCounter, long[]> stamps = new EnumMap<>(BoardCounter.class);
+        buffers.forEach((counter, deltas) -> {
+            final long[] values = new long[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                values[i] = deltas.stamps.get(i);
+            }
+            stamps.put(counter, values);
+        });
+        return new Snapshot(flushes, stamps);
+    }
+
+    /**
+     * DB 값과 실제 개수의 차이 중 반영 대기 중인 증감분으로 설명되지 않는 만큼을 보정 증감분으로 더합니다.
+     * 보정도 일반 증감분과 같이 원자적 덧셈으로 반영되므로 보정 중에 카운터를 잠그지 않습니다.
+     * 다음 경우에는 DB 값과 반영 대기 증감분을 같은 시점의 값으로 볼 수 없으므로 보정하지 않습니다.
+     * <ul>
+     * <li>DB 값을 읽은 뒤 반영이 있었던 경우</li>
+     * <li>DB 값을 읽은 뒤 게시물 구간에 증감분이 누적된 경우 (읽은 뒤 커밋된 변경이 반영 대기 증감분에만 포함)</li>
+     * <li>커밋 이후 누적될 증감분이 남은 트랜잭션이 있는 경우 (커밋된 변경이 원본 테이블에만 포함)</li>
+     * </ul>
+     *
+     * @param counter  카운터 종류.
+     * @param bno      게시글 번호.
+     * @param stored   DB에 저장된 값.
+     * @param actual   원본 테이블에서 다시 계산한 개수.
+     * @param snapshot DB 값을 읽기 전에 {@link #snapshot()}으로 읽은 값.
+     * @return 더한 보정 증감분. 보정하지 않고 건너뛰었으면 null.
+     */
+    public synchronized Long correct(final BoardCounter counter, final Long bno, final long stored,
+            final long actual, final Snapshot snapshot) {
+        if (flushes != snapshot.flushes()) {
+            return null;
+        }
+        final Deltas deltas = buffers.get(counter);
+        final int stripe = stripe(bno);
+        final long pending = pendingCount(counter, bno);
+        // 반영 대기 증감분을 읽은 뒤에 확인해야 읽는 도중 누적된 증감분도 알 수 있습니다.
+        if (deltas.unsettled.get(stripe) != 0 || deltas.stamps.get(stripe) != snapshot.stamps().get(counter)[stripe]) {
+            return null;
+        }
+        final long drift = actual - (stored + pending);
+        if (drift != 0L) {
+            accumulate(counter, bno, drift);
+        }
+        return drift;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flush Board Counters Before Shutdown");
+        flush();
+        // 첫 번째 반영에서 제거된 LongAdder에 남은 증감분까지 반영합니다.
+        flush();
+    }
+
+    private static int stripe(final Long bno) {
+        return Long.hashCode(bno) & (STRIPES - 1);
+    }
+
+    // 카운터 하나의 반영 대기, 반영 중, 제거된 증감분
+    private static final class Deltas {
+        private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+        // 반영 중인 증감분. DB 반영이 끝나기 전까지 조회 결과에 포함합니다.
+        private final Map<Long, Long> inflight = new ConcurrentHashMap<>();
+        // 맵에서 제거된 LongAdder. 제거 직전에 참조를 얻은 요청의 증감분을 다음 주기에 한 번 더 수집합니다.
+        private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+        // 게시물 구간별 증감분 누적 횟수, 커밋 이후 누적될 증감분이 남은 트랜잭션 수
+        private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+        private final AtomicIntegerArray unsettled = new AtomicIntegerArray(STRIPES);
+    }
+
+    /**
+     * 보정 시작 시점의 반영 횟수와 구간별 증감분 누적 횟수입니다.
+     */
+    public record Snapshot(long flushes, Map<BoardCounter, long[]> stamps) {
+    }
+}
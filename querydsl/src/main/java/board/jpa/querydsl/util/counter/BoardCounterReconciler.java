@@ -0,0 +1,143 @@
+package board.jpa.querydsl.util.counter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 게시물의 좋아요 수, 댓글 수를 원본 테이블(tbl_like, tbl_reply)에서 다시 계산해서 어긋난 값을 보정하는 클래스입니다.
+ * 게시물 번호 순서로 일정 개수씩 잠금 없이 읽고(consistent read), 차이는 {@link BoardCounterBuffer}의 증감분으로 반영합니다.
+ * 읽는 동안 증감분이 누적되었거나 커밋 이후 누적될 증감분이 남은 게시물은 건너뛰고 다음 주기에 다시 확인합니다.
+ */
+@Log4j2
+@Component
+public class BoardCounterReconciler {
+
+    private static final String CHUNK_SQL = "SELECT b.`bno`, b.`likeCount`, b.`replyCount`, "
+            + "(SELECT COUNT(*) FROM `tbl_like` l WHERE l.`bno` = b.`bno`) AS `actualLikeCount`, "
+            + "(SELECT COUNT(*) FROM `tbl_reply` r WHERE r.`bno` = b.`bno` AND r.`isDeleted` = 0) AS `actualReplyCount` "
+            + "FROM `tbl_board` b WHERE b.`bno` > ? AND b.`isDeleted` = 0 ORDER BY b.`bno` LIMIT ?";
+    // 읽는 도중 증감분 반영이 있었던 구간을 다시 읽는 횟수
+    private static final int MAX_RETRIES = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardCounterBuffer boardCounterBuffer;
+    private final int batchSize;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong checkedBoards = new AtomicLong();
+    private final AtomicLong driftedBoards = new AtomicLong();
+    private final AtomicLong likeDrift = new AtomicLong();
+    private final AtomicLong replyDrift = new AtomicLong();
+    private final AtomicLong skippedChunks = new AtomicLong();
+    private final AtomicLong skippedBoards = new AtomicLong();
+    private volatile long lastRunMillis;
+
+    @Autowired
+    public BoardCounterReconciler(final JdbcTemplate jdbcTemplate, final BoardCounterBuffer boardCounterBuffer,
+            @Value("${board.counter.reconcile.batch-size:1000}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.boardCounterBuffer = boardCounterBuffer;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 모든 게시물의 좋아요 수, 댓글 수를 보정합니다.
+     */
+    @Scheduled(initialDelayString = "${board.counter.reconcile.interval-ms:600000}",
+            fixedDelayString = "${board.counter.reconcile.interval-ms:600000}")
+    public synchronized void reconcile() {
+        final long start = System.currentTimeMillis();
+        final long driftedBefore = driftedBoards.get();
+        long afterBno = 0L;
+        long boards = 0L;
+        while (true) {
+            final Chunk chunk = reconcileChunk(afterBno);
+            if (chunk.size() == 0) {
+                break;
+            }
+            boards += chunk.size();
+            afterBno = chunk.lastBno();
+        }
+        runs.incrementAndGet();
+        lastRunMillis = System.currentTimeMillis() - start;
+        log.info("Board Counter Reconciled (boards: " + boards + ", drifted: "
+                + (driftedBoards.get() - driftedBefore) + ", " + lastRunMillis + "ms)");
+    }
+
+    /**
+     * afterBno 다음 게시물부터 한 구간을 보정합니다.
+     *
+     * @param afterBno 이전 구간의 마지막 게시물 번호.
+     * @return 보정한 게시물 수와 마지막 게시물 번호.
+     */
+    Chunk reconcileChunk(final long afterBno) {
+        for (int attempt = 0; attempt < MAX_RETRIES; attempt++) {
+            final BoardCounterBuffer.Snapshot snapshot = boardCounterBuffer.snapshot();
+            final List<CounterRow> rows = jdbcTemplate.query(CHUNK_SQL, (rs, rowNum) -> new CounterRow(
+                    rs.getLong("bno"),
+                    rs.getLong("likeCount"),
+                    rs.getLong("replyCount"),
+                    rs.getLong("actualLikeCount"),
+                    rs.getLong("actualReplyCount")), afterBno, batchSize);
+            if (rows.isEmpty()) {
+                return new Chunk(0, afterBno);
+            }
+            if (boardCounterBuffer.flushes() != snapshot.flushes()) {
+                continue;
+            }
+            for (CounterRow row : rows) {
+                final Long like = boardCounterBuffer.correct(BoardCounter.LIKE, row.bno(), row.likeCount(),
+                        row.actualLikeCount(), snapshot);
+                final Long reply = boardCounterBuffer.correct(BoardCounter.REPLY, row.bno(), row.replyCount(),
+                        row.actualReplyCount(), snapshot);
+                if (like == null || reply == null) {
+                    skippedBoards.incrementAndGet();
+                }
+                if ((like != null && like != 0L) || (reply != null && reply != 0L)) {
+                    driftedBoards.incrementAndGet();
+                    likeDrift.addAndGet(like == null ? 0L : Math.abs(like));
+                    replyDrift.addAndGet(reply == null ? 0L : Math.abs(reply));
+                    log.warn("Board Counter Drift (bno: " + row.bno() + ", like: " + like + ", reply: " + reply + ")");
+                }
+            }
+            checkedBoards.addAndGet(rows.size());
+            return new Chunk(rows.size(), rows.get(rows.size() - 1).bno());
+        }
+        // 계속 반영과 겹치면 이번 주기에는 건너뛰고 다음 주기에 다시 확인합니다.
+        skippedChunks.incrementAndGet();
+        final Long lastBno = jdbcTemplate.queryForObject("SELECT MAX(`bno`) FROM (SELECT `bno` FROM `tbl_board` "
+                + "WHERE `bno` > ? AND `isDeleted` = 0 ORDER BY `bno` LIMIT ?) chunk", Long.class, afterBno, batchSize);
+        return lastBno == null ? new Chunk(0, afterBno) : new Chunk(batchSize, lastBno);
+    }
+
+    /**
+     * 보정 통계입니다. driftedBoards, likeDrift, replyDrift는 누적값입니다. (drift는 절댓값 합계)
+     */
+    public Map<String, Long> getStats() {
+        return Map.of(
+                "runs", runs.get(),
+                "checkedBoards", checkedBoards.get(),
+                "driftedBoards", driftedBoards.get(),
+                "likeDrift", likeDrift.get(),
+                "replyDrift", replyDrift.get(),
+                "skippedChunks", skippedChunks.get(),
+                "skippedBoards", skippedBoards.get(),
+                "lastRunMillis", lastRunMillis);
+    }
+
+    record Chunk(int size, long lastBno) {
+    }
+
+    private record CounterRow(long bno, long likeCount, long replyCount, long actualLikeCount,
+            long actualReplyCount) {
+    }
+}
@@ -0,0 +1,190 @@
+package board.jpa.querydsl.util.counter;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 일별 좋아요 수 집계 테이블(tbl_like_daily)을 좋아요 토글 증감분으로 갱신하는 클래스입니다.
+ * (날짜, 게시물 번호)별 증감분을 메모리에 모았다가 주기적으로 batch upsert로 반영합니다.
+ */
+@Log4j2
+@Component
+public class LikeDailyRollup {
+
+    // 집계 행이 없을 때 감소분이 먼저 반영되어도 음수로 저장하지 않습니다.
+    // (VALUES(`likeCount`)는 0으로 바뀐 값이므로, 갱신에는 증감분을 한 번 더 전달합니다)
+    private static final String UPSERT_SQL = "INSERT INTO `tbl_like_daily` (`likeDate`, `bno`, `likeCount`) "
+            + "VALUES (?, ?, GREATEST(0, ?)) ON DUPLICATE KEY UPDATE `likeCount` = GREATEST(`likeCount` + ?, 0)";
+    private static final String INSERT_SQL = "INSERT INTO `tbl_like_daily` (`likeDate`, `bno`, `likeCount`) "
+            + "VALUES (?, ?, ?)";
+    private static final String DATE_RANGE_SQL = "SELECT MIN(`createDate`) AS `minDate`, MAX(`createDate`) AS `maxDate` "
+            + "FROM `tbl_like`";
+    // tbl_like의 (createDate, bno) 인덱스만 잠금 없이 읽어서(consistent read) 집계합니다.
+    private static final String COUNT_RANGE_SQL = "SELECT `createDate`, `bno`, COUNT(*) AS `likeCount` FROM `tbl_like` "
+            + "WHERE `createDate` >= ? AND `createDate` < ? GROUP BY `createDate`, `bno`";
+    private static final String DELETE_OUTSIDE_SQL = "DELETE FROM `tbl_like_daily` "
+            + "WHERE `likeDate` < ? OR `likeDate` > ?";
+    private static final String DELETE_RANGE_SQL = "DELETE FROM `tbl_like_daily` "
+            + "WHERE `likeDate` >= ? AND `likeDate` < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildDays;
+
+    private Map<DailyKey, LongAdder> pending = new ConcurrentHashMap<>();
+    // 증감분 누적은 공유 잠금, 반영할 맵 교체는 배타 잠금으로 교체 중 누적되는 증감분이 유실되지 않도록 합니다.
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public LikeDailyRollup(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager,
+            @Value("${board.like.daily.rebuild-days:7}") final int rebuildDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildDays = rebuildDays;
+    }
+
+    /**
+     * 좋아요 날짜, 게시물의 좋아요 수에 증감분을 더합니다. DB에는 다음 반영 주기에 기록됩니다.
+     */
+    public void add(final LocalDate likeDate, final Long bno, final long delta) {
+        if (likeDate == null || delta == 0L) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(new DailyKey(likeDate, bno), key -> new LongAdder()).add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 누적된 증감분을 batch upsert로 반영합니다. 반영에 실패하면 증감분을 다시 누적합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        final Map<DailyKey, LongAdder> flushing;
+        swapLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            flushing = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        // (날짜, 게시물 번호) 순서로 반영해서 다른 트랜잭션과 잠금 순서를 맞춥니다.
+        final List<Map.Entry<DailyKey, LongAdder>> entries = new ArrayList<>(flushing.entrySet());
+        entries.sort(Map.Entry.comparingByKey(Comparator.comparing(DailyKey::likeDate).thenComparing(DailyKey::bno)));
+        final List<Object[]> batchArgs = new ArrayList<>(entries.size());
+        for (Map.Entry<DailyKey, LongAdder> entry : entries) {
+            final long delta = entry.getValue().sum();
+            if (delta != 0L) {
+                batchArgs.add(new Object[] { Date.valueOf(entry.getKey().likeDate()), entry.getKey().bno(), delta,
+                        delta });
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            log.error("Like Daily Rollup Flush Failed, Requeue " + batchArgs.size() + " Rows", e);
+            for (Object[] args : batchArgs) {
+                add(((Date) args[0]).toLocalDate(), (Long) args[1], (Long) args[2]);
+            }
+        }
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 tbl_like에서 한 번 다시 만듭니다. (집계 테이블 도입 전 좋아요)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        final Boolean empty = jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM `tbl_like_daily`)", Boolean.class);
+        if (Boolean.TRUE.equals(empty)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * tbl_like를 날짜, 게시물별로 다시 집계해서 집계 테이블을 새로 만듭니다.
+     * rebuild-days 일 단위 구간마다 원본을 잠금 없이 집계한 뒤, 구간의 집계 행 DELETE와 INSERT를 한 트랜잭션으로 반영합니다.
+     * 원본 집계는 교체 잠금 밖에서 실행하므로 집계하는 동안에도 증감분 누적을 멈추지 않습니다.
+     * 집계 행을 교체하는 동안에만 누적을 멈추고, 그 전에 누적된 구간 내 증감분은 버립니다.
+     * (대부분 이미 커밋된 좋아요의 증감분이므로 원본 집계에 포함됩니다.
+     * 집계 이후 교체 전에 커밋된 좋아요는 다음 재집계까지 구간에서 빠질 수 있습니다.)
+     *
+     * @return 다시 만든 집계 행 수.
+     */
+    public synchronized long rebuild() {
+        final long start = System.currentTimeMillis();
+        final Map<String, Object> dateRange = jdbcTemplate.queryForMap(DATE_RANGE_SQL);
+        if (dateRange.get("minDate") == null) {
+            jdbcTemplate.update("DELETE FROM `tbl_like_daily`");
+            return 0L;
+        }
+        final LocalDate minDate = ((Date) dateRange.get("minDate")).toLocalDate();
+        final LocalDate maxDate = ((Date) dateRange.get("maxDate")).toLocalDate();
+        // 원본에 없는 날짜의 집계 행을 먼저 지웁니다.
+        jdbcTemplate.update(DELETE_OUTSIDE_SQL, Date.valueOf(minDate), Date.valueOf(maxDate));
+        long total = 0;
+        for (LocalDate from = minDate; !from.isAfter(maxDate); from = from.plusDays(rebuildDays)) {
+            total += rebuildRange(from, from.plusDays(rebuildDays));
+        }
+        log.info("Like Daily Rollup Rebuilt (" + total + " rows, " + (System.currentTimeMillis() - start) + "ms)");
+        return total;
+    }
+
+    private int rebuildRange(final LocalDate from, final LocalDate to) {
+        // 원본 집계는 오래 걸릴 수 있으므로 잠그지 않고 실행합니다. (좋아요 토글의 증감분 누적을 막지 않음)
+        final List<Object[]> batchArgs = jdbcTemplate.query(COUNT_RANGE_SQL, (rs, rowNum) -> new Object[] {
+                rs.getDate("createDate"), rs.getLong("bno"), rs.getLong("likeCount") },
+                Date.valueOf(from), Date.valueOf(to));
+        swapLock.writeLock().lock();
+        try {
+            pending.keySet().removeIf(key -> !key.likeDate().isBefore(from) && key.likeDate().isBefore(to));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_RANGE_SQL, Date.valueOf(from), Date.valueOf(to));
+                jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+            });
+            return batchArgs.size();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flush Like Daily Rollup Before Shutdown");
+        flush();
+    }
+
+    private record DailyKey(LocalDate likeDate, Long bno) {
+    }
+}
@@ -0,0 +1,47 @@
+package board.jpa.querydsl.util.counter;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 커밋된 좋아요 토글 이벤트를 받아 좋아요 수 증감분으로 모으는 클래스입니다.
+ * 롤백된 토글은 이벤트가 전달되지 않으므로 좋아요 수에 반영되지 않고,
+ * 모은 증감분은 {@link BoardCounterBuffer}(게시물 좋아요 수)와 {@link LikeDailyRollup}(일별 좋아요 수)이
+ * 주기적으로 DB에 반영합니다.
+ */
+@Log4j2
+@Component
+public class LikeEventAggregator {
+
+    private final BoardCounterBuffer boardCounterBuffer;
+    private final LikeDailyRollup likeDailyRollup;
+
+    private final AtomicLong likes = new AtomicLong();
+    private final AtomicLong unlikes = new AtomicLong();
+
+    @Autowired
+    public LikeEventAggregator(final BoardCounterBuffer boardCounterBuffer, final LikeDailyRollup likeDailyRollup) {
+        this.boardCounterBuffer = boardCounterBuffer;
+        this.likeDailyRollup = likeDailyRollup;
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트는 바로 처리합니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(final LikeToggledEvent event) {
+        (event.liked() ? likes : unlikes).incrementAndGet();
+        boardCounterBuffer.add(BoardCounter.LIKE, event.bno(), event.delta());
+        likeDailyRollup.add(event.likeDate(), event.bno(), event.delta());
+    }
+
+    public Map<String, Long> getStats() {
+        return Map.of(
+                "likes", likes.get(),
+                "unlikes", unlikes.get());
+    }
+}
@@ -0,0 +1,23 @@
+package board.jpa.querydsl.util.counter;
+
+import java.time.LocalDate;
+
+/**
+ * 좋아요 토글 이벤트입니다. 토글 트랜잭션이 커밋된 이후에 {@link LikeEventAggregator}가 받습니다.
+ *
+ * @param bno        게시글 번호.
+ * @param email      회원 이메일.
+ * @param liked      토글 후 좋아요 여부.
+ * @param likeDate   좋아요한 날짜. (취소인 경우 취소된 좋아요를 한 날짜)
+ * @param occurredAt 토글 시각 (epoch ms).
+ */
+public record LikeToggledEvent(Long bno, String email, boolean liked, LocalDate likeDate, long occurredAt) {
+
+    public LikeToggledEvent(final Long bno, final String email, final boolean liked, final LocalDate likeDate) {
+        this(bno, email, liked, likeDate, System.currentTimeMillis());
+    }
+
+    public long delta() {
+        return liked ? 1L : -1L;
+    }
+}
@@ -0,0 +1,97 @@
+package board.jpa.querydsl.util.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV를 한 레코드씩 읽는 클래스입니다.
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프("")를 처리하며 전체 내용을 메모리에 올리지 않습니다.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private int peeked = -2;
+
+    public CsvReader(final Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * @return 필드 목록. 더 이상 레코드가 없으면 null을 반환합니다.
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        final List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unclosed Quote At Line " + line);
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != -1) {
+                    line++;
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 다음에 읽을 레코드의 시작 줄 번호입니다.
+     */
+    public long getLine() {
+        return line;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            final int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+}
@@ -0,0 +1,58 @@
+package board.jpa.querydsl.util.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 형식의 CSV를 한 레코드씩 쓰는 클래스입니다.
+ * 쉼표, 큰따옴표, 줄바꿈이 포함된 필드만 큰따옴표로 감싸고 내부 큰따옴표는 ""로 이스케이프합니다.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(final Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 레코드 하나를 씁니다. null 필드는 빈 값으로 씁니다.
+     */
+    public void write(final Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (fields[i] != null) {
+                writeField(fields[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(final String value) throws IOException {
+        if (!needsQuote(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuote(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
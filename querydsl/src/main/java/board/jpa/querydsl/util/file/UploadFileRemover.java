@@ -0,0 +1,77 @@
+package board.jpa.querydsl.util.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 업로드 파일을 요청 스레드와 분리된 스레드에서 삭제하는 클래스입니다.
+ * 원본 파일(uuid_파일이름)과 썸네일(s_uuid_파일이름)을 함께 삭제하며, 없는 파일은 무시합니다.
+ */
+@Log4j2
+@Component
+public class UploadFileRemover {
+
+    private static final String THUMBNAIL_PREFIX = "s_";
+
+    private final Path uploadPath;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "upload-file-remover");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UploadFileRemover(@Value("${org.zerock.upload.path}") final String uploadPath) {
+        this.uploadPath = Paths.get(uploadPath);
+    }
+
+    /**
+     * 파일 삭제를 예약합니다.
+     *
+     * @param fileNames uuid_파일이름 형식의 파일 이름 목록.
+     */
+    public void remove(final List<String> fileNames) {
+        if (fileNames == null || fileNames.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            int removed = 0;
+            for (String fileName : fileNames) {
+                removed += delete(fileName) + delete(THUMBNAIL_PREFIX + fileName);
+            }
+            log.info("Removed " + removed + " Upload Files");
+        });
+    }
+
+    private int delete(final String fileName) {
+        final Path path = uploadPath.resolve(fileName).normalize();
+        // 파일 이름으로 업로드 경로 밖의 파일을 지우지 않도록 합니다.
+        if (!path.startsWith(uploadPath.normalize())) {
+            log.warn("Skip Removing File Outside Upload Path: " + fileName);
+            return 0;
+        }
+        try {
+            return Files.deleteIfExists(path) ? 1 : 0;
+        } catch (IOException e) {
+            log.error("Remove Upload File Failed: " + path, e);
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
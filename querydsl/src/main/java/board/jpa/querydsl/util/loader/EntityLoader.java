@@ -0,0 +1,83 @@
+package board.jpa.querydsl.util.loader;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.domain.board.BoardEntity;
+import board.jpa.querydsl.domain.member.MemberEntity;
+import board.jpa.querydsl.domain.reply.ReplyEntity;
+import board.jpa.querydsl.exception.BoardNumberNotFoundException;
+import board.jpa.querydsl.exception.MemberNotFoundException;
+import board.jpa.querydsl.exception.ReplyNumberNotFoundException;
+import board.jpa.querydsl.exception.errorcode.BoardErrorMessage;
+import board.jpa.querydsl.exception.errorcode.MemberErrorMessage;
+import board.jpa.querydsl.exception.errorcode.ReplyErrorMessage;
+import board.jpa.querydsl.repository.BoardRepository;
+import board.jpa.querydsl.repository.MemberRepository;
+import board.jpa.querydsl.repository.ReplyRepository;
+
+/**
+ * 엔티티 존재 여부 검증과 조회를 한 번의 조회로 처리하는 클래스입니다.
+ * PK 조회(findById)는 영속성 컨텍스트를 먼저 확인하므로, 같은 트랜잭션 안에서
+ * 같은 엔티티를 다시 요청하면 SELECT 없이 이미 조회된 엔티티를 반환합니다.
+ * 반드시 서비스의 트랜잭션 안에서 호출해야 합니다.
+ */
+@Component
+public class EntityLoader {
+
+    private final BoardRepository boardRepository;
+    private final MemberRepository memberRepository;
+    private final ReplyRepository replyRepository;
+
+    @Autowired
+    public EntityLoader(final BoardRepository boardRepository, final MemberRepository memberRepository,
+            final ReplyRepository replyRepository) {
+        this.boardRepository = boardRepository;
+        this.memberRepository = memberRepository;
+        this.replyRepository = replyRepository;
+    }
+
+    /**
+     * 게시물을 조회합니다. 삭제 처리된(정리 대기 중인) 게시물은 없는 게시물로 봅니다.
+     *
+     * @param bno 게시글 번호.
+     * @return 게시물 엔티티.
+     * @throws BoardNumberNotFoundException 게시물이 없는 경우.
+     */
+    public BoardEntity loadBoard(final Long bno) {
+        return boardRepository.findById(bno)
+                .filter(boardEntity -> !boardEntity.isDeleted())
+                .orElseThrow(() -> boardNotFound(bno));
+    }
+
+    /**
+     * 회원을 조회합니다.
+     *
+     * @param email 회원 이메일.
+     * @return 회원 엔티티.
+     * @throws MemberNotFoundException 회원이 없는 경우.
+     */
+    public MemberEntity loadMember(final String email) {
+        return memberRepository.findById(email)
+                .orElseThrow(() -> new MemberNotFoundException(
+                        MemberErrorMessage.MEMBER_NOT_FOUND.getFormattedMessage(email)));
+    }
+
+    /**
+     * 댓글을 조회합니다.
+     *
+     * @param rno 댓글 번호.
+     * @return 댓글 엔티티.
+     * @throws ReplyNumberNotFoundException 댓글이 없는 경우.
+     */
+    public ReplyEntity loadReply(final Long rno) {
+        return replyRepository.findById(rno)
+                .orElseThrow(() -> new ReplyNumberNotFoundException(
+                        ReplyErrorMessage.REPLY_NUMBER_NOT_FOUND.getFormattedMessage(rno)));
+    }
+
+    public BoardNumberNotFoundException boardNotFound(final Long bno) {
+        return new BoardNumberNotFoundException(
+                BoardErrorMessage.BOARD_NUMBER_NOT_FOUND.getFormattedMessage(String.valueOf(bno)));
+    }
+}
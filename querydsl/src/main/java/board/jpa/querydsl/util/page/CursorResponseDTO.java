@@ -0,0 +1,27 @@
+package board.jpa.querydsl.util.page;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class CursorResponseDTO<E> {
+    // 변수
+    private List<E> list; // 리스트 출력해줄 List
+    private int size; // 페이지 사이즈
+    private boolean hasNext; // 다음 페이지 유무
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (다음 페이지가 없으면 null)
+
+    @Builder(builderMethodName = "withAll")
+    public CursorResponseDTO(List<E> list, boolean hasNext, String nextCursor, int size) {
+        this.list = list;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+}
@@ -27,6 +27,8 @@ public class PageRequestDTO {
     private String keyword; // 검색어
     private String link; // 검색조건, 페이지, 사이즈 통합
     private boolean replyLast; // 댓글 페이징 마지막 페이지 유무
+    private Long afterBno; // 커서 페이징 기준 게시물 번호 (이 번호보다 작은 게시물부터 조회)
+    private String cursor; // 댓글 커서 페이징 기준 (이전 응답의 nextCursor, 없으면 첫 페이지)
 
     private LocalDate startDate;
     private LocalDate endDate;
@@ -40,9 +42,9 @@ public class PageRequestDTO {
         }
     }
 
-    // size 음수값, 과도한 값 제외처리
+    // size 0 이하, 과도한 값 제외처리
     public void setSize(int size) {
-        if (size < 0 || size > 100) {
+        if (size <= 0 || size > 100) {
             this.size = 10;
         } else {
             this.size = size;
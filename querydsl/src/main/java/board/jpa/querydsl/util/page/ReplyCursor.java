@@ -0,0 +1,49 @@
+package board.jpa.querydsl.util.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import board.jpa.querydsl.domain.reply.ReplyThreadKey;
+import board.jpa.querydsl.exception.DataNotFoundException;
+import board.jpa.querydsl.exception.errorcode.ReplyErrorMessage;
+
+/**
+ * 댓글 커서 페이징의 기준 위치 (마지막으로 받은 댓글의 스레드 정렬 키) 입니다.
+ * 클라이언트에는 내부 구조를 드러내지 않도록 base64url 문자열로 전달합니다.
+ */
+public record ReplyCursor(String threadKey) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString(threadKey.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor.
+     * @return 커서 위치. 커서가 없으면 null을 반환합니다. (첫 페이지)
+     * @throws DataNotFoundException 형식이 올바르지 않은 경우.
+     */
+    public static ReplyCursor decode(final String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        final String threadKey;
+        try {
+            threadKey = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+        if (!ReplyThreadKey.isValid(threadKey)) {
+            throw invalid(cursor);
+        }
+        return new ReplyCursor(threadKey);
+    }
+
+    private static DataNotFoundException invalid(final String cursor) {
+        return new DataNotFoundException(ReplyErrorMessage.INVALID_CURSOR.getFormattedMessage(cursor));
+    }
+}
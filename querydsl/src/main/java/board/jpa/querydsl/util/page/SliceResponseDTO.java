@@ -0,0 +1,27 @@
+package board.jpa.querydsl.util.page;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class SliceResponseDTO<E> {
+    // 변수
+    private List<E> list; // 리스트 출력해줄 List
+    private int page; // 페이지 번호
+    private int size; // 페이지 사이즈
+    private boolean hasNext; // 다음 페이지 유무 (COUNT 없이 size + 1 건 조회로 판단)
+
+    @Builder(builderMethodName = "withAll")
+    public SliceResponseDTO(List<E> list, boolean hasNext, PageRequestDTO pageRequestDTO) {
+        this.list = list;
+        this.hasNext = hasNext;
+        this.page = pageRequestDTO.getPage();
+        this.size = pageRequestDTO.getSize();
+    }
+}
@@ -0,0 +1,72 @@
+package board.jpa.querydsl.util.page;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.util.cache.GenerationLruCache;
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+
+/**
+ * 페이지 번호 페이징에 사용하는 전체 개수(COUNT)를 검색 조건별로 짧게 캐시하는 클래스입니다.
+ * 쓰기 작업이 발생하면 해당 도메인의 캐시를 무효화합니다.
+ */
+@Component
+public class TotalCountCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final long ttlMillis;
+    private final GenerationLruCache<String, Long> cache;
+
+    public TotalCountCache(@Value("${board.page.count-cache.ttl-seconds:10}") final long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new GenerationLruCache<>(MAX_ENTRIES, ttlMillis);
+    }
+
+    /**
+     * 캐시된 전체 개수를 반환하고, 없거나 만료되었으면 loader로 조회 후 캐시합니다.
+     *
+     * @param domain         캐시 도메인 (예: board, member, reply:{bno}).
+     * @param pageRequestDTO 검색 조건.
+     * @param loader         COUNT 쿼리.
+     * @return 전체 개수.
+     */
+    public Long getOrLoad(final String domain, final PageRequestDTO pageRequestDTO, final Supplier<Long> loader) {
+        if (ttlMillis <= 0) {
+            return loader.get();
+        }
+        final String key = domain + "|" + signature(pageRequestDTO);
+        final Long cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // 조회 도중 무효화가 발생했다면 오래된 값이므로 캐시하지 않습니다.
+        final long generation = cache.generation();
+        final Long count = loader.get();
+        cache.put(key, count, generation);
+        return count;
+    }
+
+    /**
+     * 도메인의 캐시를 즉시 무효화하고, 트랜잭션 안이라면 커밋 이후에 한 번 더 무효화합니다.
+     *
+     * @param domain 캐시 도메인.
+     */
+    public void invalidate(final String domain) {
+        evict(domain);
+        TransactionUtil.afterCommit(() -> evict(domain));
+    }
+
+    private void evict(final String domain) {
+        final String prefix = domain + "|";
+        cache.removeIf(key -> key.startsWith(prefix));
+    }
+
+    // 페이지 번호, 사이즈를 제외한 검색 조건만으로 키를 생성
+    private static String signature(final PageRequestDTO pageRequestDTO) {
+        return pageRequestDTO.getType() + "|" + pageRequestDTO.getKeyword() + "|"
+                + pageRequestDTO.getStartDate() + "|" + pageRequestDTO.getEndDate();
+    }
+}
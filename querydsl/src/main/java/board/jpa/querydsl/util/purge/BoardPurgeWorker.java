@@ -0,0 +1,93 @@
+package board.jpa.querydsl.util.purge;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.util.file.UploadFileRemover;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 삭제 처리된 게시물(isDeleted = 1)의 댓글, 좋아요, 일별 좋아요 수, 이미지와 게시물 행을 정리하는 클래스입니다.
+ * 게시물 삭제 요청은 삭제 표시만 하고 바로 반환하며, 연관 데이터는 이 클래스가 주기적으로
+ * batch-size 건씩 나누어 DELETE 합니다. 각 DELETE는 따로 커밋되어 잠금을 오래 잡지 않습니다.
+ * 삭제 표시가 DB에 남아있으므로 정리 도중 종료되어도 다음 실행에서 이어서 정리합니다.
+ */
+@Log4j2
+@Component
+public class BoardPurgeWorker {
+
+    private static final int MAX_BOARDS_PER_RUN = 100;
+
+    private static final String PENDING_SQL = "SELECT `bno` FROM `tbl_board` WHERE `isDeleted` = 1 "
+            + "ORDER BY `bno` LIMIT " + MAX_BOARDS_PER_RUN;
+    private static final String IMAGE_SQL = "SELECT CONCAT(`uuid`, '_', `fileName`) FROM `tbl_board_images` "
+            + "WHERE `bno` = ?";
+    private static final String DELETE_REPLY_SQL = "DELETE FROM `tbl_reply` WHERE `bno` = ? LIMIT ?";
+    private static final String DELETE_LIKE_SQL = "DELETE FROM `tbl_like` WHERE `bno` = ? LIMIT ?";
+    private static final String DELETE_LIKE_DAILY_SQL = "DELETE FROM `tbl_like_daily` WHERE `bno` = ? LIMIT ?";
+    private static final String DELETE_IMAGE_SQL = "DELETE FROM `tbl_board_images` WHERE `bno` = ? LIMIT ?";
+    private static final String DELETE_BOARD_SQL = "DELETE FROM `tbl_board` WHERE `bno` = ? AND `isDeleted` = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UploadFileRemover uploadFileRemover;
+    private final int batchSize;
+
+    @Autowired
+    public BoardPurgeWorker(final JdbcTemplate jdbcTemplate, final UploadFileRemover uploadFileRemover,
+            @Value("${board.purge.batch-size:1000}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.uploadFileRemover = uploadFileRemover;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 정리 대기 중인 게시물을 정리합니다. 실패한 게시물은 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.purge.interval-ms:1000}")
+    public synchronized void purgePending() {
+        final List<Long> pending = jdbcTemplate.queryForList(PENDING_SQL, Long.class);
+        for (Long bno : pending) {
+            try {
+                purge(bno);
+            } catch (RuntimeException e) {
+                log.error("Purge Board Failed (bno: " + bno + ")", e);
+            }
+        }
+    }
+
+    /**
+     * 게시물 하나의 연관 데이터와 게시물 행을 삭제합니다.
+     *
+     * @param bno 삭제 처리된 게시글 번호.
+     * @return 삭제한 행 수. (게시물 포함)
+     */
+    public long purge(final Long bno) {
+        final long start = System.currentTimeMillis();
+        final List<String> fileNames = jdbcTemplate.queryForList(IMAGE_SQL, String.class, bno);
+        long deleted = deleteInBatches(DELETE_REPLY_SQL, bno)
+                + deleteInBatches(DELETE_LIKE_SQL, bno)
+                + deleteInBatches(DELETE_LIKE_DAILY_SQL, bno)
+                + deleteInBatches(DELETE_IMAGE_SQL, bno);
+        deleted += jdbcTemplate.update(DELETE_BOARD_SQL, bno);
+        // 이미지 행이 삭제된 이후에 실제 파일을 삭제합니다.
+        uploadFileRemover.remove(fileNames);
+        log.info("Purged Board " + bno + " (" + deleted + " rows, " + fileNames.size() + " files, "
+                + (System.currentTimeMillis() - start) + "ms)");
+        return deleted;
+    }
+
+    private long deleteInBatches(final String sql, final Long bno) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, bno, batchSize);
+            total += deleted;
+        } while (deleted >= batchSize);
+        return total;
+    }
+}
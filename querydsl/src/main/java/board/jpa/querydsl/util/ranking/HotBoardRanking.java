@@ -0,0 +1,232 @@
+package board.jpa.querydsl.util.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.dto.board.HotBoardDTO;
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 조회, 좋아요, 댓글 이벤트로 게시물 인기 점수를 계산하는 메모리 랭킹입니다.
+ * 점수는 반감기마다 절반으로 줄어드는 지수 감쇠 점수이며, 상위 capacity 개 게시물만 유지합니다.
+ *
+ * <pre>
+ * score(bno, now) = Σ weight × 2^(-(now - eventTime) / halfLife)
+ * </pre>
+ *
+ * 기준 시각(landmark)에 대한 값 weight × 2^((eventTime - landmark) / halfLife) 를 더해두는 forward decay 방식이라
+ * 시간이 지나도 저장된 점수를 갱신할 필요가 없고 순위도 바뀌지 않습니다. (조회 시에만 현재 시각 기준으로 환산)
+ * 자리가 없으면 가장 낮은 게시물을 내보내고 그 점수를 이어받는 space-saving 방식으로,
+ * 새로 들어온 게시물의 점수는 실제보다 높을 수 있지만 실제 인기 게시물이 빠지지는 않습니다.
+ */
+@Log4j2
+@Component
+public class HotBoardRanking {
+
+    public static final double VIEW_WEIGHT = 1.0;
+    public static final double LIKE_WEIGHT = 5.0;
+    public static final double REPLY_WEIGHT = 3.0;
+
+    // 2^MAX_EXPONENT 를 넘으면 기준 시각을 옮겨 double 범위를 벗어나지 않도록 합니다.
+    private static final double MAX_EXPONENT = 256.0;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble((Entry entry) -> entry.score)
+            .thenComparingLong(entry -> entry.bno);
+
+    private final int capacity;
+    private final double halfLifeHours;
+    private final double halfLifeMillis;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    private long landmark = System.currentTimeMillis();
+
+    public HotBoardRanking(@Value("${board.hot.capacity:1000}") final int capacity,
+            @Value("${board.hot.half-life-hours:24}") final double halfLifeHours) {
+        this.capacity = capacity;
+        this.halfLifeHours = halfLifeHours;
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+    }
+
+    /**
+     * 게시물 조회를 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void recordView(final Long bno) {
+        afterCommit(bno, VIEW_WEIGHT);
+    }
+
+    /**
+     * 좋아요 추가(liked = true) 또는 취소를 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void recordLike(final Long bno, final boolean liked) {
+        afterCommit(bno, liked ? LIKE_WEIGHT : -LIKE_WEIGHT);
+    }
+
+    /**
+     * 댓글 등록을 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void recordReply(final Long bno) {
+        afterCommit(bno, REPLY_WEIGHT);
+    }
+
+    /**
+     * 지정한 시각에 발생한 이벤트 점수를 바로 반영합니다.
+     *
+     * @param bno         게시글 번호.
+     * @param weight      이벤트 가중치. (음수이면 점수를 줄이며 0 아래로 내려가지 않습니다)
+     * @param eventMillis 이벤트 발생 시각.
+     */
+    public synchronized void record(final Long bno, final double weight, final long eventMillis) {
+        if (bno == null || weight == 0.0) {
+            return;
+        }
+        if (exponent(eventMillis) > MAX_EXPONENT) {
+            rescale(eventMillis);
+        }
+        add(bno, weight * Math.pow(2.0, exponent(eventMillis)));
+    }
+
+    /**
+     * 다른 랭킹의 점수를 이 랭킹에 더합니다. 두 랭킹의 반감기는 같아야 합니다.
+     * 시작 시 DB 기록으로 따로 구성한 랭킹을, 그동안 이 랭킹에 기록된 점수를 지우지 않고 합칠 때 사용합니다.
+     *
+     * @param other 더할 랭킹.
+     */
+    public void merge(final HotBoardRanking other) {
+        final List<Entry> merged = new ArrayList<>();
+        final long otherLandmark;
+        synchronized (other) {
+            for (Entry entry : other.ranking) {
+                merged.add(new Entry(entry.bno, entry.score));
+            }
+            otherLandmark = other.landmark;
+        }
+        synchronized (this) {
+            if (exponent(otherLandmark) > MAX_EXPONENT) {
+                rescale(otherLandmark);
+            }
+            // other의 기준 시각에 대한 값을 이 랭킹의 기준 시각에 대한 값으로 환산합니다.
+            final double factor = Math.pow(2.0, exponent(otherLandmark));
+            for (Entry entry : merged) {
+                add(entry.bno, entry.score * factor);
+            }
+        }
+    }
+
+    // 기준 시각에 대한 값을 더합니다. 추적하지 않던 게시물은 자리가 없으면 가장 낮은 게시물을 내보냅니다.
+    private void add(final long bno, final double value) {
+        Entry entry = entries.get(bno);
+        if (entry == null) {
+            if (value <= 0.0 || capacity <= 0) {
+                return;
+            }
+            double inherited = 0.0;
+            if (entries.size() >= capacity) {
+                final Entry lowest = ranking.pollFirst();
+                entries.remove(lowest.bno);
+                inherited = lowest.score;
+            }
+            entry = new Entry(bno, inherited);
+            entries.put(bno, entry);
+        } else {
+            ranking.remove(entry);
+        }
+        entry.score = Math.max(0.0, entry.score + value);
+        ranking.add(entry);
+    }
+
+    /**
+     * 점수가 높은 게시물을 현재 시각 기준 점수와 함께 반환합니다.
+     *
+     * @param size 조회할 게시물 수.
+     * @return 점수 내림차순 게시물 목록.
+     */
+    public List<HotBoardDTO> top(final int size) {
+        return top(size, System.currentTimeMillis());
+    }
+
+    synchronized List<HotBoardDTO> top(final int size, final long nowMillis) {
+        final int limit = Math.max(0, Math.min(size, ranking.size()));
+        final List<HotBoardDTO> result = new ArrayList<>(limit);
+        final double decay = Math.pow(2.0, -exponent(nowMillis));
+        final Iterator<Entry> iterator = ranking.descendingIterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (entry.score <= 0.0) {
+                break;
+            }
+            result.add(HotBoardDTO.builder()
+                    .bno(entry.bno)
+                    .score(entry.score * decay)
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 게시물을 랭킹에서 제거합니다. (게시물 삭제 시)
+     */
+    public void remove(final Long bno) {
+        TransactionUtil.afterCommit(() -> {
+            synchronized (this) {
+                final Entry entry = entries.remove(bno);
+                if (entry != null) {
+                    ranking.remove(entry);
+                }
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public double getHalfLifeHours() {
+        return halfLifeHours;
+    }
+
+    private void afterCommit(final Long bno, final double weight) {
+        TransactionUtil.afterCommit(() -> record(bno, weight, System.currentTimeMillis()));
+    }
+
+    private double exponent(final long millis) {
+        return (millis - landmark) / halfLifeMillis;
+    }
+
+    // 기준 시각을 옮기고 모든 점수에 같은 값을 곱하므로 순위는 그대로입니다.
+    private void rescale(final long newLandmark) {
+        final double factor = Math.pow(2.0, -exponent(newLandmark));
+        final List<Entry> rescaled = new ArrayList<>(ranking);
+        ranking.clear();
+        for (Entry entry : rescaled) {
+            entry.score *= factor;
+            ranking.add(entry);
+        }
+        landmark = newLandmark;
+        log.info("Hot Board Ranking Rescaled (" + rescaled.size() + " boards)");
+    }
+
+    private static final class Entry {
+        private final long bno;
+        private double score;
+
+        private Entry(final long bno, final double score) {
+            this.bno = bno;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package board.jpa.querydsl.util.ranking;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 애플리케이션 시작 시 DB에 남아있는 기록으로 {@link HotBoardRanking}을 구성하는 클래스입니다.
+ * 좋아요, 댓글은 등록일별 개수로, 조회수는 이벤트 시각이 없으므로 게시물 등록일에 발생한 것으로 계산합니다.
+ * 반감기의 WINDOW_HALF_LIVES 배보다 오래된 기록은 점수에 거의 영향이 없어 읽지 않습니다.
+ * 삭제된 게시물의 기록은 읽지 않습니다.
+ * 읽는 동안에도 요청이 기록되므로 새 랭킹에 읽은 뒤 기존 랭킹에 합칩니다.
+ * (읽는 도중 커밋된 이벤트는 두 번 더해질 수 있지만, 지우고 다시 읽으면 그동안 기록된 이벤트가 사라집니다)
+ */
+@Log4j2
+@Component
+public class HotBoardRankingLoader {
+
+    private static final int WINDOW_HALF_LIVES = 10;
+
+    private static final String VIEW_SQL = "SELECT `bno`, `createDate`, `viewCount` FROM `tbl_board` "
+            + "WHERE `createDate` >= ? AND `viewCount` > 0 AND `isDeleted` = 0";
+    private static final String LIKE_SQL = "SELECT l.`bno`, l.`createDate`, COUNT(*) FROM `tbl_like` l "
+            + "JOIN `tbl_board` b ON b.`bno` = l.`bno` "
+            + "WHERE l.`createDate` >= ? AND b.`isDeleted` = 0 GROUP BY l.`bno`, l.`createDate`";
+    private static final String REPLY_SQL = "SELECT r.`bno`, r.`createDate`, COUNT(*) FROM `tbl_reply` r "
+            + "JOIN `tbl_board` b ON b.`bno` = r.`bno` "
+            + "WHERE r.`createDate` >= ? AND r.`isDeleted` = 0 AND b.`isDeleted` = 0 GROUP BY r.`bno`, r.`createDate`";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HotBoardRanking hotBoardRanking;
+
+    @Autowired
+    public HotBoardRankingLoader(final JdbcTemplate jdbcTemplate, final HotBoardRanking hotBoardRanking) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hotBoardRanking = hotBoardRanking;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        log.info("Is Running Hot Board Ranking Loader");
+        final long start = System.currentTimeMillis();
+        final long windowHours = (long) Math.ceil(hotBoardRanking.getHalfLifeHours() * WINDOW_HALF_LIVES);
+        final LocalDate since = LocalDate.now().minusDays(Math.max(1L, (windowHours + 23) / 24));
+
+        final HotBoardRanking loaded = new HotBoardRanking(hotBoardRanking.getCapacity(),
+                hotBoardRanking.getHalfLifeHours());
+        load(loaded, VIEW_SQL, since, HotBoardRanking.VIEW_WEIGHT);
+        load(loaded, LIKE_SQL, since, HotBoardRanking.LIKE_WEIGHT);
+        load(loaded, REPLY_SQL, since, HotBoardRanking.REPLY_WEIGHT);
+        hotBoardRanking.merge(loaded);
+        log.info("Hot Board Ranking Loaded: " + hotBoardRanking.size() + " boards since " + since + " ("
+                + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    // 결과를 목록으로 만들지 않고 한 행씩 반영합니다.
+    private void load(final HotBoardRanking loaded, final String sql, final LocalDate since, final double weight) {
+        jdbcTemplate.query(sql, resultSet -> {
+            final Date createDate = resultSet.getDate(2);
+            final long eventMillis = createDate.toLocalDate().atStartOfDay(ZoneId.systemDefault())
+                    .toInstant().toEpochMilli();
+            loaded.record(resultSet.getLong(1), weight * resultSet.getLong(3), eventMillis);
+        }, Date.valueOf(since));
+    }
+}
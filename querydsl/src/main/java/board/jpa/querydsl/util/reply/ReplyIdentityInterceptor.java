@@ -0,0 +1,43 @@
+package board.jpa.querydsl.util.reply;
+
+import java.util.Map;
+
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.domain.reply.ReplyEntity;
+
+/**
+ * 댓글 번호로 정해지는 값(최상위 댓글의 그룹 번호, 스레드 정렬 키)을 INSERT 값에 채우는 Hibernate 인터셉터입니다.
+ * 테이블 기반 ID 생성기는 persist 시점에 INSERT 값을 만들어 두므로, save() 이후에 엔티티를 바꾸면
+ * flush 시점에 UPDATE가 한 번 더 실행됩니다. onSave는 ID 할당 직후, INSERT 값이 확정되기 전에 호출됩니다.
+ */
+@Component
+public class ReplyIdentityInterceptor implements Interceptor, HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+    }
+
+    @Override
+    public boolean onSave(final Object entity, final Object id, final Object[] state, final String[] propertyNames,
+            final Type[] types) {
+        if (!(entity instanceof ReplyEntity replyEntity)) {
+            return false;
+        }
+        replyEntity.assignIdentity((Long) id);
+        for (int i = 0; i < propertyNames.length; i++) {
+            switch (propertyNames[i]) {
+                case "gno" -> state[i] = replyEntity.getGno();
+                case "threadKey" -> state[i] = replyEntity.getThreadKey();
+                default -> {
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package board.jpa.querydsl.util.reply;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.domain.reply.ReplyThreadKey;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 스레드 정렬 키(threadKey) 도입 전에 작성된 댓글에 키를 채우는 클래스입니다.
+ * 기존 댓글은 (gno, rno) 두 단계뿐이므로 ReplyThreadKey.of와 같은 규칙으로 SQL에서 바로 계산합니다.
+ * 댓글 번호(PK) 구간을 batch-size 건씩 차례로 갱신해서 테이블 전체를 다시 읽거나 오래 잠그지 않습니다.
+ * 새 댓글은 INSERT 시점에 키가 채워지므로 키가 없는 댓글의 번호 구간을 한 번 지나가면 채우기가 끝납니다.
+ * 키가 없는 댓글이 없으면(이미 채운 뒤의 재시작) 구간을 지나가지 않고 바로 끝납니다.
+ * 끝나기 전에는 댓글 목록을 threadKey 대신 (gno, rno) 순서로 조회합니다. ({@link #isComplete()})
+ */
+@Log4j2
+@Component
+public class ReplyThreadKeyBackfill {
+
+    // LPAD(LOWER(CONV(n, 10, 36)), 13, '0') = ReplyThreadKey의 13자리 36진수 구간
+    private static final String SEGMENT = "LPAD(LOWER(CONV(%s, 10, 36)), " + ReplyThreadKey.SEGMENT_LENGTH + ", '0')";
+    private static final String BACKFILL_SQL = "UPDATE `tbl_reply` SET `threadKey` = "
+            + "CASE WHEN `gno` = 0 OR `gno` = `rno` THEN " + SEGMENT.formatted("`rno`") + " "
+            + "ELSE CONCAT(" + SEGMENT.formatted("`gno`") + ", " + SEGMENT.formatted("`rno`") + ") END "
+            + "WHERE `rno` > ? AND `rno` <= ? AND `threadKey` IS NULL";
+    // 키가 없는 댓글의 번호 구간. 없으면 두 값 모두 NULL입니다.
+    private static final String NULL_RANGE_SQL = "SELECT MIN(`rno`) - 1 AS `minRno`, MAX(`rno`) AS `maxRno` "
+            + "FROM `tbl_reply` WHERE `threadKey` IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private volatile boolean complete;
+
+    @Autowired
+    public ReplyThreadKeyBackfill(final JdbcTemplate jdbcTemplate,
+            @Value("${board.reply.thread-key.backfill-batch-size:10000}") final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    /**
+     * 키가 없는 댓글의 번호 구간을 batch-size 건씩 나누어 키를 채웁니다.
+     *
+     * @return 키를 채운 댓글 수.
+     */
+    public synchronized long backfill() {
+        final long start = System.currentTimeMillis();
+        final Map<String, Object> rnoRange = jdbcTemplate.queryForMap(NULL_RANGE_SQL);
+        if (rnoRange.get("maxRno") == null) {
+            complete = true;
+            return 0L;
+        }
+        final long maxRno = ((Number) rnoRange.get("maxRno")).longValue();
+        long total = 0;
+        for (long from = ((Number) rnoRange.get("minRno")).longValue(); from < maxRno; from += batchSize) {
+            total += jdbcTemplate.update(BACKFILL_SQL, from, Math.min(from + batchSize, maxRno));
+        }
+        complete = true;
+        if (total > 0) {
+            log.info("Reply Thread Key Backfilled (" + total + " rows, " + (System.currentTimeMillis() - start) + "ms)");
+        }
+        return total;
+    }
+
+    /**
+     * 모든 댓글에 스레드 정렬 키가 채워졌는지 여부입니다.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
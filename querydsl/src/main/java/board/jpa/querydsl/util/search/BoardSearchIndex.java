@@ -0,0 +1,242 @@
+package board.jpa.querydsl.util.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 게시물 제목(t), 내용(c), 작성자(w)에 대한 bigram 역색인입니다.
+ * 검색어를 bigram으로 나누어 게시물 번호 후보군을 만들고,
+ * DB에서는 후보군(PK)에 대해서만 LIKE 조건을 확인하도록 합니다.
+ */
+@Log4j2
+@Component
+public class BoardSearchIndex {
+
+    private static final int GRAM = 2;
+    private static final long GRAM_ENTRY_BYTES = 80L;
+
+    private final Map<String, PostingList> titleIndex = new ConcurrentHashMap<>();
+    private final Map<String, PostingList> contentIndex = new ConcurrentHashMap<>();
+    private final Map<String, PostingList> writerIndex = new ConcurrentHashMap<>();
+
+    private final int maxCandidates;
+    private volatile boolean enabled = true;
+    private volatile boolean ready;
+
+    public BoardSearchIndex(@Value("${board.search.index.max-candidates:1000}") final int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * 게시물을 색인합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void index(final Long bno, final String title, final String content, final String writer) {
+        TransactionUtil.afterCommit(() -> {
+            addAll(titleIndex, bno, grams(title));
+            addAll(contentIndex, bno, grams(content));
+            addAll(writerIndex, bno, grams(writer));
+        });
+    }
+
+    /**
+     * 게시물 수정 내용을 색인에 반영합니다. 바뀐 bigram만 추가/삭제합니다.
+     */
+    public void update(final Long bno,
+            final String oldTitle, final String oldContent, final String oldWriter,
+            final String newTitle, final String newContent, final String newWriter) {
+        TransactionUtil.afterCommit(() -> {
+            replace(titleIndex, bno, grams(oldTitle), grams(newTitle));
+            replace(contentIndex, bno, grams(oldContent), grams(newContent));
+            replace(writerIndex, bno, grams(oldWriter), grams(newWriter));
+        });
+    }
+
+    /**
+     * 게시물을 색인에서 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void remove(final Long bno, final String title, final String content, final String writer) {
+        TransactionUtil.afterCommit(() -> {
+            removeAll(titleIndex, bno, grams(title));
+            removeAll(contentIndex, bno, grams(content));
+            removeAll(writerIndex, bno, grams(writer));
+        });
+    }
+
+    /**
+     * 검색 타입(t, c, w 조합)과 검색어로 게시물 번호 후보군을 조회합니다.
+     *
+     * @param type    검색 타입.
+     * @param keyword 검색어.
+     * @return 내림차순 게시물 번호 후보군. 색인으로 처리할 수 없으면(준비 전, 1글자 검색어, 후보군 초과) null을 반환합니다.
+     *         가장 짧은 bigram 목록부터 max-candidates를 넘으면 목록을 읽지 않고 null을 반환합니다.
+     */
+    public long[] search(final String type, final String keyword) {
+        if (!enabled || !ready || type == null || keyword == null) {
+            return null;
+        }
+        final Set<String> keywordGrams = grams(keyword);
+        if (keywordGrams.isEmpty()) {
+            return null;
+        }
+        final Set<Long> candidates = new HashSet<>();
+        for (String field : type.split("")) {
+            final Map<String, PostingList> index = indexOf(field);
+            if (index != null && !collect(index, keywordGrams, candidates)) {
+                return null;
+            }
+        }
+        return candidates.stream()
+                .mapToLong(Long::longValue)
+                .map(bno -> -bno)
+                .sorted()
+                .map(bno -> -bno)
+                .toArray();
+    }
+
+    /**
+     * 초기 색인이 끝났음을 표시합니다. 병합 기준에 못 미쳐 버퍼에 남은 목록도 모두 압축합니다.
+     */
+    public void markReady() {
+        for (Map<String, PostingList> index : List.of(titleIndex, contentIndex, writerIndex)) {
+            index.values().forEach(PostingList::compact);
+        }
+        this.ready = true;
+        log.info("Board Search Index Is Ready " + getStats());
+    }
+
+    /**
+     * 필드별 bigram 수, 게시물 번호 수, 대략적인 heap 크기(byte)를 반환합니다.
+     */
+    public Map<String, Map<String, Long>> getStats() {
+        return Map.of(
+                "title", stats(titleIndex),
+                "content", stats(contentIndex),
+                "writer", stats(writerIndex));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private Map<String, PostingList> indexOf(final String field) {
+        return switch (field) {
+            case "t" -> titleIndex;
+            case "c" -> contentIndex;
+            case "w" -> writerIndex;
+            default -> null;
+        };
+    }
+
+    /**
+     * 필드 하나에서 모든 bigram을 포함하는 게시물 번호를 candidates에 더합니다.
+     *
+     * @return 후보군이 max-candidates 이내이면 true, 넘으면 false.
+     */
+    private boolean collect(final Map<String, PostingList> index, final Set<String> keywordGrams,
+            final Set<Long> candidates) {
+        final List<PostingList> lists = new ArrayList<>(keywordGrams.size());
+        for (String gram : keywordGrams) {
+            final PostingList postingList = index.get(gram);
+            if (postingList == null) {
+                return true;
+            }
+            lists.add(postingList);
+        }
+        // 가장 짧은 목록부터 교집합을 구해서 비교 횟수를 줄입니다.
+        lists.sort(Comparator.comparingInt(PostingList::estimatedSize));
+        if (lists.get(0).estimatedSize() > maxCandidates) {
+            return false;
+        }
+        final PostingList.Cursor[] cursors = lists.stream()
+                .map(PostingList::cursor)
+                .toArray(PostingList.Cursor[]::new);
+        // 가장 짧은 목록의 번호마다 나머지 목록을 그 번호 이상으로 건너뛰고, 더 큰 번호가 나오면 그 번호부터 다시 맞춥니다.
+        long candidate = cursors[0].nextAtLeast(0L);
+        while (candidate != PostingList.END) {
+            long next = candidate;
+            for (int i = 1; i < cursors.length && next == candidate; i++) {
+                next = cursors[i].nextAtLeast(candidate);
+            }
+            if (next == PostingList.END) {
+                return true;
+            }
+            if (next == candidate) {
+                candidates.add(candidate);
+                if (candidates.size() > maxCandidates) {
+                    return false;
+                }
+                next = candidate + 1;
+            }
+            candidate = cursors[0].nextAtLeast(next);
+        }
+        return true;
+    }
+
+    private Map<String, Long> stats(final Map<String, PostingList> index) {
+        long postings = 0;
+        // bigram 키(String)와 ConcurrentHashMap 노드의 대략적인 크기
+        long bytes = index.size() * GRAM_ENTRY_BYTES;
+        for (PostingList postingList : index.values()) {
+            postings += postingList.estimatedSize();
+            bytes += postingList.estimatedBytes();
+        }
+        return Map.of(
+                "grams", (long) index.size(),
+                "postings", postings,
+                "bytes", bytes);
+    }
+
+    private void addAll(final Map<String, PostingList> index, final Long bno, final Set<String> grams) {
+        for (String gram : grams) {
+            index.computeIfAbsent(gram, key -> new PostingList()).add(bno);
+        }
+    }
+
+    private void removeAll(final Map<String, PostingList> index, final Long bno, final Set<String> grams) {
+        for (String gram : grams) {
+            final PostingList postingList = index.get(gram);
+            if (postingList != null) {
+                postingList.remove(bno);
+            }
+        }
+    }
+
+    private void replace(final Map<String, PostingList> index, final Long bno,
+            final Set<String> oldGrams, final Set<String> newGrams) {
+        final Set<String> removed = new HashSet<>(oldGrams);
+        removed.removeAll(newGrams);
+        final Set<String> added = new HashSet<>(newGrams);
+        added.removeAll(oldGrams);
+        removeAll(index, bno, removed);
+        addAll(index, bno, added);
+    }
+
+    // MySQL 기본 collation과 같이 대소문자를 구분하지 않도록 소문자로 정규화
+    private static Set<String> grams(final String text) {
+        if (text == null || text.length() < GRAM) {
+            return Set.of();
+        }
+        final String normalized = text.toLowerCase(Locale.ROOT);
+        final Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,57 @@
+package board.jpa.querydsl.util.search;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.domain.board.BoardEntity;
+import board.jpa.querydsl.repository.BoardRepository;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 애플리케이션 시작 시 전체 게시물을 읽어 {@link BoardSearchIndex}를 구성하는 클래스입니다.
+ * 구성이 끝나기 전까지 검색은 기존 LIKE 조건으로 처리됩니다.
+ */
+@Log4j2
+@Component
+public class BoardSearchIndexLoader {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    public BoardSearchIndexLoader(final BoardRepository boardRepository, final BoardSearchIndex boardSearchIndex) {
+        this.boardRepository = boardRepository;
+        this.boardSearchIndex = boardSearchIndex;
+    }
+
+    /**
+     * bno 기준 커서로 게시물을 나누어 읽으면서 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        log.info("Is Running Board Search Index Loader");
+        long afterBno = 0L;
+        long indexed = 0L;
+        while (true) {
+            final List<BoardEntity> batch = boardRepository.findBatchAfter(afterBno, PageRequest.of(0, BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (BoardEntity boardEntity : batch) {
+                boardSearchIndex.index(boardEntity.getBno(), boardEntity.getTitle(), boardEntity.getContent(),
+                        boardEntity.getWriter());
+            }
+            afterBno = batch.get(batch.size() - 1).getBno();
+            indexed += batch.size();
+        }
+        boardSearchIndex.markReady();
+        log.info("Board Search Index Loaded: " + indexed + " boards");
+    }
+}
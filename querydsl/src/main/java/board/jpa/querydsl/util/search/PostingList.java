@@ -0,0 +1,305 @@
+package board.jpa.querydsl.util.search;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/**
+ * 하나의 n-gram에 해당하는 게시물 번호 목록입니다.
+ * 정렬된 번호를 차이값(delta) varint로 압축해서 보관하고,
+ * 추가/삭제는 작은 버퍼에 모았다가 일정 개수가 넘으면 한 번에 병합합니다.
+ * 버퍼는 필요할 때만 만들고 병합 후에는 버리므로, 병합된 목록은 압축 배열만 남습니다.
+ * 교집합은 {@link Cursor}로 목록 전체를 풀지 않고 건너뛰며 구합니다.
+ */
+class PostingList {
+
+    /** 커서가 목록 끝에 도달했음을 나타냅니다. */
+    static final long END = Long.MAX_VALUE;
+
+    private static final int MERGE_THRESHOLD = 64;
+    private static final int SKIP_INTERVAL = 128;
+    private static final byte[] EMPTY = new byte[0];
+    private static final long[] NO_VALUES = new long[0];
+    private static final int[] NO_POSITIONS = new int[0];
+    // 객체 헤더, 필드, 배열 헤더 3개의 대략적인 크기 (64bit, compressed oops)
+    private static final long OBJECT_BYTES = 96L;
+    // TreeMap.Entry(40) + Long(16)
+    private static final long PENDING_ENTRY_BYTES = 56L;
+
+    private byte[] encoded = EMPTY;
+    private int encodedLength;
+    private int size;
+    // SKIP_INTERVAL개마다 항목의 값과 그 다음 항목의 시작 위치를 기록해서 앞부분을 풀지 않고 건너뜁니다.
+    private long[] skipValues = NO_VALUES;
+    private int[] skipPositions = NO_POSITIONS;
+
+    private TreeSet<Long> pendingAdds;
+    private TreeSet<Long> pendingRemoves;
+
+    synchronized void add(final long bno) {
+        if (pendingRemoves != null) {
+            pendingRemoves.remove(bno);
+        }
+        if (pendingAdds == null) {
+            pendingAdds = new TreeSet<>();
+        }
+        pendingAdds.add(bno);
+        mergeIfNeeded();
+    }
+
+    synchronized void remove(final long bno) {
+        if (pendingAdds != null) {
+            pendingAdds.remove(bno);
+        }
+        if (pendingRemoves == null) {
+            pendingRemoves = new TreeSet<>();
+        }
+        pendingRemoves.add(bno);
+        mergeIfNeeded();
+    }
+
+    /**
+     * 대략적인 게시물 수를 반환합니다. (병합 전 삭제 버퍼는 반영하지 않습니다)
+     */
+    synchronized int estimatedSize() {
+        return size + pendingSize(pendingAdds);
+    }
+
+    /**
+     * 병합 기준에 못 미친 버퍼도 압축 배열로 병합합니다. (초기 색인 이후)
+     */
+    synchronized void compact() {
+        merge();
+    }
+
+    synchronized boolean isCompact() {
+        return pendingAdds == null && pendingRemoves == null;
+    }
+
+    /**
+     * 오름차순으로 정렬된 게시물 번호 배열을 반환합니다.
+     */
+    synchronized long[] toArray() {
+        merge();
+        return decode();
+    }
+
+    /**
+     * 현재 목록의 커서를 반환합니다. 압축 배열은 병합할 때마다 새로 만들므로 그대로 공유하고,
+     * 병합 전 버퍼만 복사합니다. (조회 중에는 병합하지 않습니다)
+     */
+    synchronized Cursor cursor() {
+        return new Cursor(encoded, encodedLength, size, skipValues, skipPositions,
+                sorted(pendingAdds), sorted(pendingRemoves));
+    }
+
+    /**
+     * 목록이 차지하는 대략적인 heap 크기(byte)를 반환합니다.
+     */
+    synchronized long estimatedBytes() {
+        return OBJECT_BYTES + encoded.length + skipValues.length * 8L + skipPositions.length * 4L
+                + (pendingSize(pendingAdds) + pendingSize(pendingRemoves)) * PENDING_ENTRY_BYTES;
+    }
+
+    private void mergeIfNeeded() {
+        if (pendingSize(pendingAdds) + pendingSize(pendingRemoves) >= MERGE_THRESHOLD) {
+            merge();
+        }
+    }
+
+    private void merge() {
+        if (pendingSize(pendingAdds) + pendingSize(pendingRemoves) == 0) {
+            pendingAdds = null;
+            pendingRemoves = null;
+            return;
+        }
+        final long[] current = decode();
+        final TreeSet<Long> adds = pendingAdds == null ? new TreeSet<>() : pendingAdds;
+        final long[] merged = new long[current.length + adds.size()];
+        int length = 0;
+        int index = 0;
+        for (Long added : adds) {
+            while (index < current.length && current[index] < added) {
+                length = append(merged, length, current[index++]);
+            }
+            if (index < current.length && current[index] == added) {
+                index++;
+            }
+            length = append(merged, length, added);
+        }
+        while (index < current.length) {
+            length = append(merged, length, current[index++]);
+        }
+        pendingAdds = null;
+        pendingRemoves = null;
+        encode(merged, length);
+    }
+
+    private static int pendingSize(final TreeSet<Long> pending) {
+        return pending == null ? 0 : pending.size();
+    }
+
+    private static long[] sorted(final TreeSet<Long> pending) {
+        return pending == null ? NO_VALUES : pending.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private int append(final long[] target, final int length, final long bno) {
+        if (pendingRemoves != null && pendingRemoves.contains(bno)) {
+            return length;
+        }
+        target[length] = bno;
+        return length + 1;
+    }
+
+    private void encode(final long[] values, final int length) {
+        byte[] buffer = new byte[Math.max(16, length * 2)];
+        final int skipCount = (length + SKIP_INTERVAL - 1) / SKIP_INTERVAL;
+        final long[] newSkipValues = skipCount == 0 ? NO_VALUES : new long[skipCount];
+        final int[] newSkipPositions = skipCount == 0 ? NO_POSITIONS : new int[skipCount];
+        int position = 0;
+        long previous = 0;
+        for (int i = 0; i < length; i++) {
+            long delta = values[i] - previous;
+            previous = values[i];
+            if (buffer.length - position < 10) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            while ((delta & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            buffer[position++] = (byte) delta;
+            if (i % SKIP_INTERVAL == 0) {
+                newSkipValues[i / SKIP_INTERVAL] = values[i];
+                newSkipPositions[i / SKIP_INTERVAL] = position;
+            }
+        }
+        this.encoded = length == 0 ? EMPTY : Arrays.copyOf(buffer, position);
+        this.encodedLength = position;
+        this.size = length;
+        this.skipValues = newSkipValues;
+        this.skipPositions = newSkipPositions;
+    }
+
+    private long[] decode() {
+        final long[] values = new long[size];
+        int position = 0;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0 && position < encodedLength);
+            previous += delta;
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    /**
+     * 목록 스냅샷을 오름차순으로 건너뛰며 읽는 커서입니다. 한 스레드에서만 사용합니다.
+     * 압축 배열, 병합 전 추가 버퍼를 합친 값 중 삭제 버퍼에 없는 값만 반환합니다.
+     */
+    static final class Cursor {
+
+        private static final long NONE = Long.MIN_VALUE;
+
+        private final byte[] encoded;
+        private final int encodedLength;
+        private final int size;
+        private final long[] skipValues;
+        private final int[] skipPositions;
+        private final long[] adds;
+        private final long[] removes;
+
+        // 압축 배열에서 읽은 항목 수, 다음 항목 위치, 마지막으로 읽은 값
+        private int index;
+        private int position;
+        private long previous;
+        private long head = NONE;
+        private int addIndex;
+
+        private Cursor(final byte[] encoded, final int encodedLength, final int size,
+                final long[] skipValues, final int[] skipPositions, final long[] adds, final long[] removes) {
+            this.encoded = encoded;
+            this.encodedLength = encodedLength;
+            this.size = size;
+            this.skipValues = skipValues;
+            this.skipPositions = skipPositions;
+            this.adds = adds;
+            this.removes = removes;
+        }
+
+        /**
+         * target 이상인 가장 작은 게시물 번호로 이동합니다. target은 호출할 때마다 같거나 커야 합니다.
+         *
+         * @return target 이상인 가장 작은 게시물 번호. 없으면 {@link PostingList#END}.
+         */
+        long nextAtLeast(final long target) {
+            long candidate = target;
+            while (true) {
+                final long fromEncoded = advanceEncoded(candidate);
+                while (addIndex < adds.length && adds[addIndex] < candidate) {
+                    addIndex++;
+                }
+                final long fromAdds = addIndex < adds.length ? adds[addIndex] : END;
+                final long next = Math.min(fromEncoded, fromAdds);
+                if (next == END || Arrays.binarySearch(removes, next) < 0) {
+                    return next;
+                }
+                candidate = next + 1;
+            }
+        }
+
+        private long advanceEncoded(final long target) {
+            if (head != NONE && head >= target) {
+                return head;
+            }
+            // target보다 작은 마지막 건너뛰기 지점이 아직 읽지 않은 곳이면 그 다음 항목으로 바로 이동합니다.
+            final int skip = floorSkip(target);
+            if (skip >= 0 && (long) skip * SKIP_INTERVAL >= index) {
+                index = skip * SKIP_INTERVAL + 1;
+                position = skipPositions[skip];
+                previous = skipValues[skip];
+            }
+            while (index < size) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = encoded[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0 && position < encodedLength);
+                previous += delta;
+                index++;
+                if (previous >= target) {
+                    head = previous;
+                    return head;
+                }
+            }
+            head = END;
+            return END;
+        }
+
+        // skipValues[k] < target인 가장 큰 k, 없으면 -1
+        private int floorSkip(final long target) {
+            int low = 0;
+            int high = skipValues.length - 1;
+            int found = -1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (skipValues[mid] < target) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+}
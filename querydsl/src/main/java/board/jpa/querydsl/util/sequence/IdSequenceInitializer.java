@@ -0,0 +1,49 @@
+package board.jpa.querydsl.util.sequence;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.domain.IdSequence;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * IDENTITY 전략으로 생성된 기존 데이터와 ID가 겹치지 않도록,
+ * 시작 시 tbl_id_sequence의 다음 값을 각 테이블의 최대 ID 이후로 맞춥니다.
+ * EntityManagerFactory를 주입받아 스키마 생성(ddl-auto) 이후에 실행됩니다.
+ */
+@Log4j2
+@Component
+public class IdSequenceInitializer {
+
+    // 시퀀스 이름(= 테이블 이름) : ID 컬럼
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "tbl_board", "bno",
+            "tbl_board_images", "imageId",
+            "tbl_reply", "rno",
+            "tbl_like", "likeId");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public IdSequenceInitializer(final JdbcTemplate jdbcTemplate, final EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        SEQUENCES.forEach((table, column) -> {
+            final Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(`" + column + "`), 0) FROM `" + table + "`", Long.class);
+            final long nextValue = maxId + IdSequence.ALLOCATION_SIZE + 1;
+            jdbcTemplate.update("INSERT INTO `" + IdSequence.TABLE + "` (`sequence_name`, `next_val`) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE `next_val` = GREATEST(`next_val`, VALUES(`next_val`))",
+                    table, nextValue);
+            log.info("Id Sequence " + table + " Is Ready (max id: " + maxId + ")");
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package board.jpa.querydsl.util.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 작업을 실행합니다.
+     * 트랜잭션 밖에서 호출되면 즉시 실행하고, 롤백되면 실행하지 않습니다.
+     *
+     * @param task 커밋 이후 실행할 작업.
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 이후(커밋, 롤백 모두)에 작업을 실행합니다.
+     * afterCommit으로 등록한 작업이 모두 실행된 뒤에 실행되며, 트랜잭션 밖에서 호출되면 즉시 실행합니다.
+     *
+     * @param task 트랜잭션 종료 이후 실행할 작업.
+     */
+    public static void afterCompletion(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.run();
+            }
+        });
+    }
+}
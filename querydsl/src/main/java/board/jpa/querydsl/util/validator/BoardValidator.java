@@ -2,13 +2,9 @@ package board.jpa.querydsl.util.validator;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import board.jpa.querydsl.domain.board.BoardEntity;
 import board.jpa.querydsl.dto.board.BoardCreateDTO;
 import board.jpa.querydsl.dto.board.BoardUpdateDTO;
-import board.jpa.querydsl.exception.DataNotFoundException;
-import board.jpa.querydsl.exception.errorcode.BoardErrorMessage;
 import board.jpa.querydsl.repository.BoardRepository;
 
 @Component
@@ -21,14 +17,6 @@ public class BoardValidator {
         this.boardRepository = boardRepository;
     }
 
-    @Transactional(readOnly = true)
-    public void findBoardNumber(final Long bno) {
-        final BoardEntity boardEntity = boardRepository.findById(bno)
-                .orElseThrow(
-                        () -> new DataNotFoundException(
-                                BoardErrorMessage.BOARD_NUMBER_NOT_FOUND.getFormattedMessage(String.valueOf(bno))));
-    }
-
     public void validationBoardCreateData(final BoardCreateDTO boardCreateDTO) {
         ValidationUtil.validateNotEmnty(boardCreateDTO.getTitle(), "제목은 필수 사항입니다.");
         ValidationUtil.validateNotEmnty(boardCreateDTO.getWriter(), "작성자는 필수 사항입니다.");
@@ -4,11 +4,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import board.jpa.querydsl.domain.member.MemberEntity;
 import board.jpa.querydsl.dto.member.MemberCreateDTO;
 import board.jpa.querydsl.dto.member.MemberUpdateDTO;
 import board.jpa.querydsl.exception.DuplicateEmailException;
-import board.jpa.querydsl.exception.MemberNotFoundException;
 import board.jpa.querydsl.exception.errorcode.MemberErrorMessage;
 import board.jpa.querydsl.repository.MemberRepository;
 
@@ -22,18 +20,9 @@ public class MemberValidator {
         this.memberRepository = memberRepository;
     }
 
-    @Transactional(readOnly = true)
-    public void findMemberEmail(final String email) {
-        final MemberEntity memberEntity = memberRepository.findById(email)
-                .orElseThrow(
-                        () -> new MemberNotFoundException(
-                                String.format(MemberErrorMessage.MEMBER_NOT_FOUND.getFormattedMessage(email))));
-    }
-
     @Transactional(readOnly = true)
     public void duplicateMemberEmail(final String email) {
-        boolean isDuplicate = memberRepository.findById(email)
-                .isPresent();
+        boolean isDuplicate = memberRepository.existsById(email);
         if (isDuplicate) {
             throw new DuplicateEmailException(
                     MemberErrorMessage.DUPLICATE_EMAIL.getMessage());
@@ -0,0 +1,135 @@
+package board.jpa.querydsl.util.version;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import board.jpa.querydsl.util.transaction.TransactionUtil;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 게시물별 변경 버전을 메모리에 보관하는 클래스입니다. (조건부 GET의 ETag, Last-Modified 용도)
+ * 게시물, 이미지, 댓글, 좋아요가 바뀌면 커밋 이후 버전을 올리고,
+ * 클라이언트가 보낸 If-None-Match가 현재 버전과 같으면 DB 조회 없이 304로 응답할 수 있습니다.
+ *
+ * 버전은 변경 시각(ms)이며 항상 증가합니다. 최대 개수를 넘으면 가장 오래 변경이 없던 게시물부터 제거하고,
+ * 기록이 없는 게시물은 제거된 버전 중 가장 큰 값(floor)을 버전으로 사용하므로
+ * 제거되었다고 해서 이전 버전과 같은 ETag가 다시 나오지는 않습니다. (불필요한 200 응답만 늘어납니다)
+ * 조회수는 버전에 포함하지 않으므로 304 응답에서는 클라이언트가 가진 조회수가 그대로 사용됩니다.
+ */
+@Component
+public class BoardVersionRegistry {
+
+    private final int maxSize;
+    private final LinkedHashMap<Long, Long> versions;
+    private long floor;
+    private long last;
+
+    public BoardVersionRegistry(@Value("${board.version.max-size:100000}") final int maxSize) {
+        this.maxSize = maxSize;
+        this.floor = System.currentTimeMillis();
+        this.last = floor;
+        this.versions = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Long> eldest) {
+                if (size() > BoardVersionRegistry.this.maxSize) {
+                    floor = Math.max(floor, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 게시물의 현재 버전을 반환합니다. 응답 내용을 조회하기 전에 읽어야 합니다.
+     * (내용 조회 후 버전을 읽으면 그 사이 변경된 버전이 이전 내용에 붙을 수 있습니다)
+     */
+    public synchronized long version(final Long bno) {
+        final Long version = versions.get(bno);
+        return version == null ? floor : version;
+    }
+
+    /**
+     * 게시물 버전을 올립니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     * 캐시 무효화보다 나중에 반영되도록 서비스 메서드의 마지막에 호출합니다.
+     */
+    public void bump(final Long bno) {
+        TransactionUtil.afterCommit(() -> bumpNow(bno));
+    }
+
+    synchronized void bumpNow(final Long bno) {
+        last = Math.max(last + 1, System.currentTimeMillis());
+        // 삽입 순서를 최신 변경 순서로 유지합니다.
+        versions.remove(bno);
+        versions.put(bno, last);
+    }
+
+    /**
+     * 리소스 이름, 게시글 번호, 버전으로 ETag를 만듭니다.
+     */
+    public static String eTag(final String resource, final Long bno, final long version) {
+        return "\"" + resource + "-" + bno + "-" + version + "\"";
+    }
+
+    /**
+     * 같은 게시물에서 요청 조건(페이지, 크기, 검색 조건 등)에 따라 응답이 달라지는 리소스의 ETag를 만듭니다.
+     * 조건 문자열을 그대로 인코딩해서 붙이므로 조건이 다른 응답은 ETag가 겹치지 않습니다.
+     */
+    public static String eTag(final String resource, final Long bno, final long version, final String variant) {
+        return "\"" + resource + "-" + bno + "-" + version + "-"
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(variant.getBytes(StandardCharsets.UTF_8))
+                + "\"";
+    }
+
+    /**
+     * 조건부 요청 헤더로 변경 여부를 확인합니다. 응답할 리소스가 항상 있는 경우에 사용합니다.
+     *
+     * @return 클라이언트가 가진 응답이 최신이면 true.
+     */
+    public static boolean isNotModified(final HttpServletRequest request, final String eTag, final long version) {
+        return isNotModified(request, eTag, version, () -> true);
+    }
+
+    /**
+     * 조건부 요청 헤더로 변경 여부를 확인합니다.
+     * If-None-Match가 있으면 ETag로만 판단하고, 없으면 If-Modified-Since를 초 단위로 비교합니다.
+     * If-None-Match: * 는 리소스가 있기만 하면 일치하므로 exists로 리소스가 있는지 확인합니다.
+     * (버전은 기록이 없는 게시물에도 floor를 반환하므로 버전만으로는 없는 게시물을 구분할 수 없습니다)
+     *
+     * @param exists * 와 비교할 때만 호출되는 리소스 존재 여부.
+     * @return 클라이언트가 가진 응답이 최신이면 true.
+     */
+    public static boolean isNotModified(final HttpServletRequest request, final String eTag, final long version,
+            final BooleanSupplier exists) {
+        final String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals(eTag)) {
+                    return true;
+                }
+                if (value.equals("*")) {
+                    return exists.getAsBoolean();
+                }
+            }
+            return false;
+        }
+        final long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader("If-Modified-Since");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // HTTP 날짜는 초 단위이므로 같은 초 안에서의 변경을 놓치지 않도록 이전 초인 경우만 304
+        return ifModifiedSince >= 0 && version / 1000 < ifModifiedSince / 1000;
+    }
+}
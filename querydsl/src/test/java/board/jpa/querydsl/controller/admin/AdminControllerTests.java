@@ -0,0 +1,51 @@
+package board.jpa.querydsl.controller.admin;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AdminControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String JUNIT_TEST_MEMBER_EMAIL = "thistrik@naver.com";
+
+    @Test
+    @DisplayName("Controller: 관리자 통계 조회 테스트")
+    @WithMockUser(username = JUNIT_TEST_MEMBER_EMAIL, roles = { "ADMIN" })
+    public void getStatsTest() throws Exception {
+        log.info("=== Start Admin Stats Controller Test ===");
+        mockMvc.perform(get("/api/admin/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.counterReconciler.skippedBoards").exists())
+                .andExpect(jsonPath("$.likeEvents.likes").exists())
+                .andExpect(jsonPath("$.boardCache.hits").exists())
+                .andExpect(jsonPath("$.memberLikeCache").exists())
+                .andExpect(jsonPath("$.searchIndex.content.bytes").exists());
+        log.info("=== End Admin Stats Controller Test ===");
+    }
+
+    @Test
+    @DisplayName("Controller: 관리자가 아닌 회원의 통계 조회 거부 테스트")
+    @WithMockUser(username = JUNIT_TEST_MEMBER_EMAIL, roles = { "USER" })
+    public void getStatsForbiddenTest() throws Exception {
+        log.info("=== Start Admin Stats Forbidden Controller Test ===");
+        mockMvc.perform(get("/api/admin/stats"))
+                .andExpect(status().isForbidden());
+        log.info("=== End Admin Stats Forbidden Controller Test ===");
+    }
+}
@@ -6,7 +6,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +34,8 @@ import board.jpa.querydsl.service.BoardService;
 import board.jpa.querydsl.util.cookie.ManagementCookie;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.log4j.Log4j2;
@@ -59,6 +65,9 @@ public class BoardControllerTests {
         @Mock
         private ManagementCookie managementCookie;
 
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
         // 테스트 시작 전 메모리 선 참조
         private static final Long JUNIT_TEST_BNO = 2L;
         private static final String JUNIT_TEST_TITLE = "Junit_Test_Title";
@@ -211,4 +220,49 @@ public class BoardControllerTests {
                                 .andExpect(flash().attributeExists("response"));
                 log.info("=== End POST Update Board Controller Test ===");
         }
+
+        @Test
+        @DisplayName("Controller: 게시물 조회, 댓글 리스트 ETag 조건부 요청 304 테스트")
+        public void getReadBoardNotModifiedTest() throws Exception {
+                log.info("=== Start GET Read Board Not Modified Controller Test ===");
+                // GIVEN
+                MvcResult readResult = mockMvc.perform(get("/api/board/read/{bno}", JUNIT_TEST_BNO))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists(HttpHeaders.ETAG))
+                                .andReturn();
+                String boardETag = readResult.getResponse().getHeader(HttpHeaders.ETAG);
+                MvcResult replyResult = mockMvc.perform(get("/api/reply/list/{bno}", JUNIT_TEST_BNO))
+                                .andExpect(status().isOk())
+                                .andReturn();
+                String replyETag = replyResult.getResponse().getHeader(HttpHeaders.ETAG);
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.setStatisticsEnabled(true);
+                statistics.clear();
+                // WHEN & THEN
+                mockMvc.perform(get("/api/board/read/{bno}", JUNIT_TEST_BNO)
+                                .header(HttpHeaders.IF_NONE_MATCH, boardETag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, boardETag));
+                mockMvc.perform(get("/api/reply/list/{bno}", JUNIT_TEST_BNO)
+                                .header(HttpHeaders.IF_NONE_MATCH, replyETag))
+                                .andExpect(status().isNotModified());
+                // 304 응답은 DB를 조회하지 않습니다.
+                Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+                mockMvc.perform(get("/api/board/read/{bno}", JUNIT_TEST_BNO)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"board-" + JUNIT_TEST_BNO + "-0\""))
+                                .andExpect(status().isOk());
+                // 다른 페이지의 댓글 목록은 같은 ETag로 304가 되지 않습니다.
+                mockMvc.perform(get("/api/reply/list/{bno}", JUNIT_TEST_BNO)
+                                .param("page", "2")
+                                .header(HttpHeaders.IF_NONE_MATCH, replyETag))
+                                .andExpect(status().isOk());
+                // If-None-Match: * 는 게시물이 있을 때만 304, 없으면 게시물 조회로 넘어갑니다.
+                mockMvc.perform(get("/api/board/read/{bno}", JUNIT_TEST_BNO)
+                                .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                                .andExpect(status().isNotModified());
+                Assertions.assertThrows(ServletException.class,
+                                () -> mockMvc.perform(get("/api/board/read/{bno}", Long.MAX_VALUE)
+                                                .header(HttpHeaders.IF_NONE_MATCH, "*")));
+                log.info("=== End GET Read Board Not Modified Controller Test ===");
+        }
 }
@@ -70,8 +70,12 @@ public class LikeControllerTest {
         // GIVEN
         log.info("=== Start Toggle Like Controller Test ===");
         // WHEN
-        when(likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_TEST_MEMBER_EMAIL)).thenReturn(1L);
-        when(likeService.countLike(JUNIT_TEST_BNO)).thenReturn(JUNIT_TEST_RETURN_COUNT);
+        when(likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_TEST_MEMBER_EMAIL)).thenReturn(LikeToggleDTO.builder()
+                .bno(JUNIT_TEST_BNO)
+                .email(JUNIT_TEST_MEMBER_EMAIL)
+                .liked(true)
+                .likeCount(JUNIT_TEST_RETURN_COUNT.longValue())
+                .build());
         // REQUEST
         MockHttpServletResponse response = mockMvc.perform(
                 post("/spring/like/toggle/board/" + JUNIT_TEST_BNO)
@@ -1,12 +1,18 @@
 package board.jpa.querydsl.repository.board;
 
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,10 +27,18 @@ import org.springframework.data.domain.Sort;
 import board.jpa.querydsl.domain.board.BoardEntity;
 import board.jpa.querydsl.domain.board.BoardFileEntity;
 import board.jpa.querydsl.dto.board.BoardCreateDTO;
+import board.jpa.querydsl.dto.board.BoardDTO;
+import board.jpa.querydsl.dto.board.BoardListDTO;
 import board.jpa.querydsl.dto.board.BoardUpdateDTO;
 import board.jpa.querydsl.exception.BoardNumberNotFoundException;
 import board.jpa.querydsl.exception.DataNotFoundException;
 import board.jpa.querydsl.repository.BoardRepository;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
+import board.jpa.querydsl.util.page.PageRequestDTO;
+import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.search.BoardSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 import lombok.extern.log4j.Log4j2;
 
@@ -35,6 +49,15 @@ public class BoardRepositoryTests {
     @Autowired(required = false)
     private BoardRepository boardRepository;
 
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private static final String JUNIT_TEST_TITLE = "Junit_Test_Title";
     private static final String JUNIT_TEST_CONTENT = "Junit_Test_Content";
     private static final String JUNIT_TEST_WRITER = "Junit_Test_Writer";
@@ -206,6 +229,24 @@ public class BoardRepositoryTests {
         log.info("=== End List Board Repository Test ===");
     }
 
+    @Test
+    @Transactional
+    @DisplayName("Repository: 게시물 리스트 좋아요 수, 댓글 수 포함 테스트")
+    public void listBoardWithCountsRepositoryTest() {
+        // GIVEN
+        log.info("=== Start List Board With Counts Repository Test ===");
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder().page(1).size(10).build();
+        // WHEN
+        PageResponseDTO<BoardListDTO> page = boardRepository.listBoard(pageRequestDTO);
+        // THEN
+        for (BoardListDTO boardListDTO : page.getList()) {
+            BoardEntity boardEntity = boardRepository.findById(boardListDTO.getBno()).orElseThrow();
+            Assertions.assertEquals(boardEntity.getLikeCount(), boardListDTO.getLikeCount());
+            Assertions.assertEquals(boardEntity.getReplyCount(), boardListDTO.getReplyCount());
+        }
+        log.info("=== End List Board With Counts Repository Test ===");
+    }
+
     @Test
     @Transactional
     @DisplayName("Repository: 게시물 조회수 업데이트 테스트")
@@ -222,4 +263,264 @@ public class BoardRepositoryTests {
         log.info("조회수: " + findBoardViewCount.getViewCount());
         log.info("=== End Board View Count Repository Test ===");
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Repository: 게시물 커서 페이징 테스트")
+    public void listBoardCursorRepositoryTest() {
+        // GIVEN
+        log.info("=== Start List Board Cursor Repository Test ===");
+        PageRequestDTO firstRequest = PageRequestDTO.builder().size(10).build();
+        // WHEN
+        CursorResponseDTO<BoardListDTO> firstPage = boardRepository.listBoardCursor(firstRequest);
+        // THEN
+        Assertions.assertTrue(firstPage.getList().size() <= 10);
+        if (firstPage.isHasNext()) {
+            PageRequestDTO nextRequest = PageRequestDTO.builder()
+                    .size(10)
+                    .afterBno(Long.valueOf(firstPage.getNextCursor()))
+                    .build();
+            CursorResponseDTO<BoardListDTO> nextPage = boardRepository.listBoardCursor(nextRequest);
+            Long lastBno = firstPage.getList().get(firstPage.getList().size() - 1).getBno();
+            nextPage.getList().forEach(board -> Assertions.assertTrue(board.getBno() < lastBno));
+        }
+        // size 0은 1건씩 조회합니다. (다음 커서를 만들 수 있어야 함)
+        CursorResponseDTO<BoardListDTO> zeroSizePage = boardRepository.listBoardCursor(
+                PageRequestDTO.builder().size(0).build());
+        Assertions.assertTrue(zeroSizePage.getList().size() <= 1);
+        Assertions.assertEquals(firstPage.isHasNext() || firstPage.getList().size() > 1, zeroSizePage.isHasNext());
+        log.info("=== End List Board Cursor Repository Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Repository: 오프셋 페이징과 커서 페이징 지연시간 비교 테스트")
+    public void listBoardOffsetVsCursorLatencyTest() {
+        // GIVEN
+        log.info("=== Start List Board Offset Vs Cursor Latency Test ===");
+        int size = 10;
+        int repeat = 5;
+        long total = boardRepository.countBoard(PageRequestDTO.builder().build());
+        int lastPage = (int) ((total + size - 1) / size);
+        if (lastPage < 2) {
+            log.info("Not Enough Boards To Compare: " + total);
+            return;
+        }
+        // WHEN & THEN
+        long firstCursorElapsed = 0L;
+        long deepCursorElapsed = 0L;
+        for (int page : new int[] { 2, Math.max(2, lastPage / 2), lastPage }) {
+            // bno 사이에 빈 번호가 있을 수 있으므로, 커서는 이전 페이지의 마지막 게시물 번호로 만듭니다.
+            List<BoardListDTO> prevPage = boardRepository.listBoard(
+                    PageRequestDTO.builder().page(page - 1).size(size).build()).getList();
+            Long afterBno = prevPage.get(prevPage.size() - 1).getBno();
+            PageRequestDTO offsetRequest = PageRequestDTO.builder().page(page).size(size).build();
+            PageRequestDTO cursorRequest = PageRequestDTO.builder().size(size).afterBno(afterBno).build();
+
+            // 여러 번 실행해서 가장 빠른 시간을 비교합니다. (첫 실행의 캐시 적재, GC 영향 제외)
+            long offsetElapsed = Long.MAX_VALUE;
+            long cursorElapsed = Long.MAX_VALUE;
+            PageResponseDTO<BoardListDTO> offsetPage = null;
+            CursorResponseDTO<BoardListDTO> cursorPage = null;
+            for (int i = 0; i < repeat; i++) {
+                long offsetStart = System.nanoTime();
+                offsetPage = boardRepository.listBoard(offsetRequest);
+                offsetElapsed = Math.min(offsetElapsed, System.nanoTime() - offsetStart);
+
+                long cursorStart = System.nanoTime();
+                cursorPage = boardRepository.listBoardCursor(cursorRequest);
+                cursorElapsed = Math.min(cursorElapsed, System.nanoTime() - cursorStart);
+            }
+
+            log.info(String.format("page=%d offset=%.2fms(%d rows) cursor=%.2fms(%d rows)",
+                    page, offsetElapsed / 1_000_000.0, offsetPage.getList().size(),
+                    cursorElapsed / 1_000_000.0, cursorPage.getList().size()));
+            // 같은 위치의 페이지는 두 방식 모두 같은 게시물을 같은 순서로 반환합니다.
+            Assertions.assertEquals(
+                    offsetPage.getList().stream().map(BoardListDTO::getBno).collect(Collectors.toList()),
+                    cursorPage.getList().stream().map(BoardListDTO::getBno).collect(Collectors.toList()));
+            if (page == 2) {
+                firstCursorElapsed = cursorElapsed;
+            }
+            deepCursorElapsed = cursorElapsed;
+        }
+        // 커서 페이징은 앞선 행을 건너뛰지 않으므로 깊은 페이지에서도 느려지지 않습니다. (측정 오차 허용)
+        Assertions.assertTrue(deepCursorElapsed <= firstCursorElapsed * 3 + 2_000_000L,
+                "Cursor Slowed Down With Depth: " + firstCursorElapsed + "ns -> " + deepCursorElapsed + "ns");
+        log.info("=== End List Board Offset Vs Cursor Latency Test ===");
+    }
+
+    @Test
+    @DisplayName("Repository: 역색인 검색과 LIKE 검색 지연시간 비교 테스트")
+    public void listBoardIndexVsLikeLatencyTest() {
+        // GIVEN
+        log.info("=== Start List Board Index Vs Like Latency Test ===");
+        // 색인은 커밋 이후에 반영되므로 테스트 트랜잭션 없이 저장하고 끝나면 지웁니다.
+        int boardCount = 20;
+        String token = "Idx" + uuid.substring(0, 8);
+        List<BoardEntity> seeded = new ArrayList<>();
+        for (int i = 0; i < boardCount; i++) {
+            seeded.add(BoardEntity.createBoard(token + " " + JUNIT_TEST_TITLE, JUNIT_TEST_WRITER, JUNIT_TEST_CONTENT));
+        }
+        seeded = boardRepository.saveAll(seeded);
+        seeded.forEach(boardEntity -> boardSearchIndex.index(boardEntity.getBno(), boardEntity.getTitle(),
+                boardEntity.getContent(), boardEntity.getWriter()));
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder()
+                .type("tcw")
+                .keyword(token)
+                .size(10)
+                .build();
+        try {
+            // WHEN
+            long lookupStart = System.nanoTime();
+            long[] candidates = boardSearchIndex.search(pageRequestDTO.getType(), pageRequestDTO.getKeyword());
+            long lookupElapsed = System.nanoTime() - lookupStart;
+
+            long indexStart = System.nanoTime();
+            PageResponseDTO<BoardListDTO> indexPage = boardRepository.listBoard(pageRequestDTO);
+            long indexElapsed = System.nanoTime() - indexStart;
+
+            boardSearchIndex.setEnabled(false);
+            long likeStart = System.nanoTime();
+            PageResponseDTO<BoardListDTO> likePage;
+            try {
+                likePage = boardRepository.listBoard(pageRequestDTO);
+            } finally {
+                boardSearchIndex.setEnabled(true);
+            }
+            long likeElapsed = System.nanoTime() - likeStart;
+            // THEN
+            log.info(String.format("index lookup=%.3fms(%s candidates) index=%.2fms like=%.2fms",
+                    lookupElapsed / 1_000_000.0, candidates == null ? "fallback" : String.valueOf(candidates.length),
+                    indexElapsed / 1_000_000.0, likeElapsed / 1_000_000.0));
+            // 색인 경로를 탔는지, 후보군이 저장한 게시물과 같은지 확인합니다.
+            Assertions.assertNotNull(candidates);
+            Assertions.assertEquals(
+                    seeded.stream().map(BoardEntity::getBno).collect(Collectors.toSet()),
+                    Arrays.stream(candidates).boxed().collect(Collectors.toSet()));
+            Assertions.assertEquals(boardCount, indexPage.getTotal().longValue());
+            Assertions.assertEquals(likePage.getTotal(), indexPage.getTotal());
+            Assertions.assertEquals(
+                    likePage.getList().stream().map(BoardListDTO::getBno).toList(),
+                    indexPage.getList().stream().map(BoardListDTO::getBno).toList());
+        } finally {
+            seeded.forEach(boardEntity -> boardSearchIndex.remove(boardEntity.getBno(), boardEntity.getTitle(),
+                    boardEntity.getContent(), boardEntity.getWriter()));
+            boardRepository.deleteAll(seeded);
+        }
+        log.info("=== End List Board Index Vs Like Latency Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Repository: 이미지가 여러 장인 게시물도 리스트에 한 행만 조회 테스트")
+    public void listBoardOneRowPerBoardTest() {
+        // GIVEN
+        log.info("=== Start List Board One Row Per Board Test ===");
+        int boardCount = 3;
+        int imagesPerBoard = 5;
+        List<Long> seeded = new ArrayList<>();
+        for (int i = 0; i < boardCount; i++) {
+            BoardEntity boardEntity = BoardEntity.createBoard(JUNIT_TEST_TITLE, JUNIT_TEST_WRITER, JUNIT_TEST_CONTENT);
+            for (int ord = 0; ord < imagesPerBoard; ord++) {
+                BoardFileEntity fileEntity = BoardFileEntity.builder()
+                        .uuid(UUID.randomUUID().toString())
+                        .fileName(ord + "_" + JUNIT_TEST_FILE_NAME)
+                        .build();
+                fileEntity.setBoardEntity(boardEntity);
+                boardEntity.addImage(fileEntity);
+            }
+            seeded.add(boardRepository.save(boardEntity).getBno());
+        }
+        boardRepository.flush();
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder()
+                .size(100)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .build();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        // WHEN
+        PageResponseDTO<BoardListDTO> page = boardRepository.listBoard(pageRequestDTO);
+        long statementCount = statistics.getPrepareStatementCount();
+        // THEN
+        List<Long> bnos = page.getList().stream().map(BoardListDTO::getBno).collect(Collectors.toList());
+        Assertions.assertEquals(bnos.size(), new HashSet<>(bnos).size(), "Board Should Appear Once");
+        Assertions.assertTrue(bnos.containsAll(seeded));
+        page.getList().stream()
+                .filter(board -> seeded.contains(board.getBno()))
+                .forEach(board -> Assertions.assertEquals("0_" + JUNIT_TEST_FILE_NAME, board.getFileName()));
+        Assertions.assertEquals(Math.min(page.getTotal(), 100L), (long) page.getList().size());
+        Assertions.assertEquals(2L, statementCount, "COUNT + LIST");
+        log.info("=== End List Board One Row Per Board Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Repository: 게시물 상세 DTO 조회와 엔티티 조회 쿼리, 할당량, 지연시간 비교 테스트")
+    public void readBoardProjectionVsEntityBenchmarkTest() {
+        // GIVEN
+        log.info("=== Start Read Board Projection Vs Entity Benchmark Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.clear();
+        // WHEN
+        statistics.clear();
+        BoardDTO projected = boardRepository.readBoard(JUNIT_TEST_BNO).orElseThrow();
+        long projectionStatements = statistics.getPrepareStatementCount();
+        long projectionEntities = statistics.getEntityLoadCount();
+
+        entityManager.clear();
+        statistics.clear();
+        List<String> entityFileNames = readBoardEntity();
+        long entityStatements = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("statements projection=" + projectionStatements + " entity=" + entityStatements);
+        Assertions.assertEquals(1, projectionStatements);
+        Assertions.assertEquals(0, projectionEntities);
+        Assertions.assertEquals(2, entityStatements);
+        Assertions.assertEquals(entityFileNames, projected.getFileName());
+
+        // 마이크로벤치마크 (매 반복마다 영속성 컨텍스트를 비워 1차 캐시 영향 제거)
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int warmUp = 200;
+        int iterations = 1_000;
+        for (int i = 0; i < warmUp; i++) {
+            boardRepository.readBoard(JUNIT_TEST_BNO);
+            readBoardEntity();
+            entityManager.clear();
+        }
+        long projectionBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        long projectionStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            boardRepository.readBoard(JUNIT_TEST_BNO);
+            entityManager.clear();
+        }
+        long projectionElapsed = System.nanoTime() - projectionStart;
+        projectionBytes = threadMXBean.getCurrentThreadAllocatedBytes() - projectionBytes;
+
+        long entityBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        long entityStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            readBoardEntity();
+            entityManager.clear();
+        }
+        long entityElapsed = System.nanoTime() - entityStart;
+        entityBytes = threadMXBean.getCurrentThreadAllocatedBytes() - entityBytes;
+
+        log.info(String.format("projection: %.1fus %dB/op, entity: %.1fus %dB/op",
+                projectionElapsed / 1_000.0 / iterations, projectionBytes / iterations,
+                entityElapsed / 1_000.0 / iterations, entityBytes / iterations));
+        log.info("=== End Read Board Projection Vs Entity Benchmark Test ===");
+    }
+
+    // 기존 readBoard 방식: 엔티티 조회 후 이미지 컬렉션 지연 로딩
+    private List<String> readBoardEntity() {
+        BoardEntity boardEntity = boardRepository.findById(JUNIT_TEST_BNO).orElseThrow();
+        return boardEntity.getFileNames().stream()
+                .map(BoardFileEntity::getFileName)
+                .collect(Collectors.toList());
+    }
 }
@@ -1,6 +1,7 @@
 package board.jpa.querydsl.repository.like;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,16 +9,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import board.jpa.querydsl.domain.board.BoardEntity;
 import board.jpa.querydsl.domain.like.LikeEntity;
+import board.jpa.querydsl.dto.like.LikeCountDTO;
+import board.jpa.querydsl.dto.like.LikeDailyDTO;
 import board.jpa.querydsl.dto.like.LikeToggleDTO;
 import board.jpa.querydsl.exception.BoardNumberNotFoundException;
 import board.jpa.querydsl.exception.DataNotFoundException;
 import board.jpa.querydsl.exception.LikeToggleNotFoundException;
 import board.jpa.querydsl.repository.BoardRepository;
 import board.jpa.querydsl.repository.LikeRepository;
+import board.jpa.querydsl.util.counter.LikeDailyRollup;
+import board.jpa.querydsl.util.page.PageRequestDTO;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -30,6 +36,12 @@ public class LikeRepositoryTests {
     @Autowired(required = false)
     private BoardRepository boardRepository;
 
+    @Autowired
+    private LikeDailyRollup likeDailyRollup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static final Long JUNIT_TEST_BNO = 7L;
     private static final String JUNIT_TEST_EMAIL = "thistrik@naver.com";
 
@@ -108,4 +120,43 @@ public class LikeRepositoryTests {
         log.info("회원 라이크 좋아요 체크: " + likeEntity);
         log.info("=== End Check Toggle Like Member Repository Test ===");
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Repository: 기간 내 좋아요 많은 게시물, 일별 좋아요 수 집계 테스트")
+    public void likeRollupQueryTest() {
+        // GIVEN
+        log.info("=== Start Like Rollup Query Test ===");
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(29);
+        likeDailyRollup.rebuild();
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .size(10)
+                .build();
+        // WHEN
+        long start = System.nanoTime();
+        List<LikeCountDTO> topLiked = likeRepository.topLikedBoards(pageRequestDTO);
+        List<LikeDailyDTO> dailyLike = likeRepository.dailyLikes(pageRequestDTO, JUNIT_TEST_BNO);
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        // THEN
+        log.info("topLiked: " + topLiked + ", dailyLike: " + dailyLike + ", elapsed: " + elapsedMicros + "us");
+        // 집계 테이블 결과는 원본 테이블 GROUP BY 결과와 같아야 합니다. (삭제 처리된 게시물 제외)
+        for (LikeCountDTO likeCountDTO : topLiked) {
+            Assertions.assertEquals(0L, jdbcTemplate.queryForObject("SELECT `isDeleted` FROM `tbl_board` "
+                    + "WHERE `bno` = ?", Long.class, likeCountDTO.getBno()));
+            Assertions.assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_like` "
+                    + "WHERE `bno` = ? AND `createDate` BETWEEN ? AND ?", Long.class,
+                    likeCountDTO.getBno(), startDate, endDate), likeCountDTO.getLikeCount());
+        }
+        for (int i = 1; i < topLiked.size(); i++) {
+            Assertions.assertTrue(topLiked.get(i - 1).getLikeCount() >= topLiked.get(i).getLikeCount());
+        }
+        long dailyTotal = dailyLike.stream().mapToLong(LikeDailyDTO::getLikeCount).sum();
+        Assertions.assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_like` "
+                + "WHERE `bno` = ? AND `createDate` BETWEEN ? AND ?", Long.class,
+                JUNIT_TEST_BNO, startDate, endDate), dailyTotal);
+        log.info("=== End Like Rollup Query Test ===");
+    }
 }
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import board.jpa.querydsl.domain.board.BoardEntity;
 import board.jpa.querydsl.domain.reply.ReplyEntity;
+import board.jpa.querydsl.domain.reply.ReplyThreadKey;
 import board.jpa.querydsl.dto.reply.ReplyCreateDTO;
 import board.jpa.querydsl.dto.reply.ReplyListDTO;
 import board.jpa.querydsl.dto.reply.ReplyUpdateDTO;
@@ -24,8 +28,10 @@ import board.jpa.querydsl.exception.DataNotFoundException;
 import board.jpa.querydsl.exception.ReplyNumberNotFoundException;
 import board.jpa.querydsl.repository.BoardRepository;
 import board.jpa.querydsl.repository.ReplyRepository;
+import board.jpa.querydsl.util.page.CursorResponseDTO;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.reply.ReplyThreadKeyBackfill;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -38,6 +44,9 @@ public class ReplyRepositoryTests {
     @Autowired(required = false)
     private BoardRepository boardRepository;
 
+    @Autowired(required = false)
+    private ReplyThreadKeyBackfill replyThreadKeyBackfill;
+
     private static final Long JUNIT_TEST_BOARD_NUMBER = 7L;
     private static final String JUNIT_TEST_REPLYER = "thistrik@naver.com";
     private static final String JUNIT_TEST_REPLY = "Junit_Test_Reply";
@@ -179,14 +188,12 @@ public class ReplyRepositoryTests {
                 .orElseThrow(() -> new BoardNumberNotFoundException("해당하는 게시물 번호가 없습니다."));
         ReplyEntity replyEntity = replyRepository.findById(JUNIT_TEST_REPLY_RNO_NUMBER)
                 .orElseThrow(() -> new ReplyNumberNotFoundException("해당하는 댓글 번호가 없습니다."));
+        Long gno = replyEntity.getGno();
+        String threadKey = replyEntity.getThreadKey();
         replyEntity.updateReply(
-                replyUpdateDTO.getBno(),
-                replyUpdateDTO.getRno(),
                 replyUpdateDTO.getReply(),
                 replyUpdateDTO.getReplyer(),
-                replyUpdateDTO.getGno(),
-                replyUpdateDTO.getUpdateDate(),
-                replyUpdateDTO.getIsDeleted());
+                replyUpdateDTO.getUpdateDate());
         replyRepository.save(replyEntity);
         // THEN
         Assertions.assertAll(
@@ -196,7 +203,9 @@ public class ReplyRepositoryTests {
                 () -> assertNotNull(replyEntity.getReply()),
                 () -> assertNotNull(replyEntity.getReplyer()),
                 () -> assertNotNull(replyEntity.getCreateDate()),
-                () -> assertNotNull(replyEntity.getUpdateDate()));
+                () -> assertNotNull(replyEntity.getUpdateDate()),
+                () -> assertEquals(gno, replyEntity.getGno()),
+                () -> assertEquals(threadKey, replyEntity.getThreadKey()));
         log.info("=== End Update Reply Repository Test ===");
     }
 
@@ -240,4 +249,64 @@ public class ReplyRepositoryTests {
                 () -> assertNotNull(listReply, "listReply Should Be Not Null"));
         log.info("=== End list Reply Repository Test ===");
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Repository: 댓글 커서 리스트 테스트")
+    public void listReplyCursorTest() {
+        // GIVEN
+        log.info("=== Start List Reply Cursor Repository Test ===");
+        replyThreadKeyBackfill.backfill();
+        // 키가 없는 댓글이 남아 있지 않으면 다시 불러도 구간을 지나가지 않습니다.
+        Assertions.assertEquals(0L, replyThreadKeyBackfill.backfill());
+        Assertions.assertTrue(replyThreadKeyBackfill.isComplete());
+        ReplyEntity parent = replyRepository.save(ReplyEntity.createReply(JUNIT_TEST_BOARD_NUMBER, JUNIT_TEST_REPLY,
+                JUNIT_TEST_REPLYER, 0L, LocalDate.now(), LocalDate.now(), 0L));
+        Assertions.assertEquals(ReplyThreadKey.root(parent.getRno()), parent.getThreadKey());
+        Assertions.assertEquals(parent.getRno(), parent.getGno());
+        ReplyEntity previous = parent;
+        // 답글, 답글의 답글 ... 로 4단계까지 중첩
+        for (int i = 0; i < 4; i++) {
+            ReplyEntity child = ReplyEntity.createReply(JUNIT_TEST_BOARD_NUMBER,
+                    JUNIT_TEST_REPLY, JUNIT_TEST_REPLYER, parent.getRno(), LocalDate.now(), LocalDate.now(), 0L);
+            child.replyTo(previous.getThreadKey());
+            previous = replyRepository.save(child);
+        }
+        replyRepository.flush();
+        List<Long> expected = replyRepository.findAll().stream()
+                .filter(replyEntity -> replyEntity.getBno().equals(JUNIT_TEST_BOARD_NUMBER))
+                .sorted(Comparator.comparing(ReplyEntity::getThreadKey))
+                .map(ReplyEntity::getRno)
+                .toList();
+        // WHEN
+        List<Long> actual = new ArrayList<>();
+        List<String> steps = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageRequestDTO pageRequestDTO = PageRequestDTO.builder().size(3).cursor(cursor).build();
+            CursorResponseDTO<ReplyListDTO> listReply = replyRepository.listReplyCursor(pageRequestDTO,
+                    JUNIT_TEST_BOARD_NUMBER);
+            listReply.getList().forEach(replyListDTO -> {
+                actual.add(replyListDTO.getRno());
+                if (replyListDTO.getGno().equals(parent.getRno())) {
+                    steps.add(replyListDTO.getStep());
+                }
+            });
+            Assertions.assertTrue(listReply.getList().size() <= 3);
+            cursor = listReply.getNextCursor();
+        } while (cursor != null);
+        // THEN
+        // 스레드 순서(threadKey)로 빠짐없이, 중복 없이 이어져야 합니다.
+        Assertions.assertEquals(expected, actual);
+        // 부모 댓글 뒤에 한 단계씩 깊어지는 답글이 이어집니다.
+        Assertions.assertEquals(List.of("0", "1", "2", "3", "4"), steps);
+        Assertions.assertThrows(DataNotFoundException.class, () -> replyRepository.listReplyCursor(
+                PageRequestDTO.builder().cursor("not-a-cursor").build(), JUNIT_TEST_BOARD_NUMBER));
+        // size 0은 1건씩 조회합니다. (다음 커서를 만들 수 있어야 함)
+        CursorResponseDTO<ReplyListDTO> zeroSize = replyRepository.listReplyCursor(
+                PageRequestDTO.builder().size(0).build(), JUNIT_TEST_BOARD_NUMBER);
+        Assertions.assertEquals(List.of(expected.get(0)), zeroSize.getList().stream().map(ReplyListDTO::getRno).toList());
+        Assertions.assertNotNull(zeroSize.getNextCursor());
+        log.info("=== End List Reply Cursor Repository Test ===");
+    }
 }
@@ -0,0 +1,76 @@
+package board.jpa.querydsl.service.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import board.jpa.querydsl.dto.board.BoardCreateDTO;
+import board.jpa.querydsl.service.BoardService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest
+@ActiveProfiles("prod")
+public class BoardBatchInsertTests {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 이미지 10개 게시물 생성 batch INSERT 쿼리 횟수 테스트")
+    public void createBoardWithImagesStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Create Board Batch Insert Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // ID 풀을 미리 할당받아 측정에서 tbl_id_sequence 조회를 제외합니다.
+        boardService.createBoard(board(1));
+        entityManager.flush();
+        statistics.clear();
+        // WHEN
+        long start = System.nanoTime();
+        boardService.createBoard(board(10));
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+        // THEN
+        long statementCount = statistics.getPrepareStatementCount();
+        log.info("statements: " + statementCount + ", inserts: " + statistics.getEntityInsertCount()
+                + ", elapsed: " + elapsed / 1_000 + "us");
+        Assertions.assertEquals(11, statistics.getEntityInsertCount());
+        // 게시물 INSERT 1회 + 이미지 batch INSERT 1회 (기존: 게시물 INSERT, UPDATE + 이미지 INSERT 10회)
+        Assertions.assertEquals(2, statementCount);
+        log.info("=== End Create Board Batch Insert Test ===");
+    }
+
+    private BoardCreateDTO board(final int images) {
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < images; i++) {
+            fileNames.add(UUID.randomUUID() + "_Junit_Test_File_Name_" + i + ".jpg");
+        }
+        return BoardCreateDTO.builder()
+                .title("Junit_Test_Title")
+                .writer("Junit_Test_Writer")
+                .content("Junit_Test_Content")
+                .fileName(fileNames)
+                .build();
+    }
+}
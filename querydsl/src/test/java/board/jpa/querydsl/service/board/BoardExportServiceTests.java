@@ -0,0 +1,181 @@
+package board.jpa.querydsl.service.board;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import board.jpa.querydsl.service.BoardExportService;
+import board.jpa.querydsl.util.csv.CsvReader;
+import board.jpa.querydsl.util.page.PageRequestDTO;
+import board.jpa.querydsl.util.search.BoardSearchIndex;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest
+public class BoardExportServiceTests {
+
+    @Autowired
+    private BoardExportService boardExportService;
+
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_BOARD_SQL = "INSERT INTO `tbl_board` "
+            + "(`bno`, `title`, `writer`, `content`, `createDate`, `updateDate`, `viewCount`, `likeCount`, `replyCount`) "
+            + "VALUES (?, ?, ?, ?, CURDATE(), CURDATE(), 0, 0, 0)";
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 CSV, NDJSON 내보내기 및 검색 조건 테스트")
+    public void exportBoardService() throws Exception {
+        // GIVEN
+        log.info("=== Start Export Board Service Test ===");
+        String keyword = "Junit_Export_" + UUID.randomUUID();
+        long bno = nextBno();
+        jdbcTemplate.update(INSERT_BOARD_SQL, bno, keyword + "_1", "Junit_Test_Writer", "Junit, \"Test\"\nContent");
+        jdbcTemplate.update(INSERT_BOARD_SQL, bno + 1, keyword + "_2", "Junit_Test_Writer", "Junit_Test_Content");
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder()
+                .type("t")
+                .keyword(keyword)
+                .build();
+        // JDBC로 넣은 게시물은 색인에 없으므로 LIKE 조건으로 검색
+        boardSearchIndex.setEnabled(false);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long csvCount;
+        long ndjsonCount;
+        // WHEN
+        try {
+            csvCount = boardExportService.exportBoards(pageRequestDTO, "csv", csv);
+            ndjsonCount = boardExportService.exportBoards(pageRequestDTO, "ndjson", ndjson);
+        } finally {
+            boardSearchIndex.setEnabled(true);
+        }
+        // THEN
+        Assertions.assertEquals(2L, csvCount);
+        Assertions.assertEquals(2L, ndjsonCount);
+
+        CsvReader csvReader = new CsvReader(new StringReader(csv.toString(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(List.of("bno", "title", "writer", "content", "createDate", "updateDate", "viewCount"),
+                csvReader.next());
+        List<String> first = csvReader.next();
+        Assertions.assertEquals(String.valueOf(bno), first.get(0));
+        Assertions.assertEquals("Junit, \"Test\"\nContent", first.get(3));
+        Assertions.assertEquals(String.valueOf(bno + 1), csvReader.next().get(0));
+
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("{\"bno\":" + bno + ","));
+        Assertions.assertTrue(lines[0].contains("\"content\":\"Junit, \\\"Test\\\"\\nContent\""));
+        log.info("=== End Export Board Service Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 100만 건 내보내기 메모리 사용량 테스트")
+    public void exportBoardMemoryService() throws Exception {
+        // GIVEN
+        log.info("=== Start Export Board Memory Service Test ===");
+        int rows = 1_000_000;
+        long budget = 64L * 1024 * 1024;
+        seedBoards(nextBno(), rows);
+
+        // 결과 목록을 만들면 엔티티가 살아남아 Old 영역으로 승격되므로, Old 영역 사용량 증가분으로 판단합니다.
+        System.gc();
+        long baseline = tenuredUsed();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(tenuredUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        CountingOutputStream outputStream = new CountingOutputStream();
+        // WHEN
+        sampler.start();
+        long start = System.currentTimeMillis();
+        long count;
+        try {
+            count = boardExportService.exportBoards(new PageRequestDTO(), "csv", outputStream);
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        // THEN
+        long growth = peak.get() - baseline;
+        log.info("exported: " + count + ", bytes: " + outputStream.count + ", elapsed: " + elapsed + "ms, "
+                + "tenured growth: " + growth / 1024 + "KB (budget " + budget / 1024 + "KB)");
+        Assertions.assertTrue(count >= rows);
+        Assertions.assertTrue(growth < budget, "tenured growth " + growth + " exceeds budget " + budget);
+        log.info("=== End Export Board Memory Service Test ===");
+    }
+
+    private long nextBno() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(`bno`), 0) FROM `tbl_board`", Long.class);
+        return max + 1_000_000L;
+    }
+
+    // 0~9 숫자 테이블 6개를 CROSS JOIN 해서 한 문장으로 rows 건을 등록합니다.
+    private void seedBoards(final long firstBno, final int rows) {
+        String digits = "(SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 "
+                + "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+        String number = "(d0.d + d1.d * 10 + d2.d * 100 + d3.d * 1000 + d4.d * 10000 + d5.d * 100000)";
+        jdbcTemplate.update("INSERT INTO `tbl_board` "
+                + "(`bno`, `title`, `writer`, `content`, `createDate`, `updateDate`, `viewCount`, `likeCount`, `replyCount`) "
+                + "SELECT ? + " + number + ", CONCAT('Junit_Export_Title_', " + number + "), 'Junit_Test_Writer', "
+                + "'Junit_Test_Content', CURDATE(), CURDATE(), 0, 0, 0 "
+                + "FROM " + digits + " d0, " + digits + " d1, " + digits + " d2, "
+                + digits + " d3, " + digits + " d4, " + digits + " d5 "
+                + "WHERE " + number + " < ?", firstBno, rows);
+    }
+
+    private static long tenuredUsed() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            String name = pool.getName();
+            if (pool.getType() == MemoryType.HEAP && !name.contains("Eden") && !name.contains("Survivor")) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package board.jpa.querydsl.service.board;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import board.jpa.querydsl.dto.board.BoardImportResultDTO;
+import board.jpa.querydsl.exception.DataNotFoundException;
+import board.jpa.querydsl.service.BoardImportService;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest
+public class BoardImportServiceTests {
+
+    @Autowired
+    private BoardImportService boardImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String BISECT_TITLE = "Junit_Import_Bisect_Title";
+
+    @Test
+    @Transactional
+    @DisplayName("Service: NDJSON 게시물 대량 등록 및 실패 행 보고 테스트")
+    public void importNdjsonService() {
+        // GIVEN
+        log.info("=== Start Import NDJSON Service Test ===");
+        String uuid = UUID.randomUUID().toString();
+        String body = """
+                {"title":"Junit_Test_Title_1","writer":"Junit_Test_Writer","content":"Junit_Test_Content"}
+                {"title":"Junit_Test_Title_2","writer":"Junit_Test_Writer","content":"Junit_Test_Content","fileName":["%s_Junit_Test_File.jpg"]}
+                {"title":"","writer":"Junit_Test_Writer","content":"Junit_Test_Content"}
+                {"title":"broken json"
+
+                {"title":"Junit_Test_Title_3","writer":"Junit_Test_Writer","content":"Junit_Test_Content"}
+                """.formatted(uuid);
+        // WHEN
+        BoardImportResultDTO result = boardImportService.importBoards(stream(body), "ndjson", UUID.randomUUID().toString());
+        // THEN
+        log.info(result);
+        Assertions.assertEquals(5, result.getTotal());
+        Assertions.assertEquals(3, result.getImported());
+        Assertions.assertEquals(2, result.getFailed());
+        Assertions.assertEquals(3L, result.getFailures().get(0).getLine());
+        Assertions.assertEquals(4L, result.getFailures().get(1).getLine());
+        log.info("=== End Import NDJSON Service Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: CSV 게시물 대량 등록 테스트")
+    public void importCsvService() {
+        // GIVEN
+        log.info("=== Start Import CSV Service Test ===");
+        String uuid = UUID.randomUUID().toString();
+        String body = "title,writer,content,fileName\r\n"
+                + "Junit_Test_Title_1,Junit_Test_Writer,\"Junit, \"\"Test\"\"\nContent\",\r\n"
+                + "Junit_Test_Title_2,Junit_Test_Writer,Junit_Test_Content," + uuid + "_a.jpg|" + uuid + "_b.jpg\r\n"
+                + "Junit_Test_Title_3,,Junit_Test_Content,\r\n";
+        // WHEN
+        BoardImportResultDTO result = boardImportService.importBoards(stream(body), "csv", UUID.randomUUID().toString());
+        // THEN
+        log.info(result);
+        Assertions.assertEquals(3, result.getTotal());
+        Assertions.assertEquals(2, result.getImported());
+        Assertions.assertEquals(1, result.getFailed());
+        Assertions.assertEquals(5L, result.getFailures().get(0).getLine());
+        log.info("=== End Import CSV Service Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 대량 등록 처리량 테스트")
+    public void importThroughputService() {
+        // GIVEN
+        log.info("=== Start Import Throughput Service Test ===");
+        int rows = 20_000;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            body.append("{\"title\":\"Junit_Test_Title_").append(i)
+                    .append("\",\"writer\":\"Junit_Test_Writer\",\"content\":\"Junit_Test_Content\"}\n");
+        }
+        // WHEN
+        BoardImportResultDTO result = boardImportService.importBoards(stream(body.toString()), "ndjson",
+                UUID.randomUUID().toString());
+        // THEN
+        log.info("imported: " + result.getImported() + ", elapsed: " + result.getElapsedMillis() + "ms, "
+                + result.getImported() * 1000 / Math.max(result.getElapsedMillis(), 1) + " rows/s");
+        Assertions.assertEquals(rows, result.getImported());
+        log.info("=== End Import Throughput Service Test ===");
+    }
+
+    @Test
+    @DisplayName("Service: 저장에 실패한 행만 실패로 기록하고 진행 상황 조회 테스트")
+    public void importBisectFailedRowService() {
+        // GIVEN : 검증은 통과하지만 파일 이름이 컬럼 길이를 넘어 INSERT가 실패하는 행 (chunk 트랜잭션은 커밋되어야 하므로 롤백하지 않음)
+        log.info("=== Start Import Bisect Failed Row Service Test ===");
+        String importId = UUID.randomUUID().toString();
+        String tooLongFileName = UUID.randomUUID() + "_" + "a".repeat(300) + ".jpg";
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            String fileName = i == 7 ? ",\"fileName\":[\"" + tooLongFileName + "\"]" : "";
+            body.append("{\"title\":\"").append(BISECT_TITLE)
+                    .append("\",\"writer\":\"Junit_Test_Writer\",\"content\":\"Junit_Test_Content\"")
+                    .append(fileName).append("}\n");
+        }
+        try {
+            // WHEN
+            BoardImportResultDTO result = boardImportService.importBoards(stream(body.toString()), "ndjson", importId);
+            // THEN : 같은 chunk의 나머지 9개 행은 저장됩니다.
+            log.info(result);
+            Assertions.assertEquals(10, result.getTotal());
+            Assertions.assertEquals(9, result.getImported());
+            Assertions.assertEquals(1, result.getFailed());
+            Assertions.assertEquals(7L, result.getFailures().get(0).getLine());
+            Assertions.assertEquals(9L, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM `tbl_board` WHERE `title` = ?", Long.class, BISECT_TITLE));
+            BoardImportResultDTO progress = boardImportService.getImportProgress(importId);
+            Assertions.assertTrue(progress.isFinished());
+            Assertions.assertEquals(9, progress.getImported());
+            Assertions.assertEquals(1, progress.getFailed());
+            Assertions.assertThrows(DataNotFoundException.class,
+                    () -> boardImportService.getImportProgress(UUID.randomUUID().toString()));
+        } finally {
+            jdbcTemplate.update("DELETE FROM `tbl_board` WHERE `title` = ?", BISECT_TITLE);
+            log.info("=== End Import Bisect Failed Row Service Test ===");
+        }
+    }
+
+    private ByteArrayInputStream stream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
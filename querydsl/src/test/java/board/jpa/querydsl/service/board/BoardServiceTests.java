@@ -1,9 +1,14 @@
 package board.jpa.querydsl.service.board;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +22,13 @@ import board.jpa.querydsl.dto.board.BoardCreateDTO;
 import board.jpa.querydsl.dto.board.BoardDTO;
 import board.jpa.querydsl.dto.board.BoardListDTO;
 import board.jpa.querydsl.dto.board.BoardUpdateDTO;
+import board.jpa.querydsl.exception.BoardNumberNotFoundException;
 import board.jpa.querydsl.service.BoardService;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.SliceResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -29,6 +38,12 @@ public class BoardServiceTests {
     @Autowired
     private BoardService boardService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private static final String JUNIT_TEST_TITLE = "Junit_Test_Title";
     private static final String JUNIT_TEST_CONTENT = "Junit_Test_Content";
     private static final String JUNIT_TEST_WRITER = "Junit_Test_Writer";
@@ -162,4 +177,176 @@ public class BoardServiceTests {
         // THEN
         log.info("=== End Increment View Count Board Service Test ===");
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 삭제된 게시물 조회수 증가 거부 테스트")
+    public void incrementViewCountDeletedBoardTest() {
+        // GIVEN
+        log.info("=== Start Increment View Count Deleted Board Service Test ===");
+        boardService.deleteBoard(JUNIT_TEST_BNO);
+        // WHEN, THEN
+        Assertions.assertThrows(BoardNumberNotFoundException.class,
+                () -> boardService.incrementViewCount(JUNIT_TEST_BNO));
+        log.info("=== End Increment View Count Deleted Board Service Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 슬라이스 리스트 테스트")
+    public void sliceBoardService() {
+        // GIVEN
+        log.info("=== Start Slice Board Service Test ===");
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder().page(1).size(10).build();
+        // WHEN
+        SliceResponseDTO<BoardListDTO> slice = boardService.sliceBoard(pageRequestDTO);
+        PageResponseDTO<BoardListDTO> page = boardService.listBoard(pageRequestDTO);
+        // THEN
+        log.info(slice);
+        Assertions.assertTrue(slice.getList().size() <= 10);
+        Assertions.assertEquals(slice.isHasNext(), page.getTotal() > 10);
+        log.info("=== End Slice Board Service Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 조회 캐시 수정시 무효화 테스트")
+    public void readBoardCacheInvalidationService() {
+        // GIVEN
+        log.info("=== Start Read Board Cache Invalidation Service Test ===");
+        boardService.readBoard(JUNIT_TEST_BNO);
+        boardUpdateDTO.setTitle(JUNIT_TEST_TITLE + "_Updated");
+        // WHEN
+        boardService.updateBoard(boardUpdateDTO);
+        BoardDTO readBoard = boardService.readBoard(JUNIT_TEST_BNO);
+        // THEN
+        Assertions.assertEquals(JUNIT_TEST_TITLE + "_Updated", readBoard.getTitle());
+        Assertions.assertEquals(boardUpdateDTO.getFileName().size(), readBoard.getFileName().size());
+        log.info("=== End Read Board Cache Invalidation Service Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 조회, 수정, 조회수 증가 쿼리 횟수 테스트")
+    public void boardStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Board Statement Count Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        // WHEN
+        boardService.incrementViewCount(JUNIT_TEST_BNO);
+        long incrementCount = statistics.getPrepareStatementCount();
+        statistics.clear();
+        boardUpdateDTO.setFileName(null);
+        boardService.updateBoard(boardUpdateDTO);
+        long updateCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("increment: " + incrementCount + ", update: " + updateCount);
+        // 게시물 존재 확인 SELECT 1회 (조회수는 BoardCounterBuffer가 모아서 반영, 기존: 게시물 SELECT 1회 + UPDATE 1회)
+        Assertions.assertEquals(1, incrementCount);
+        // 게시물 SELECT 1회
+        Assertions.assertEquals(1, updateCount);
+        log.info("=== End Board Statement Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 수정시 이미지 변경 없음 쿼리 횟수 테스트")
+    public void updateBoardImageUnchangedStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Update Board Image Unchanged Statement Count Test ===");
+        List<String> images = images(3);
+        Long bno = createBoardWithImages(images);
+        Statistics statistics = statistics();
+        // WHEN
+        updateBoardImages(bno, images);
+        // THEN
+        log.info(statistics);
+        // 게시물 SELECT 1회 + 이미지 SELECT 1회 + 게시물 UPDATE 1회 (기존: 이미지 DELETE 3회 + INSERT 3회 추가)
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+        log.info("=== End Update Board Image Unchanged Statement Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 수정시 이미지 추가 쿼리 횟수 테스트")
+    public void updateBoardImageAppendStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Update Board Image Append Statement Count Test ===");
+        List<String> images = images(3);
+        Long bno = createBoardWithImages(images);
+        List<String> appended = new ArrayList<>(images);
+        appended.add(UUID.randomUUID() + "_" + JUNIT_TEST_FILE_NAME);
+        Statistics statistics = statistics();
+        // WHEN
+        updateBoardImages(bno, appended);
+        // THEN
+        log.info(statistics);
+        // 새 이미지 INSERT 1회 + 게시물 UPDATE 1회 (기존 이미지는 그대로)
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+        Assertions.assertEquals(appended.size(), boardService.readBoard(bno).getFileName().size());
+        log.info("=== End Update Board Image Append Statement Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 게시물 수정시 이미지 순서 변경, 삭제 쿼리 횟수 테스트")
+    public void updateBoardImageReorderStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Update Board Image Reorder Statement Count Test ===");
+        List<String> images = images(4);
+        Long bno = createBoardWithImages(images);
+        // 0, 1 순서를 바꾸고 마지막 이미지를 삭제
+        List<String> reordered = List.of(images.get(1), images.get(0), images.get(2));
+        Statistics statistics = statistics();
+        // WHEN
+        updateBoardImages(bno, reordered);
+        // THEN
+        log.info(statistics);
+        // 게시물 SELECT 1회 + 이미지 SELECT 1회 + 게시물 UPDATE 1회 + ord UPDATE 2회 + 이미지 DELETE 1회
+        Assertions.assertEquals(6, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(3, statistics.getEntityUpdateCount());
+        entityManager.clear();
+        Assertions.assertEquals(
+                reordered.stream().map(str -> str.substring(37)).toList(),
+                boardService.readBoard(bno).getFileName());
+        log.info("=== End Update Board Image Reorder Statement Count Test ===");
+    }
+
+    private List<String> images(final int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> UUID.randomUUID() + "_" + i + "_" + JUNIT_TEST_FILE_NAME)
+                .toList();
+    }
+
+    private Long createBoardWithImages(final List<String> images) {
+        boardCreateDTO.setFileName(images);
+        Long bno = boardService.createBoard(boardCreateDTO);
+        entityManager.flush();
+        entityManager.clear();
+        return bno;
+    }
+
+    private void updateBoardImages(final Long bno, final List<String> images) {
+        boardUpdateDTO.setBno(bno);
+        boardUpdateDTO.setTitle(JUNIT_TEST_TITLE + "_Updated");
+        boardUpdateDTO.setFileName(images);
+        boardService.updateBoard(boardUpdateDTO);
+        entityManager.flush();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+}
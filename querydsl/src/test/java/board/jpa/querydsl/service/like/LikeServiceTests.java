@@ -1,15 +1,23 @@
 package board.jpa.querydsl.service.like;
 
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import board.jpa.querydsl.dto.like.LikeToggleDTO;
 import board.jpa.querydsl.service.LikeService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -19,6 +27,15 @@ public class LikeServiceTests {
     @Autowired
     private LikeService likeService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static final String JUNIT_MEMBER_EMAIL = "thistrik@naver.com";
     private static final Long JUNIT_TEST_BNO = 7L;
 
@@ -40,9 +57,11 @@ public class LikeServiceTests {
         // GIVEN
         log.info("=== Start Toggle Like Service Test ===");
         // WHEN
-        final Long toggle = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        final LikeToggleDTO toggle = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
         // THEN
-        log.info("toggleNumber: " + toggle);
+        log.info("toggle: " + toggle);
+        Assertions.assertEquals(JUNIT_TEST_BNO, toggle.getBno());
+        Assertions.assertNotNull(toggle.getLikeCount(), "Like Count Should Be Not Null");
         Assertions.assertEquals(likeToggleDTO.getEmail(), JUNIT_MEMBER_EMAIL);
         Assertions.assertEquals(likeToggleDTO.getBno(), JUNIT_TEST_BNO);
         Assertions.assertNotNull(JUNIT_MEMBER_EMAIL, "Member Email Should Be Not Null");
@@ -81,4 +100,155 @@ public class LikeServiceTests {
         Assertions.assertNotNull(JUNIT_MEMBER_EMAIL, "Member Email Should Be Not Null");
         log.info("=== Start Check Like Member Toggle Service Test ===");
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 라이크 카운트 쿼리 횟수 테스트")
+    public void countLikeStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Count Like Statement Count Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        // WHEN
+        likeService.countLike(JUNIT_TEST_BNO);
+        long statementCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("statementCount: " + statementCount);
+        // 게시물 SELECT 1회 + COUNT 1회 (기존: 게시물, 라이크 엔티티 SELECT 후 COUNT)
+        Assertions.assertEquals(2, statementCount);
+        log.info("=== End Count Like Statement Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 라이크 토글 쿼리 횟수 테스트")
+    public void toggleLikeStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Toggle Like Statement Count Test ===");
+        // ID 할당(테이블 시퀀스) 쿼리가 측정에 섞이지 않도록 미리 한 번 토글합니다.
+        final LikeToggleDTO first = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        entityManager.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // WHEN
+        statistics.clear();
+        final LikeToggleDTO like = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        entityManager.flush();
+        final long likeStatementCount = statistics.getPrepareStatementCount();
+        statistics.clear();
+        final LikeToggleDTO unlike = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        entityManager.flush();
+        final long unlikeStatementCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("like: " + like + ", statementCount: " + likeStatementCount);
+        log.info("unlike: " + unlike + ", statementCount: " + unlikeStatementCount);
+        // 게시물/회원 확인과 좋아요 상태 조회 1회 + INSERT 또는 DELETE 1회
+        // (기존: 게시물, 회원, 라이크 SELECT + INSERT/DELETE + 게시물 UPDATE 후 좋아요 수 조회를 위해 게시물 SELECT + COUNT)
+        Assertions.assertEquals(2, likeStatementCount);
+        Assertions.assertEquals(2, unlikeStatementCount);
+        Assertions.assertNotEquals(like.isLiked(), unlike.isLiked());
+        Assertions.assertEquals(first.isLiked(), like.isLiked());
+        log.info("=== End Toggle Like Statement Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 좋아요 날짜가 없는 기존 좋아요 취소 테스트")
+    public void toggleLegacyLikeWithoutDateTest() {
+        // GIVEN : createDate가 NULL인 기존 좋아요
+        log.info("=== Start Toggle Legacy Like Without Date Test ===");
+        if (!likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL).isLiked()) {
+            likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        }
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE `tbl_like` SET `createDate` = NULL WHERE `bno` = ? AND `email` = ?",
+                JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        entityManager.clear();
+        final long before = likeRows();
+        // WHEN
+        final LikeToggleDTO unlike = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        // THEN : 좋아요한 상태로 판단해서 취소합니다. (INSERT 후 중복 키로 좋아요 상태가 유지되지 않음)
+        log.info("unlike: " + unlike);
+        Assertions.assertFalse(unlike.isLiked());
+        Assertions.assertEquals(before - 1, likeRows());
+        log.info("=== End Toggle Legacy Like Without Date Test ===");
+    }
+
+    @Test
+    @DisplayName("Service: 커밋된 라이크 토글의 좋아요 수 반환 테스트")
+    public void toggleLikeCountAfterCommitTest() {
+        // GIVEN
+        log.info("=== Start Toggle Like Count After Commit Test ===");
+        final long before = likeRows();
+        // WHEN : 테스트 트랜잭션 없이 호출해서 토글마다 커밋하고 커밋 이후 증감분 누적까지 실행합니다.
+        final LikeToggleDTO first = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        final long firstRows = likeRows();
+        final LikeToggleDTO second = likeService.toggleLike(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL);
+        final long secondRows = likeRows();
+        // THEN
+        log.info("first: " + first + ", second: " + second);
+        Assertions.assertNotEquals(first.isLiked(), second.isLiked());
+        Assertions.assertEquals(before + (first.isLiked() ? 1 : -1), firstRows);
+        Assertions.assertEquals(before, secondRows);
+        // 첫 번째 토글의 증감분이 커밋 이후 누적되었으므로 두 번째 토글은 그 값에서 한 번 더 증감합니다.
+        Assertions.assertEquals(first.getLikeCount() + (second.isLiked() ? 1 : -1), second.getLikeCount());
+        log.info("=== End Toggle Like Count After Commit Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 여러 게시물 좋아요 여부 일괄 확인 테스트")
+    public void checkLikedBoardsTest() {
+        // GIVEN
+        log.info("=== Start Check Liked Boards Test ===");
+        final List<Long> bnos = List.of(JUNIT_TEST_BNO, 1L, 2L, 3L);
+        final boolean liked = likeService.checkToggleMember(JUNIT_TEST_BNO, JUNIT_MEMBER_EMAIL).isLiked();
+        likeService.checkLikedBoards(bnos, JUNIT_MEMBER_EMAIL);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        // WHEN
+        final List<Long> result = likeService.checkLikedBoards(bnos, JUNIT_MEMBER_EMAIL);
+        final long statementCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("liked: " + result + ", statementCount: " + statementCount);
+        // 캐시된 회원은 DB 조회 없이 확인 (기존: 게시물마다 좋아요 SELECT 1회)
+        Assertions.assertEquals(0, statementCount);
+        Assertions.assertEquals(liked, result.contains(JUNIT_TEST_BNO));
+        log.info("=== End Check Liked Boards Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 여러 게시물 좋아요 수 일괄 조회 쿼리 횟수 테스트")
+    public void countLikesStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Count Likes Statement Count Test ===");
+        final List<Long> bnos = List.of(JUNIT_TEST_BNO, 1L, 2L, 3L, 4L, 5L, 6L, 8L, 9L, 10L);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        // WHEN
+        final Map<Long, Long> likeCounts = likeService.countLikes(bnos);
+        final long statementCount = statistics.getPrepareStatementCount();
+        statistics.clear();
+        final Map<Long, Long> cachedCounts = likeService.countLikes(bnos);
+        final long cachedStatementCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("likeCounts: " + likeCounts + ", statementCount: " + statementCount + ", cached: "
+                + cachedStatementCount);
+        // IN 조회 1회 (기존: 게시물마다 게시물 SELECT + COUNT), 캐시된 게시물은 조회 없음
+        Assertions.assertTrue(statementCount <= 1);
+        Assertions.assertEquals(0, cachedStatementCount);
+        Assertions.assertTrue(likeCounts.containsKey(JUNIT_TEST_BNO));
+        Assertions.assertEquals(likeCounts, cachedCounts);
+        log.info("=== End Count Likes Statement Count Test ===");
+    }
+
+    private long likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_like` WHERE `bno` = ?", Long.class,
+                JUNIT_TEST_BNO);
+    }
 }
@@ -2,6 +2,8 @@ package board.jpa.querydsl.service.member;
 
 import java.time.LocalDate;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,7 @@ import board.jpa.querydsl.dto.member.MemberUpdateDTO;
 import board.jpa.querydsl.service.MemberService;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -26,6 +29,9 @@ public class MemberServiceTests {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private static final String JUNIT_TEST_MEMBER_EMAIL = "thistrik@naver.com";
     private static final String JUNIT_TEST_MEMBER_PHONE = "010-3099-0648";
     private static final String JUNIT_TEST_MEMBER_NAME = "권성준";
@@ -136,4 +142,28 @@ public class MemberServiceTests {
         Assertions.assertNotNull(listMember);
         log.info("=== End List Member Service Test ===");
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 회원 조회, 수정 쿼리 횟수 테스트")
+    public void memberStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Member Statement Count Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        // WHEN
+        memberService.readMember(JUNIT_TEST_MEMBER_EMAIL);
+        long readCount = statistics.getPrepareStatementCount();
+        statistics.clear();
+        memberService.updateMember(memberUpdateDTO);
+        long updateCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("read: " + readCount + ", update: " + updateCount);
+        // 회원 SELECT 1회 + 권한 SELECT 1회
+        Assertions.assertEquals(2, readCount);
+        // 같은 트랜잭션에서 이미 조회된 회원은 다시 SELECT 하지 않음
+        Assertions.assertEquals(0, updateCount);
+        log.info("=== End Member Statement Count Test ===");
+    }
 }
@@ -4,7 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,13 +17,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import board.jpa.querydsl.domain.reply.ReplyEntity;
+import board.jpa.querydsl.domain.reply.ReplyThreadKey;
 import board.jpa.querydsl.dto.reply.ReplyCreateDTO;
 import board.jpa.querydsl.dto.reply.ReplyDTO;
 import board.jpa.querydsl.dto.reply.ReplyListDTO;
 import board.jpa.querydsl.dto.reply.ReplyUpdateDTO;
+import board.jpa.querydsl.exception.BoardNumberNotFoundException;
 import board.jpa.querydsl.service.ReplyService;
 import board.jpa.querydsl.util.page.PageRequestDTO;
 import board.jpa.querydsl.util.page.PageResponseDTO;
+import board.jpa.querydsl.util.page.TotalCountCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -29,6 +39,15 @@ public class ReplyServiceTests {
     @Autowired
     private ReplyService replyService;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TotalCountCache totalCountCache;
+
     private static final Long JUNIT_TEST_BOARD_NUMBER = 7L;
     private static final String JUNIT_TEST_REPLYER = "thistrik@naver.com";
     private static final String JUNIT_TEST_REPLY = "Junit_Test_Reply";
@@ -177,4 +196,120 @@ public class ReplyServiceTests {
                 () -> assertEquals(replyDTO.getReply(), "삭제된 댓글입니다."),
                 () -> assertEquals(replyDTO.getReplyer(), "삭제된 게시자입니다."));
     }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 댓글 작성, 삭제시 게시물/댓글 조회 쿼리 횟수 테스트")
+    public void replyStatementCountTest() {
+        // GIVEN
+        log.info("=== Start Reply Statement Count Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // 댓글 ID 풀을 미리 할당받아 측정에서 tbl_id_sequence 조회를 제외합니다.
+        replyService.createReply(replyChildCreateDTO);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        // WHEN
+        replyService.createReply(replyChildCreateDTO);
+        entityManager.flush();
+        long createCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        statistics.clear();
+        replyService.deleteReply(JUNIT_TEST_REPLY_RNO_NUMBER);
+        long deleteCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("create: " + createCount + ", delete: " + deleteCount);
+        // 게시물 SELECT 1회 + 댓글 INSERT 1회 (댓글 수는 BoardCounterBuffer가 모아서 반영)
+        Assertions.assertEquals(2, createCount);
+        // 댓글 SELECT 1회 + 게시물 SELECT 1회 (기존: 댓글 1회 + 게시물 2회)
+        Assertions.assertEquals(2, deleteCount);
+        log.info("=== End Reply Statement Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 댓글 리스트 조회 쿼리 횟수 테스트")
+    public void listReplyStatementCountTest() {
+        // GIVEN
+        log.info("=== Start List Reply Statement Count Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // 첫 페이지와 마지막 페이지가 달라지도록 한 페이지보다 많은 댓글을 등록합니다.
+        PageRequestDTO firstPageRequest = PageRequestDTO.builder().build();
+        PageRequestDTO lastPageRequest = PageRequestDTO.builder().replyLast(true).build();
+        for (int i = 0; i <= firstPageRequest.getSize(); i++) {
+            replyService.createReply(replyCreateDTO);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        totalCountCache.invalidate("reply:" + JUNIT_TEST_BOARD_NUMBER);
+        statistics.clear();
+        // WHEN
+        PageResponseDTO<ReplyListDTO> firstPage = replyService.listReply(firstPageRequest, JUNIT_TEST_BOARD_NUMBER);
+        long missCount = statistics.getPrepareStatementCount();
+        statistics.clear();
+        PageResponseDTO<ReplyListDTO> lastPage = replyService.listReply(lastPageRequest, JUNIT_TEST_BOARD_NUMBER);
+        long hitCount = statistics.getPrepareStatementCount();
+        // THEN
+        log.info("miss: " + missCount + ", hit: " + hitCount);
+        // 게시물 확인 + 댓글 수 1회 + 목록 1회 (기존: 게시물 SELECT 1회 추가)
+        Assertions.assertEquals(2, missCount);
+        // 같은 조건의 댓글 수는 캐시를 사용하므로 목록 1회
+        Assertions.assertEquals(1, hitCount);
+        Assertions.assertEquals(lastPage.getTotal(), firstPage.getTotal());
+        // 같은 댓글 수로 다른 페이지를 조회했는지 확인합니다.
+        List<Long> firstRnos = firstPage.getList().stream().map(ReplyListDTO::getRno).toList();
+        List<Long> lastRnos = lastPage.getList().stream().map(ReplyListDTO::getRno).toList();
+        Assertions.assertFalse(firstRnos.isEmpty());
+        Assertions.assertFalse(lastRnos.isEmpty());
+        Assertions.assertTrue(Collections.disjoint(firstRnos, lastRnos));
+        Assertions.assertThrows(BoardNumberNotFoundException.class,
+                () -> replyService.listReply(PageRequestDTO.builder().build(), Long.MAX_VALUE));
+        log.info("=== End List Reply Statement Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Service: 답글의 답글 작성시 스레드 정렬 키 테스트")
+    public void createNestedReplyThreadKeyTest() {
+        // GIVEN
+        log.info("=== Start Create Nested Reply Thread Key Test ===");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        Long parentRno = replyService.createReply(replyCreateDTO);
+        replyChildCreateDTO.setGno(parentRno);
+        Long childRno = replyService.createReply(replyChildCreateDTO);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        // WHEN
+        replyChildCreateDTO.setParentRno(childRno);
+        Long grandChildRno = replyService.createReply(replyChildCreateDTO);
+        entityManager.flush();
+        long createCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        statistics.clear();
+        replyService.createReply(replyCreateDTO);
+        entityManager.flush();
+        long createRootCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        // THEN
+        ReplyEntity parent = entityManager.find(ReplyEntity.class, parentRno);
+        ReplyEntity child = entityManager.find(ReplyEntity.class, childRno);
+        ReplyEntity grandChild = entityManager.find(ReplyEntity.class, grandChildRno);
+        log.info("parent: " + parent.getThreadKey() + ", child: " + child.getThreadKey()
+                + ", grandChild: " + grandChild.getThreadKey());
+        Assertions.assertAll(
+                () -> assertEquals(ReplyThreadKey.root(parentRno), parent.getThreadKey()),
+                () -> assertEquals(ReplyThreadKey.child(parent.getThreadKey(), childRno), child.getThreadKey()),
+                () -> assertEquals(ReplyThreadKey.child(child.getThreadKey(), grandChildRno),
+                        grandChild.getThreadKey()),
+                () -> assertEquals(parentRno, grandChild.getGno()));
+        // 게시물 SELECT 1회 + 부모 댓글 SELECT 1회 + 댓글 INSERT 1회 (그룹 번호, 정렬 키를 위한 UPDATE 없음)
+        Assertions.assertEquals(3, createCount);
+        // 게시물 SELECT 1회 + 댓글 INSERT 1회
+        Assertions.assertEquals(2, createRootCount);
+        log.info("=== End Create Nested Reply Thread Key Test ===");
+    }
 }
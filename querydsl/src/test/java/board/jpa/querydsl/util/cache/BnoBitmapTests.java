@@ -0,0 +1,79 @@
+package board.jpa.querydsl.util.cache;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class BnoBitmapTests {
+
+    @Test
+    @DisplayName("Bitmap: 추가, 삭제, 포함 여부 테스트")
+    public void addRemoveContainsTest() {
+        BnoBitmap bitmap = BnoBitmap.of(List.of(1L, 70_000L, 5_000_000_000L));
+
+        Assertions.assertTrue(bitmap.contains(1L));
+        Assertions.assertTrue(bitmap.contains(70_000L));
+        Assertions.assertTrue(bitmap.contains(5_000_000_000L));
+        Assertions.assertFalse(bitmap.contains(2L));
+        Assertions.assertFalse(bitmap.contains(70_000L + 65_536L));
+        Assertions.assertEquals(3L, bitmap.cardinality());
+
+        bitmap.add(1L);
+        bitmap.remove(70_000L);
+        bitmap.remove(3L);
+        Assertions.assertFalse(bitmap.contains(70_000L));
+        Assertions.assertEquals(2L, bitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("Bitmap: 배열/비트셋 컨테이너 전환 후에도 결과가 같은지 테스트")
+    public void containerConversionTest() {
+        BnoBitmap bitmap = new BnoBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            long bno = random.nextInt(200_000);
+            bitmap.add(bno);
+            expected.add(bno);
+        }
+        log.info("cardinality: " + bitmap.cardinality() + ", bytes: " + bitmap.sizeInBytes());
+        assertSame(expected, bitmap);
+
+        // 비트셋 컨테이너가 다시 배열 컨테이너로 줄어드는 경우
+        for (Long bno : List.copyOf(expected)) {
+            if (bno % 10 != 0) {
+                bitmap.remove(bno);
+                expected.remove(bno);
+            }
+        }
+        log.info("cardinality: " + bitmap.cardinality() + ", bytes: " + bitmap.sizeInBytes());
+        assertSame(expected, bitmap);
+    }
+
+    @Test
+    @DisplayName("Bitmap: 연속된 번호 압축 테스트")
+    public void denseCompressionTest() {
+        BnoBitmap bitmap = new BnoBitmap();
+        for (long bno = 1; bno <= 100_000; bno++) {
+            bitmap.add(bno);
+        }
+        log.info("bytes: " + bitmap.sizeInBytes());
+        Assertions.assertEquals(100_000L, bitmap.cardinality());
+        // 비트셋 2개 (16KB), Long 집합이라면 수 MB
+        Assertions.assertTrue(bitmap.sizeInBytes() < 20_000L);
+    }
+
+    private void assertSame(final TreeSet<Long> expected, final BnoBitmap bitmap) {
+        Assertions.assertEquals(expected.size(), bitmap.cardinality());
+        for (long bno = 0; bno < 200_000; bno++) {
+            Assertions.assertEquals(expected.contains(bno), bitmap.contains(bno), "bno: " + bno);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package board.jpa.querydsl.util.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import board.jpa.querydsl.dto.board.BoardDTO;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class BoardCacheTests {
+
+    @Test
+    @DisplayName("Cache: 조회, 적중/실패 통계 테스트")
+    public void getAndPutTest() {
+        BoardCache boardCache = new BoardCache(10, 60);
+        Assertions.assertNull(boardCache.get(1L));
+
+        boardCache.put(1L, board(1L), boardCache.generation());
+        BoardDTO cached = boardCache.get(1L);
+        Assertions.assertEquals("title-1", cached.getTitle());
+        Assertions.assertEquals(List.of("image.jpg"), cached.getFileName());
+
+        // 반환된 객체를 수정해도 캐시에는 영향이 없어야 합니다.
+        cached.getFileName().clear();
+        Assertions.assertEquals(1, boardCache.get(1L).getFileName().size());
+
+        log.info(boardCache.getStats());
+        Assertions.assertEquals(2L, boardCache.getStats().get("hits"));
+        Assertions.assertEquals(1L, boardCache.getStats().get("misses"));
+    }
+
+    @Test
+    @DisplayName("Cache: 최대 개수 초과시 LRU 제거 테스트")
+    public void lruEvictionTest() {
+        BoardCache boardCache = new BoardCache(2, 60);
+        boardCache.put(1L, board(1L), boardCache.generation());
+        boardCache.put(2L, board(2L), boardCache.generation());
+        boardCache.get(1L);
+        boardCache.put(3L, board(3L), boardCache.generation());
+
+        Assertions.assertNotNull(boardCache.get(1L));
+        Assertions.assertNull(boardCache.get(2L));
+        Assertions.assertNotNull(boardCache.get(3L));
+        Assertions.assertEquals(1L, boardCache.getStats().get("evictions"));
+    }
+
+    @Test
+    @DisplayName("Cache: 유지 시간 만료 테스트")
+    public void ttlEvictionTest() throws InterruptedException {
+        BoardCache boardCache = new BoardCache(10, 1);
+        boardCache.put(1L, board(1L), boardCache.generation());
+        Thread.sleep(1_100);
+
+        Assertions.assertNull(boardCache.get(1L));
+        Assertions.assertEquals(1L, boardCache.getStats().get("evictions"));
+    }
+
+    @Test
+    @DisplayName("Cache: 무효화 및 조회 도중 무효화된 값 저장 방지 테스트")
+    public void evictTest() {
+        BoardCache boardCache = new BoardCache(10, 60);
+        boardCache.put(1L, board(1L), boardCache.generation());
+        boardCache.evict(1L);
+        Assertions.assertNull(boardCache.get(1L));
+
+        long generation = boardCache.generation();
+        boardCache.evict(1L);
+        boardCache.put(1L, board(1L), generation);
+        Assertions.assertNull(boardCache.get(1L));
+    }
+
+    private BoardDTO board(final Long bno) {
+        return BoardDTO.builder()
+                .bno(bno)
+                .title("title-" + bno)
+                .writer("writer-" + bno)
+                .content("content-" + bno)
+                .createDate(LocalDate.now())
+                .updateDate(LocalDate.now())
+                .viewCount(0L)
+                .fileName(List.of("image.jpg"))
+                .build();
+    }
+}
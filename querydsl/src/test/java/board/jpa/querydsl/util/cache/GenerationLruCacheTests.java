@@ -0,0 +1,54 @@
+package board.jpa.querydsl.util.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class GenerationLruCacheTests {
+
+    @Test
+    @DisplayName("Cache: 조건에 맞는 키 제거 및 조회 도중 제거된 값 저장 방지 테스트")
+    public void removeIfTest() {
+        GenerationLruCache<String, Long> cache = new GenerationLruCache<>(10, 60_000);
+        cache.put("board|a", 1L, cache.generation());
+        cache.put("member|a", 2L, cache.generation());
+
+        long generation = cache.generation();
+        cache.removeIf(key -> key.startsWith("board|"));
+        cache.put("board|b", 3L, generation);
+
+        Assertions.assertNull(cache.get("board|a"));
+        Assertions.assertNull(cache.get("board|b"));
+        Assertions.assertEquals(2L, cache.get("member|a"));
+    }
+
+    @Test
+    @DisplayName("Cache: 캐시된 값 수정, 없으면 진행 중인 조회 결과 저장 방지 테스트")
+    public void updateOrInvalidateTest() {
+        GenerationLruCache<String, List<Long>> cache = new GenerationLruCache<>(10);
+        cache.put("a", new ArrayList<>(List.of(1L)), cache.generation());
+        cache.updateOrInvalidate("a", list -> list.add(2L));
+        Assertions.assertEquals(List.of(1L, 2L), cache.get("a"));
+
+        long generation = cache.generation();
+        cache.updateOrInvalidate("b", list -> list.add(2L));
+        cache.put("b", new ArrayList<>(), generation);
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals(2L, cache.sum(List::size));
+    }
+
+    @Test
+    @DisplayName("Cache: 최대 개수나 유지 시간이 0이면 저장하지 않음 테스트")
+    public void disabledTest() {
+        GenerationLruCache<Long, Long> noSize = new GenerationLruCache<>(0, 60_000);
+        noSize.put(1L, 1L, noSize.generation());
+        Assertions.assertNull(noSize.get(1L));
+
+        GenerationLruCache<Long, Long> noTtl = new GenerationLruCache<>(10, 0);
+        noTtl.put(1L, 1L, noTtl.generation());
+        Assertions.assertNull(noTtl.get(1L));
+    }
+}
@@ -0,0 +1,42 @@
+package board.jpa.querydsl.util.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LikeCountCacheTests {
+
+    @Test
+    @DisplayName("Cache: 좋아요 수 저장, 제거 테스트")
+    public void putAndEvictTest() {
+        LikeCountCache likeCountCache = new LikeCountCache(10, 60_000);
+        Assertions.assertNull(likeCountCache.get(1L));
+
+        likeCountCache.put(1L, 3L, likeCountCache.generation());
+        Assertions.assertEquals(3L, likeCountCache.get(1L));
+
+        likeCountCache.evict(1L);
+        Assertions.assertNull(likeCountCache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Cache: 조회 도중 토글이 있으면 저장하지 않는지 테스트")
+    public void staleLoadTest() {
+        LikeCountCache likeCountCache = new LikeCountCache(10, 60_000);
+        long generation = likeCountCache.generation();
+        likeCountCache.evict(1L);
+        likeCountCache.put(1L, 3L, generation);
+
+        Assertions.assertNull(likeCountCache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Cache: 유지 시간 만료 테스트")
+    public void ttlEvictionTest() throws InterruptedException {
+        LikeCountCache likeCountCache = new LikeCountCache(10, 50);
+        likeCountCache.put(1L, 3L, likeCountCache.generation());
+        Thread.sleep(100);
+
+        Assertions.assertNull(likeCountCache.get(1L));
+    }
+}
@@ -0,0 +1,60 @@
+package board.jpa.querydsl.util.cache;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class MemberLikeCacheTests {
+
+    private static final String EMAIL = "member@test.com";
+
+    @Test
+    @DisplayName("Cache: 좋아요 목록 조회 및 토글 반영 테스트")
+    public void filterLikedTest() {
+        MemberLikeCache memberLikeCache = new MemberLikeCache(10);
+        Assertions.assertNull(memberLikeCache.filterLiked(EMAIL, List.of(1L)));
+
+        memberLikeCache.put(EMAIL, List.of(1L, 3L, 5L), memberLikeCache.generation());
+        Assertions.assertEquals(List.of(5L, 1L), memberLikeCache.filterLiked(EMAIL, List.of(5L, 2L, 1L)));
+
+        memberLikeCache.update(EMAIL, 2L, true);
+        memberLikeCache.update(EMAIL, 5L, false);
+        Assertions.assertEquals(List.of(2L, 1L), memberLikeCache.filterLiked(EMAIL, List.of(5L, 2L, 1L)));
+
+        log.info(memberLikeCache.getStats());
+        Assertions.assertEquals(2L, memberLikeCache.getStats().get("hits"));
+        Assertions.assertEquals(1L, memberLikeCache.getStats().get("misses"));
+    }
+
+    @Test
+    @DisplayName("Cache: 조회 도중 토글이 있으면 저장하지 않는지 테스트")
+    public void staleLoadTest() {
+        MemberLikeCache memberLikeCache = new MemberLikeCache(10);
+        long generation = memberLikeCache.generation();
+        // 조회 도중 캐시에 없는 회원의 토글
+        memberLikeCache.update(EMAIL, 1L, true);
+        memberLikeCache.put(EMAIL, List.of(), generation);
+
+        Assertions.assertNull(memberLikeCache.filterLiked(EMAIL, List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Cache: 최대 회원 수 초과시 LRU 제거 테스트")
+    public void lruEvictionTest() {
+        MemberLikeCache memberLikeCache = new MemberLikeCache(2);
+        memberLikeCache.put("a", List.of(1L), memberLikeCache.generation());
+        memberLikeCache.put("b", List.of(1L), memberLikeCache.generation());
+        memberLikeCache.filterLiked("a", List.of(1L));
+        memberLikeCache.put("c", List.of(1L), memberLikeCache.generation());
+
+        Assertions.assertNotNull(memberLikeCache.filterLiked("a", List.of(1L)));
+        Assertions.assertNull(memberLikeCache.filterLiked("b", List.of(1L)));
+        Assertions.assertNotNull(memberLikeCache.filterLiked("c", List.of(1L)));
+        Assertions.assertEquals(1L, memberLikeCache.getStats().get("evictions"));
+    }
+}
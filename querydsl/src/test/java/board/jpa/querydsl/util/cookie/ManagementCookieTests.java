@@ -0,0 +1,160 @@
+package board.jpa.querydsl.util.cookie;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.Cookie;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class ManagementCookieTests {
+
+    private static final String COOKIE_NAME = "board_views";
+    private static final long NOW_HOUR = 480_000L;
+
+    private ManagementCookie managementCookie;
+
+    @BeforeEach
+    public void setUp() {
+        managementCookie = new ManagementCookie("Junit_Test_Secret");
+    }
+
+    @Test
+    @DisplayName("Cookie: 24시간 안에는 한 번만 조회수 증가 테스트")
+    public void viewOncePerDayTest() {
+        Cookie token = null;
+        for (long bno = 1; bno <= 100; bno++) {
+            Assertions.assertTrue(view(token, bno, NOW_HOUR), "First View Should Be Counted");
+            token = lastToken;
+        }
+        for (long bno = 1; bno <= 100; bno++) {
+            Assertions.assertFalse(view(token, bno, NOW_HOUR + 23), "View Within 24h Should Not Be Counted");
+            if (lastToken != null) {
+                token = lastToken;
+            }
+        }
+        Assertions.assertTrue(view(token, 1L, NOW_HOUR + 36), "View After Window Should Be Counted");
+    }
+
+    @Test
+    @DisplayName("Cookie: 변조된 토큰 무시 테스트")
+    public void tamperedTokenTest() {
+        view(null, 1L, NOW_HOUR);
+        String value = lastToken.getValue();
+        char replaced = value.charAt(10) == 'A' ? 'B' : 'A';
+        Cookie tampered = new Cookie(COOKIE_NAME, value.substring(0, 10) + replaced + value.substring(11));
+        Assertions.assertTrue(view(tampered, 1L, NOW_HOUR));
+    }
+
+    @Test
+    @DisplayName("Cookie: 기존 게시물별 쿠키 호환 및 만료 테스트")
+    public void legacyCookieTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("read_board_5", "true"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Assertions.assertFalse(managementCookie.createCookie(request, response, 5L));
+        Assertions.assertEquals(0, response.getCookie("read_board_5").getMaxAge());
+    }
+
+    @Test
+    @DisplayName("Cookie: 기존 쿠키 방식과 헤더 크기, 확인 비용 비교 테스트")
+    public void headerSizeAndParseCostTest() {
+        // GIVEN : 게시물 200개를 조회한 사용자
+        int viewed = 200;
+        Cookie[] legacyCookies = new Cookie[viewed];
+        StringBuilder legacyHeader = new StringBuilder();
+        Cookie token = null;
+        for (int i = 0; i < viewed; i++) {
+            legacyCookies[i] = new Cookie("read_board_" + (i + 1), "true");
+            legacyHeader.append(legacyCookies[i].getName()).append('=').append("true").append("; ");
+            view(token, i + 1L, NOW_HOUR);
+            token = lastToken;
+        }
+        String tokenHeader = token.getName() + "=" + token.getValue();
+
+        // WHEN
+        int iterations = 20_000;
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest legacyRequest = new MockHttpServletRequest();
+        legacyRequest.setCookies(legacyCookies);
+        MockHttpServletRequest tokenRequest = new MockHttpServletRequest();
+        tokenRequest.setCookies(token);
+        for (int i = 0; i < iterations; i++) {
+            legacyContains(legacyRequest, 1L);
+            managementCookie.createCookie(tokenRequest, response, 1L, NOW_HOUR);
+        }
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            legacyContains(legacyRequest, (long) (i % viewed) + 1);
+        }
+        long legacyNanos = (System.nanoTime() - legacyStart) / iterations;
+        long tokenStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            managementCookie.createCookie(tokenRequest, response, (long) (i % viewed) + 1, NOW_HOUR);
+        }
+        long tokenNanos = (System.nanoTime() - tokenStart) / iterations;
+
+        // THEN
+        log.info("legacy header: " + legacyHeader.length() + " bytes, " + legacyNanos + " ns/check");
+        log.info("token header: " + tokenHeader.length() + " bytes, " + tokenNanos + " ns/check");
+        // 토큰은 조회한 게시물 수만큼만 커지고, 연속된 번호는 게시물당 1바이트입니다.
+        Assertions.assertTrue(tokenHeader.length() < legacyHeader.length() / 10);
+    }
+
+    @Test
+    @DisplayName("Cookie: 조회한 게시물이 적으면 토큰도 작음 테스트")
+    public void smallTokenTest() {
+        view(null, 123_456L, NOW_HOUR);
+        log.info("token: " + lastToken.getValue().length() + " chars");
+        Assertions.assertTrue(lastToken.getValue().length() < 40);
+    }
+
+    @Test
+    @DisplayName("Cookie: 토큰이 가득 차면 새 세대를 시작하고 처음 보는 게시물은 계속 조회수 증가 테스트")
+    public void rotateWhenFullTest() {
+        // GIVEN : 한 세대(12시간) 안에 토큰 최대 크기를 넘게 조회 (게시물 번호 간격이 커서 게시물당 2바이트)
+        Cookie token = null;
+        int views = ManagementCookie.MAX_PAYLOAD_BYTES * 2;
+        int maxLength = 0;
+        for (int i = 1; i <= views; i++) {
+            // WHEN, THEN : 처음 보는 게시물은 항상 조회수가 증가합니다.
+            Assertions.assertTrue(view(token, i * 1_000L, NOW_HOUR), "First View Should Be Counted");
+            token = lastToken;
+            maxLength = Math.max(maxLength, token.getValue().length());
+        }
+        log.info("max token: " + maxLength + " chars");
+        // 쿠키 크기는 최대 크기를 넘지 않고, 최근에 본 게시물은 계속 본 것으로 판단합니다.
+        Assertions.assertTrue(maxLength <= (ManagementCookie.MAX_PAYLOAD_BYTES + 16) * 4 / 3 + 1);
+        Assertions.assertFalse(view(token, views * 1_000L, NOW_HOUR));
+        Assertions.assertFalse(view(token, (views - 100) * 1_000L, NOW_HOUR));
+    }
+
+    private Cookie lastToken;
+
+    private boolean view(final Cookie token, final long bno, final long nowHour) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (token != null) {
+            request.setCookies(token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean counted = managementCookie.createCookie(request, response, bno, nowHour);
+        lastToken = response.getCookie(COOKIE_NAME);
+        return counted;
+    }
+
+    // 기존 방식: 게시물별 쿠키를 순회하며 확인
+    private boolean legacyContains(final MockHttpServletRequest request, final Long bno) {
+        String cookieName = "read_board_" + bno;
+        for (Cookie cookie : request.getCookies()) {
+            if (cookie.getName().equals(cookieName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
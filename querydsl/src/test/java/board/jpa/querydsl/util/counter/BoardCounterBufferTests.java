@@ -0,0 +1,253 @@
+package board.jpa.querydsl.util.counter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import board.jpa.querydsl.dto.reply.ReplyCreateDTO;
+import board.jpa.querydsl.repository.BoardRepository;
+import board.jpa.querydsl.service.BoardService;
+import board.jpa.querydsl.service.LikeService;
+import board.jpa.querydsl.service.ReplyService;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest(properties = "board.counter.flush-interval-ms=3600000")
+public class BoardCounterBufferTests {
+
+    @Autowired
+    private BoardCounterBuffer boardCounterBuffer;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private ReplyService replyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Long JUNIT_TEST_BNO = 2L;
+    private static final String STRESS_REPLY = "Junit_Stress_Reply";
+
+    @Test
+    @Transactional
+    @DisplayName("Counter: 조회수 반영 전후 조회 결과 테스트")
+    public void pendingViewCountTest() {
+        // GIVEN
+        log.info("=== Start Pending View Count Test ===");
+        Long before = boardService.readBoard(JUNIT_TEST_BNO).getViewCount();
+        // WHEN
+        boardService.incrementViewCount(JUNIT_TEST_BNO);
+        boardService.incrementViewCount(JUNIT_TEST_BNO);
+        boardService.incrementViewCount(JUNIT_TEST_BNO);
+        // THEN
+        Assertions.assertEquals(before + 3, boardService.readBoard(JUNIT_TEST_BNO).getViewCount());
+        boardCounterBuffer.flush();
+        Assertions.assertEquals(0L, boardCounterBuffer.pendingCount(BoardCounter.VIEW, JUNIT_TEST_BNO));
+        Assertions.assertEquals(before + 3, boardRepository.findViewCountByBno(JUNIT_TEST_BNO).orElseThrow());
+        Assertions.assertEquals(before + 3, boardService.readBoard(JUNIT_TEST_BNO).getViewCount());
+        log.info("=== End Pending View Count Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Counter: 동시 조회수 증가 중 반영시 유실 없음 테스트")
+    public void concurrentIncrementTest() throws Exception {
+        // GIVEN
+        log.info("=== Start Concurrent Increment Test ===");
+        boardCounterBuffer.flush();
+        Long before = boardRepository.findViewCountByBno(JUNIT_TEST_BNO).orElseThrow();
+        int threads = 8;
+        int incrementsPerThread = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        // WHEN
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    boardCounterBuffer.increment(BoardCounter.VIEW, JUNIT_TEST_BNO);
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            boardCounterBuffer.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        boardCounterBuffer.flush();
+        boardCounterBuffer.flush();
+        executorService.shutdown();
+        // THEN
+        log.info("increments: " + threads * incrementsPerThread + ", elapsed: "
+                + (System.nanoTime() - start) / 1_000_000 + "ms");
+        Assertions.assertEquals(0L, boardCounterBuffer.pendingCount(BoardCounter.VIEW, JUNIT_TEST_BNO));
+        Assertions.assertEquals(before + threads * incrementsPerThread,
+                boardRepository.findViewCountByBno(JUNIT_TEST_BNO).orElseThrow());
+        log.info("=== End Concurrent Increment Test ===");
+    }
+
+    @Test
+    @DisplayName("Counter: 좋아요 토글, 댓글 작성이 동시에 실행되어도 카운터 유실 없음 테스트")
+    public void concurrentLikeToggleStressTest() throws Exception {
+        // GIVEN
+        log.info("=== Start Concurrent Like Toggle Stress Test ===");
+        final int threads = 8;
+        final int togglesPerThread = 200;
+        final int repliesPerThread = 50;
+        final List<String> emails = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            emails.add("stress" + i + "@test.com");
+        }
+        emails.forEach(email -> jdbcTemplate.update("INSERT IGNORE INTO `tbl_member` (`email`, `memberPw`, "
+                + "`memberName`, `memberPhone`, `createDate`, `updateDate`, `isVerified`) "
+                + "VALUES (?, 'junit', 'junit', '01000000000', CURDATE(), CURDATE(), 'Y')", email));
+        boardCounterBuffer.flush();
+        final long likeCountBefore = column("likeCount", JUNIT_TEST_BNO);
+        final long replyCountBefore = column("replyCount", JUNIT_TEST_BNO);
+        // 기존 어긋남이 결과에 섞이지 않도록 실제 개수에서 시작합니다.
+        jdbcTemplate.update("UPDATE `tbl_board` SET `likeCount` = ?, `replyCount` = ? WHERE `bno` = ?",
+                actualLikeCount(JUNIT_TEST_BNO), actualReplyCount(JUNIT_TEST_BNO), JUNIT_TEST_BNO);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads * 2);
+        try {
+            // WHEN
+            final CountDownLatch ready = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (String email : emails) {
+                // 짝수 번 토글해서 회원마다 좋아요가 남지 않도록 합니다. (일별 집계도 원래대로)
+                futures.add(executorService.submit(() -> {
+                    ready.await();
+                    for (int i = 0; i < togglesPerThread; i++) {
+                        likeService.toggleLike(JUNIT_TEST_BNO, email);
+                    }
+                    return null;
+                }));
+                futures.add(executorService.submit(() -> {
+                    ready.await();
+                    for (int i = 0; i < repliesPerThread; i++) {
+                        replyService.createReply(ReplyCreateDTO.builder()
+                                .bno(JUNIT_TEST_BNO)
+                                .reply(STRESS_REPLY)
+                                .replyer(email)
+                                .createDate(LocalDate.now())
+                                .updateDate(LocalDate.now())
+                                .build());
+                    }
+                    return null;
+                }));
+            }
+            final long start = System.nanoTime();
+            ready.countDown();
+            // 토글, 댓글 작성과 반영이 겹치도록 실행 중에도 계속 반영합니다.
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                boardCounterBuffer.flush();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            boardCounterBuffer.flush();
+            boardCounterBuffer.flush();
+            // THEN
+            final long toggles = (long) threads * togglesPerThread;
+            log.info("toggles: " + toggles + ", replies: " + threads * repliesPerThread + ", elapsed: " + elapsedMillis
+                    + "ms (" + toggles * 1000 / Math.max(1, elapsedMillis) + " toggles/s)");
+            Assertions.assertEquals(0L, boardCounterBuffer.pendingCount(BoardCounter.LIKE, JUNIT_TEST_BNO));
+            Assertions.assertEquals(0L, boardCounterBuffer.pendingCount(BoardCounter.REPLY, JUNIT_TEST_BNO));
+            Assertions.assertEquals(actualLikeCount(JUNIT_TEST_BNO), column("likeCount", JUNIT_TEST_BNO));
+            Assertions.assertEquals(actualReplyCount(JUNIT_TEST_BNO), column("replyCount", JUNIT_TEST_BNO));
+        } finally {
+            // 테스트 데이터 원복
+            executorService.shutdownNow();
+            boardCounterBuffer.flush();
+            jdbcTemplate.update("DELETE FROM `tbl_reply` WHERE `bno` = ? AND `reply` = ?", JUNIT_TEST_BNO,
+                    STRESS_REPLY);
+            for (String email : emails) {
+                jdbcTemplate.update("DELETE FROM `tbl_like` WHERE `email` = ?", email);
+                jdbcTemplate.update("DELETE FROM `tbl_member` WHERE `email` = ?", email);
+            }
+            jdbcTemplate.update("UPDATE `tbl_board` SET `likeCount` = ?, `replyCount` = ? WHERE `bno` = ?",
+                    likeCountBefore, replyCountBefore, JUNIT_TEST_BNO);
+            log.info("=== End Concurrent Like Toggle Stress Test ===");
+        }
+    }
+
+    @Test
+    @DisplayName("Counter: 반영 커밋 중에도 조회수를 두 번 더하거나 빠뜨리지 않음 테스트")
+    public void readDuringFlushTest() throws Exception {
+        // GIVEN
+        log.info("=== Start Read During Flush Test ===");
+        boardCounterBuffer.flush();
+        final long viewCountBefore = column("viewCount", JUNIT_TEST_BNO);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final int rounds = 200;
+            final int incrementsPerRound = 5;
+            // WHEN : 증감분을 누적하고 반영하는 동안 계속 조회합니다.
+            final Future<?> writer = executorService.submit(() -> {
+                for (int i = 0; i < rounds; i++) {
+                    for (int j = 0; j < incrementsPerRound; j++) {
+                        boardCounterBuffer.increment(BoardCounter.VIEW, JUNIT_TEST_BNO);
+                    }
+                    boardCounterBuffer.flush();
+                }
+            });
+            long last = viewCountBefore;
+            int reads = 0;
+            while (!writer.isDone()) {
+                final long viewCount = boardService.readBoard(JUNIT_TEST_BNO).getViewCount();
+                // THEN : 조회수는 줄어들지 않고, 누적한 증감분보다 커지지 않습니다.
+                Assertions.assertTrue(viewCount >= last, "View Count Went Back: " + last + " -> " + viewCount);
+                Assertions.assertTrue(viewCount <= viewCountBefore + (long) rounds * incrementsPerRound,
+                        "View Count Counted Twice: " + viewCount);
+                last = viewCount;
+                reads++;
+            }
+            writer.get();
+            log.info("reads: " + reads);
+            Assertions.assertEquals(viewCountBefore + (long) rounds * incrementsPerRound,
+                    boardService.readBoard(JUNIT_TEST_BNO).getViewCount());
+        } finally {
+            // 테스트 데이터 원복
+            executorService.shutdownNow();
+            boardCounterBuffer.flush();
+            jdbcTemplate.update("UPDATE `tbl_board` SET `viewCount` = ? WHERE `bno` = ?", viewCountBefore,
+                    JUNIT_TEST_BNO);
+            log.info("=== End Read During Flush Test ===");
+        }
+    }
+
+    private long actualLikeCount(final Long bno) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_like` WHERE `bno` = ?", Long.class, bno);
+    }
+
+    private long actualReplyCount(final Long bno) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_reply` WHERE `bno` = ? AND `isDeleted` = 0",
+                Long.class, bno);
+    }
+
+    private long column(final String column, final Long bno) {
+        return jdbcTemplate.queryForObject("SELECT `" + column + "` FROM `tbl_board` WHERE `bno` = ?", Long.class,
+                bno);
+    }
+}
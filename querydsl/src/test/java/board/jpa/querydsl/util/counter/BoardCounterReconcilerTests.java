@@ -0,0 +1,160 @@
+package board.jpa.querydsl.util.counter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import board.jpa.querydsl.service.LikeService;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest(properties = "board.counter.flush-interval-ms=3600000")
+public class BoardCounterReconcilerTests {
+
+    @Autowired
+    private BoardCounterReconciler boardCounterReconciler;
+
+    @Autowired
+    private BoardCounterBuffer boardCounterBuffer;
+
+    @Autowired
+    private LikeEventAggregator likeEventAggregator;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Long JUNIT_TEST_BNO = 2L;
+    private static final int TOGGLE_MEMBERS = 8;
+    private static final int TOGGLES_PER_MEMBER = 40;
+
+    @Test
+    @Transactional
+    @DisplayName("Counter: 어긋난 좋아요 수, 댓글 수 보정 테스트")
+    public void reconcileDriftTest() {
+        // GIVEN
+        log.info("=== Start Reconcile Drift Test ===");
+        boardCounterBuffer.flush();
+        jdbcTemplate.update("UPDATE `tbl_board` SET `likeCount` = `likeCount` + 5, `replyCount` = 0 WHERE `bno` = ?",
+                JUNIT_TEST_BNO);
+        long driftedBefore = boardCounterReconciler.getStats().get("driftedBoards");
+        // WHEN
+        BoardCounterReconciler.Chunk chunk = boardCounterReconciler.reconcileChunk(JUNIT_TEST_BNO - 1);
+        boardCounterBuffer.flush();
+        // THEN
+        log.info("chunk: " + chunk + ", stats: " + boardCounterReconciler.getStats());
+        Assertions.assertTrue(chunk.size() > 0);
+        Assertions.assertEquals(actualLikeCount(JUNIT_TEST_BNO), column("likeCount", JUNIT_TEST_BNO));
+        Assertions.assertEquals(actualReplyCount(JUNIT_TEST_BNO), column("replyCount", JUNIT_TEST_BNO));
+        Assertions.assertTrue(boardCounterReconciler.getStats().get("driftedBoards") > driftedBefore);
+        log.info("=== End Reconcile Drift Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Counter: 반영 대기 중인 증감분은 어긋난 값으로 보지 않는지 테스트")
+    public void pendingDeltaIsNotDriftTest() {
+        // GIVEN
+        log.info("=== Start Pending Delta Is Not Drift Test ===");
+        boardCounterBuffer.flush();
+        boardCounterReconciler.reconcileChunk(JUNIT_TEST_BNO - 1);
+        boardCounterBuffer.flush();
+        // 토글은 커밋되었지만 좋아요 수는 아직 반영 전인 상태
+        jdbcTemplate.update("INSERT INTO `tbl_like` (`likeId`, `bno`, `email`, `createDate`) "
+                + "VALUES (-1, ?, 'reconcile@test.com', CURDATE())", JUNIT_TEST_BNO);
+        likeEventAggregator.onLikeToggled(new LikeToggledEvent(JUNIT_TEST_BNO, "reconcile@test.com", true,
+                LocalDate.now()));
+        long likeDriftBefore = boardCounterReconciler.getStats().get("likeDrift");
+        // WHEN
+        boardCounterReconciler.reconcileChunk(JUNIT_TEST_BNO - 1);
+        // THEN
+        Assertions.assertEquals(likeDriftBefore, boardCounterReconciler.getStats().get("likeDrift"));
+        Assertions.assertEquals(1L, boardCounterBuffer.pendingCount(BoardCounter.LIKE, JUNIT_TEST_BNO));
+        boardCounterBuffer.flush();
+        Assertions.assertEquals(actualLikeCount(JUNIT_TEST_BNO), column("likeCount", JUNIT_TEST_BNO));
+        log.info("=== End Pending Delta Is Not Drift Test ===");
+    }
+
+    @Test
+    @DisplayName("Counter: 좋아요 토글과 보정이 동시에 실행되어도 좋아요 수가 어긋나지 않는지 테스트")
+    public void concurrentToggleReconcileTest() throws Exception {
+        // GIVEN
+        log.info("=== Start Concurrent Toggle Reconcile Test ===");
+        final List<String> emails = new ArrayList<>();
+        for (int i = 0; i < TOGGLE_MEMBERS; i++) {
+            emails.add("reconcile" + i + "@test.com");
+        }
+        emails.forEach(email -> jdbcTemplate.update("INSERT IGNORE INTO `tbl_member` (`email`, `memberPw`, "
+                + "`memberName`, `memberPhone`, `createDate`, `updateDate`, `isVerified`) "
+                + "VALUES (?, 'junit', 'junit', '01000000000', CURDATE(), CURDATE(), 'Y')", email));
+        boardCounterBuffer.flush();
+        final long likeCountBefore = column("likeCount", JUNIT_TEST_BNO);
+        final ExecutorService executor = Executors.newFixedThreadPool(TOGGLE_MEMBERS + 1);
+        try {
+            // WHEN
+            final AtomicBoolean running = new AtomicBoolean(true);
+            final Future<?> reconciling = executor.submit(() -> {
+                while (running.get()) {
+                    boardCounterReconciler.reconcileChunk(JUNIT_TEST_BNO - 1);
+                }
+            });
+            final List<Future<?>> toggling = new ArrayList<>();
+            // 홀수 번 토글해서 회원마다 좋아요 1건이 남도록 합니다.
+            for (String email : emails) {
+                toggling.add(executor.submit(() -> {
+                    for (int i = 0; i < TOGGLES_PER_MEMBER + 1; i++) {
+                        likeService.toggleLike(JUNIT_TEST_BNO, email);
+                    }
+                }));
+            }
+            for (Future<?> future : toggling) {
+                future.get();
+            }
+            running.set(false);
+            reconciling.get();
+            boardCounterBuffer.flush();
+            // THEN
+            log.info("stats: " + boardCounterReconciler.getStats());
+            Assertions.assertEquals(likeCountBefore + TOGGLE_MEMBERS, actualLikeCount(JUNIT_TEST_BNO));
+            Assertions.assertEquals(actualLikeCount(JUNIT_TEST_BNO), column("likeCount", JUNIT_TEST_BNO));
+        } finally {
+            executor.shutdownNow();
+            boardCounterBuffer.flush();
+            for (String email : emails) {
+                jdbcTemplate.update("DELETE FROM `tbl_like` WHERE `email` = ?", email);
+                jdbcTemplate.update("DELETE FROM `tbl_member` WHERE `email` = ?", email);
+            }
+            jdbcTemplate.update("UPDATE `tbl_board` SET `likeCount` = ? WHERE `bno` = ?", likeCountBefore,
+                    JUNIT_TEST_BNO);
+            log.info("=== End Concurrent Toggle Reconcile Test ===");
+        }
+    }
+
+    private long actualLikeCount(final Long bno) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_like` WHERE `bno` = ?", Long.class, bno);
+    }
+
+    private long actualReplyCount(final Long bno) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_reply` WHERE `bno` = ? AND `isDeleted` = 0",
+                Long.class, bno);
+    }
+
+    private long column(final String column, final Long bno) {
+        return jdbcTemplate.queryForObject("SELECT `" + column + "` FROM `tbl_board` WHERE `bno` = ?", Long.class,
+                bno);
+    }
+}
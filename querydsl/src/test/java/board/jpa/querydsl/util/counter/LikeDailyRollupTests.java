@@ -0,0 +1,104 @@
+package board.jpa.querydsl.util.counter;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest(properties = "board.counter.flush-interval-ms=3600000")
+public class LikeDailyRollupTests {
+
+    @Autowired
+    private LikeDailyRollup likeDailyRollup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Long JUNIT_TEST_BNO = 2L;
+    private static final LocalDate JUNIT_TEST_DATE = LocalDate.of(2000, 1, 1);
+
+    @Test
+    @Transactional
+    @DisplayName("Rollup: 좋아요 토글 증감분 반영 테스트")
+    public void toggleEventFlushTest() {
+        // GIVEN
+        log.info("=== Start Like Daily Rollup Flush Test ===");
+        likeDailyRollup.flush();
+        // WHEN
+        for (int i = 0; i < 3; i++) {
+            likeDailyRollup.add(JUNIT_TEST_DATE, JUNIT_TEST_BNO, new LikeToggledEvent(JUNIT_TEST_BNO,
+                    "rollup" + i + "@test.com", true, JUNIT_TEST_DATE).delta());
+        }
+        likeDailyRollup.add(JUNIT_TEST_DATE, JUNIT_TEST_BNO, new LikeToggledEvent(JUNIT_TEST_BNO,
+                "rollup0@test.com", false, JUNIT_TEST_DATE).delta());
+        likeDailyRollup.flush();
+        long afterFirstFlush = dailyCount(JUNIT_TEST_DATE);
+        likeDailyRollup.add(JUNIT_TEST_DATE, JUNIT_TEST_BNO, -1L);
+        likeDailyRollup.flush();
+        // THEN
+        Assertions.assertEquals(2L, afterFirstFlush);
+        Assertions.assertEquals(1L, dailyCount(JUNIT_TEST_DATE));
+        log.info("=== End Like Daily Rollup Flush Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Rollup: 집계 행이 없을 때 감소분이 음수로 저장되지 않는지 테스트")
+    public void negativeDeltaInsertTest() {
+        // GIVEN
+        log.info("=== Start Like Daily Rollup Negative Delta Insert Test ===");
+        likeDailyRollup.flush();
+        jdbcTemplate.update("DELETE FROM `tbl_like_daily` WHERE `likeDate` = ? AND `bno` = ?", JUNIT_TEST_DATE,
+                JUNIT_TEST_BNO);
+        // WHEN : 집계 행이 없는 날짜에 취소만 반영
+        likeDailyRollup.add(JUNIT_TEST_DATE, JUNIT_TEST_BNO, -2L);
+        likeDailyRollup.flush();
+        long afterInsert = dailyCount(JUNIT_TEST_DATE);
+        likeDailyRollup.add(JUNIT_TEST_DATE, JUNIT_TEST_BNO, 1L);
+        likeDailyRollup.flush();
+        // THEN
+        Assertions.assertEquals(0L, afterInsert);
+        Assertions.assertEquals(1L, dailyCount(JUNIT_TEST_DATE));
+        log.info("=== End Like Daily Rollup Negative Delta Insert Test ===");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Rollup: 집계 테이블 재생성 결과가 원본 GROUP BY 결과와 같은지 테스트")
+    public void rebuildTest() {
+        // GIVEN
+        log.info("=== Start Like Daily Rollup Rebuild Test ===");
+        jdbcTemplate.update("INSERT INTO `tbl_like_daily` (`likeDate`, `bno`, `likeCount`) VALUES (?, ?, 100) "
+                + "ON DUPLICATE KEY UPDATE `likeCount` = 100", JUNIT_TEST_DATE, JUNIT_TEST_BNO);
+        LocalDate likeDate = jdbcTemplate.queryForObject("SELECT MAX(`createDate`) FROM `tbl_like`", LocalDate.class);
+        Assertions.assertNotNull(likeDate);
+        // 재생성 전에 누적된 증감분은 이미 원본에 커밋된 좋아요이므로 한 번 더 더해지면 안 됩니다.
+        likeDailyRollup.add(likeDate, JUNIT_TEST_BNO, 1L);
+        // WHEN
+        likeDailyRollup.rebuild();
+        likeDailyRollup.flush();
+        // THEN
+        Long expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_like` WHERE `bno` = ? "
+                + "AND `createDate` = ?", Long.class, JUNIT_TEST_BNO, likeDate);
+        Assertions.assertEquals(expected, dailyCount(likeDate));
+        // 원본에 없는 날짜의 집계는 남지 않아야 합니다.
+        Assertions.assertEquals(0L, dailyCount(JUNIT_TEST_DATE));
+        Assertions.assertEquals(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `tbl_like` WHERE `createDate` IS NOT NULL", Long.class),
+                jdbcTemplate.queryForObject("SELECT COALESCE(SUM(`likeCount`), 0) FROM `tbl_like_daily`", Long.class));
+        log.info("=== End Like Daily Rollup Rebuild Test ===");
+    }
+
+    private long dailyCount(final LocalDate likeDate) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(`likeCount`), 0) FROM `tbl_like_daily` "
+                + "WHERE `bno` = ? AND `likeDate` = ?", Long.class, JUNIT_TEST_BNO, likeDate);
+    }
+}
@@ -0,0 +1,66 @@
+package board.jpa.querydsl.util.page;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import board.jpa.querydsl.domain.reply.ReplyThreadKey;
+import board.jpa.querydsl.exception.DataNotFoundException;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class ReplyCursorTests {
+
+    @Test
+    @DisplayName("Cursor: 댓글 커서 인코딩, 디코딩 테스트")
+    public void encodeDecodeTest() {
+        ReplyCursor cursor = new ReplyCursor(ReplyThreadKey.child(ReplyThreadKey.root(123_456_789L), Long.MAX_VALUE));
+        String encoded = cursor.encode();
+        log.info("cursor: " + encoded);
+        Assertions.assertEquals(cursor, ReplyCursor.decode(encoded));
+        // URL에 그대로 전달할 수 있어야 합니다.
+        Assertions.assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Cursor: 커서가 없으면 첫 페이지, 형식이 다르면 예외 테스트")
+    public void invalidCursorTest() {
+        Assertions.assertNull(ReplyCursor.decode(null));
+        Assertions.assertNull(ReplyCursor.decode(""));
+        Assertions.assertThrows(DataNotFoundException.class, () -> ReplyCursor.decode("%%%"));
+        Assertions.assertThrows(DataNotFoundException.class, () -> ReplyCursor.decode("AAAA"));
+        // 스레드 정렬 키 형식이 아닌 값은 받지 않습니다.
+        Assertions.assertThrows(DataNotFoundException.class,
+                () -> ReplyCursor.decode(new ReplyCursor("' OR 1=1 --").encode()));
+        // 구간 값이 Long 범위를 넘는 키도 받지 않습니다.
+        Assertions.assertThrows(DataNotFoundException.class,
+                () -> ReplyCursor.decode(new ReplyCursor("z".repeat(ReplyThreadKey.SEGMENT_LENGTH)).encode()));
+    }
+
+    @Test
+    @DisplayName("Cursor: 스레드 정렬 키 순서 테스트")
+    public void threadKeyOrderTest() {
+        String parent = ReplyThreadKey.root(35L);
+        String child = ReplyThreadKey.child(parent, 36L);
+        String grandChild = ReplyThreadKey.child(child, 1_000L);
+        String sibling = ReplyThreadKey.child(parent, 37L);
+        String nextParent = ReplyThreadKey.root(36L);
+        // 부모 < 자식 < 손자 < 부모의 다음 답글 < 다음 댓글
+        Assertions.assertTrue(parent.compareTo(child) < 0);
+        Assertions.assertTrue(child.compareTo(grandChild) < 0);
+        Assertions.assertTrue(grandChild.compareTo(sibling) < 0);
+        Assertions.assertTrue(sibling.compareTo(nextParent) < 0);
+        Assertions.assertEquals(2, ReplyThreadKey.depth(grandChild));
+        Assertions.assertEquals(ReplyThreadKey.child(parent, 36L), ReplyThreadKey.of(35L, 36L));
+        Assertions.assertEquals(35L, ReplyThreadKey.gnoOf(grandChild));
+        Assertions.assertEquals(1_000L, ReplyThreadKey.rnoOf(grandChild));
+        Assertions.assertEquals(Long.MAX_VALUE, ReplyThreadKey.rnoOf(ReplyThreadKey.root(Long.MAX_VALUE)));
+        // 최대 깊이를 넘으면 부모와 같은 단계에 붙습니다.
+        String deepest = parent;
+        for (long rno = 100; ReplyThreadKey.depth(deepest) < ReplyThreadKey.MAX_DEPTH; rno++) {
+            deepest = ReplyThreadKey.child(deepest, rno);
+        }
+        Assertions.assertEquals(ReplyThreadKey.MAX_DEPTH, ReplyThreadKey.depth(ReplyThreadKey.child(deepest, 1L)));
+        Assertions.assertTrue(ReplyThreadKey.isValid(deepest));
+    }
+}
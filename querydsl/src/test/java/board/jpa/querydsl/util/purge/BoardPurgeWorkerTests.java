@@ -0,0 +1,136 @@
+package board.jpa.querydsl.util.purge;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import board.jpa.querydsl.dto.board.BoardCreateDTO;
+import board.jpa.querydsl.exception.BoardNumberNotFoundException;
+import board.jpa.querydsl.service.BoardService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@SpringBootTest(properties = {
+        "board.purge.interval-ms=3600000",
+        "board.purge.batch-size=500" })
+public class BoardPurgeWorkerTests {
+
+    // 업로드 파일 삭제가 실제 업로드 경로의 파일을 지우지 않도록 테스트마다 만든 임시 경로를 사용합니다.
+    @TempDir
+    static Path uploadPath;
+
+    @DynamicPropertySource
+    static void uploadPathProperties(final DynamicPropertyRegistry registry) {
+        registry.add("org.zerock.upload.path", () -> uploadPath.toString());
+    }
+
+    @Autowired
+    private BoardPurgeWorker boardPurgeWorker;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final int REPLY_COUNT = 2_500;
+
+    // 운영과 같이 삭제 요청과 정리 DELETE가 각각 커밋되도록 테스트 트랜잭션을 사용하지 않습니다.
+    @Test
+    @DisplayName("Purge: 댓글이 많은 게시물 삭제 요청 쿼리 횟수 및 정리 테스트")
+    public void deleteAndPurgeBoardTest() throws Exception {
+        // GIVEN
+        log.info("=== Start Delete And Purge Board Test ===");
+        String uuid = UUID.randomUUID().toString();
+        String fileName = uuid + "_Junit_Test_File_Name.jpg";
+        Path file = Files.writeString(uploadPath.resolve(fileName), "junit");
+        Path thumbnail = Files.writeString(uploadPath.resolve("s_" + fileName), "junit");
+
+        Long bno = boardService.createBoard(BoardCreateDTO.builder()
+                .title("Junit_Test_Title")
+                .writer("Junit_Test_Writer")
+                .content("Junit_Test_Content")
+                .fileName(List.of(fileName))
+                .build());
+        try {
+            seedReplies(bno);
+            jdbcTemplate.update("INSERT INTO `tbl_like` (`likeId`, `email`, `bno`, `createDate`) "
+                    + "SELECT COALESCE(MAX(`likeId`), 0) + 1000000, 'junit_purge@test.com', ?, CURDATE() "
+                    + "FROM `tbl_like`", bno);
+            jdbcTemplate.update("INSERT INTO `tbl_like_daily` (`likeDate`, `bno`, `likeCount`) "
+                    + "VALUES (CURDATE(), ?, 1)", bno);
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            // WHEN
+            boardService.deleteBoard(bno);
+            long deleteCount = statistics.getPrepareStatementCount();
+            // THEN
+            // 게시물 SELECT 1회 + 삭제 표시 UPDATE 1회 (댓글 수와 관계없음, 기존: 댓글, 이미지 SELECT 후 한 건씩 DELETE)
+            log.info("delete statements: " + deleteCount);
+            Assertions.assertEquals(2, deleteCount);
+            Assertions.assertThrows(BoardNumberNotFoundException.class, () -> boardService.readBoard(bno));
+            Assertions.assertEquals(REPLY_COUNT, count("tbl_reply", bno));
+
+            // WHEN : 댓글 5 batch, 좋아요, 일별 좋아요 수, 이미지, 게시물을 각각 커밋하며 정리
+            long purged = boardPurgeWorker.purge(bno);
+            // THEN
+            Assertions.assertEquals(REPLY_COUNT + 1 + 1 + 1 + 1, purged);
+            Assertions.assertEquals(0, count("tbl_reply", bno));
+            Assertions.assertEquals(0, count("tbl_like", bno));
+            Assertions.assertEquals(0, count("tbl_like_daily", bno));
+            Assertions.assertEquals(0, count("tbl_board_images", bno));
+            Assertions.assertEquals(0, count("tbl_board", bno));
+            // 업로드 파일은 별도 스레드에서 삭제됩니다.
+            long deadline = System.currentTimeMillis() + 5_000;
+            while ((Files.exists(file) || Files.exists(thumbnail)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            Assertions.assertFalse(Files.exists(file));
+            Assertions.assertFalse(Files.exists(thumbnail));
+        } finally {
+            // 검증이 중간에 실패해도 커밋된 테스트 데이터를 남기지 않습니다.
+            for (String table : List.of("tbl_reply", "tbl_like", "tbl_like_daily", "tbl_board_images", "tbl_board")) {
+                jdbcTemplate.update("DELETE FROM `" + table + "` WHERE `bno` = ?", bno);
+            }
+            log.info("=== End Delete And Purge Board Test ===");
+        }
+    }
+
+    // 0~9 숫자 테이블 4개를 CROSS JOIN 해서 한 문장으로 댓글을 등록합니다.
+    private void seedReplies(final Long bno) {
+        String digits = "(SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 "
+                + "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+        String number = "(d0.d + d1.d * 10 + d2.d * 100 + d3.d * 1000)";
+        Long firstRno = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(`rno`), 0) + 1000000 FROM `tbl_reply`",
+                Long.class);
+        jdbcTemplate.update("INSERT INTO `tbl_reply` "
+                + "(`rno`, `reply`, `replyer`, `gno`, `bno`, `createDate`, `updateDate`, `isDeleted`) "
+                + "SELECT ? + " + number + ", 'Junit_Test_Reply', 'Junit_Test_Replyer', ? + " + number + ", ?, "
+                + "CURDATE(), CURDATE(), 0 "
+                + "FROM " + digits + " d0, " + digits + " d1, " + digits + " d2, " + digits + " d3 "
+                + "WHERE " + number + " < ?", firstRno, firstRno, bno, REPLY_COUNT);
+    }
+
+    private long count(final String table, final Long bno) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `" + table + "` WHERE `bno` = ?", Long.class, bno);
+    }
+}
@@ -0,0 +1,134 @@
+package board.jpa.querydsl.util.ranking;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import board.jpa.querydsl.dto.board.HotBoardDTO;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class HotBoardRankingTests {
+
+    private static final long HOUR = 60L * 60 * 1000;
+
+    @Test
+    @DisplayName("Ranking: 반감기에 따른 점수 감쇠 및 순위 테스트")
+    public void decayTest() {
+        HotBoardRanking ranking = new HotBoardRanking(10, 24);
+        long now = System.currentTimeMillis();
+        // 하루 전 좋아요 2개(10점 -> 5점)와 방금 조회 4번(4점)
+        ranking.record(1L, HotBoardRanking.LIKE_WEIGHT * 2, now - 24 * HOUR);
+        ranking.record(2L, HotBoardRanking.VIEW_WEIGHT * 4, now);
+
+        List<HotBoardDTO> top = ranking.top(10, now);
+        Assertions.assertEquals(List.of(1L, 2L), top.stream().map(HotBoardDTO::getBno).toList());
+        Assertions.assertEquals(5.0, top.get(0).getScore(), 1e-9);
+        Assertions.assertEquals(4.0, top.get(1).getScore(), 1e-9);
+
+        // 하루가 더 지나면 점수는 모두 절반이 되고 순위는 그대로입니다.
+        top = ranking.top(10, now + 24 * HOUR);
+        Assertions.assertEquals(2.5, top.get(0).getScore(), 1e-9);
+        Assertions.assertEquals(2.0, top.get(1).getScore(), 1e-9);
+
+        // 새 이벤트는 감쇠 전 값으로 더해져 순위가 바뀝니다.
+        ranking.record(2L, HotBoardRanking.REPLY_WEIGHT, now + 24 * HOUR);
+        top = ranking.top(10, now + 24 * HOUR);
+        Assertions.assertEquals(2L, top.get(0).getBno());
+        Assertions.assertEquals(5.0, top.get(0).getScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Ranking: 좋아요 취소시 점수 0 미만 방지 테스트")
+    public void unlikeTest() {
+        HotBoardRanking ranking = new HotBoardRanking(10, 24);
+        long now = System.currentTimeMillis();
+        ranking.record(1L, HotBoardRanking.VIEW_WEIGHT, now);
+        ranking.record(1L, -HotBoardRanking.LIKE_WEIGHT, now);
+        // 추적하지 않던 게시물의 좋아요 취소는 무시합니다.
+        ranking.record(2L, -HotBoardRanking.LIKE_WEIGHT, now);
+
+        Assertions.assertTrue(ranking.top(10, now).isEmpty());
+        Assertions.assertEquals(1, ranking.size());
+    }
+
+    @Test
+    @DisplayName("Ranking: 최대 개수 초과시 최저 점수 제거 테스트")
+    public void capacityTest() {
+        HotBoardRanking ranking = new HotBoardRanking(3, 24);
+        long now = System.currentTimeMillis();
+        ranking.record(1L, 10, now);
+        ranking.record(2L, 20, now);
+        ranking.record(3L, 30, now);
+        ranking.record(4L, 1, now);
+
+        List<HotBoardDTO> top = ranking.top(10, now);
+        Assertions.assertEquals(3, ranking.size());
+        Assertions.assertEquals(List.of(3L, 2L, 4L), top.stream().map(HotBoardDTO::getBno).toList());
+        // 제거된 게시물의 점수를 이어받습니다. (space-saving)
+        Assertions.assertEquals(11.0, top.get(2).getScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Ranking: 기준 시각 이동 후 점수 유지 테스트")
+    public void rescaleTest() {
+        HotBoardRanking ranking = new HotBoardRanking(10, 1);
+        long now = System.currentTimeMillis();
+        ranking.record(1L, 8, now);
+        // 반감기 300번 이후 이벤트로 기준 시각을 옮깁니다.
+        long later = now + 300 * HOUR;
+        ranking.record(2L, 1, later);
+        ranking.record(1L, 2, later);
+
+        List<HotBoardDTO> top = ranking.top(10, later);
+        Assertions.assertEquals(1L, top.get(0).getBno());
+        Assertions.assertEquals(2.0, top.get(0).getScore(), 1e-9);
+        Assertions.assertEquals(1.0, top.get(1).getScore(), 1e-9);
+        Assertions.assertTrue(Double.isFinite(top.get(0).getScore()));
+    }
+
+    @Test
+    @DisplayName("Ranking: 따로 구성한 랭킹을 합쳐도 기존 점수 유지 테스트")
+    public void mergeTest() {
+        HotBoardRanking ranking = new HotBoardRanking(10, 24);
+        long now = System.currentTimeMillis();
+        // 시작 후 DB를 읽는 동안 기록된 좋아요
+        ranking.record(1L, HotBoardRanking.LIKE_WEIGHT, now);
+        // DB에서 읽은 하루 전 댓글 2개(6점 -> 3점), 조회 4번
+        HotBoardRanking loaded = new HotBoardRanking(ranking.getCapacity(), ranking.getHalfLifeHours());
+        loaded.record(1L, HotBoardRanking.REPLY_WEIGHT * 2, now - 24 * HOUR);
+        loaded.record(2L, HotBoardRanking.VIEW_WEIGHT * 4, now);
+
+        ranking.merge(loaded);
+
+        List<HotBoardDTO> top = ranking.top(10, now);
+        Assertions.assertEquals(List.of(1L, 2L), top.stream().map(HotBoardDTO::getBno).toList());
+        Assertions.assertEquals(8.0, top.get(0).getScore(), 1e-9);
+        Assertions.assertEquals(4.0, top.get(1).getScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Ranking: 상위 게시물 조회 시간 테스트")
+    public void topLatencyTest() {
+        HotBoardRanking ranking = new HotBoardRanking(1_000, 24);
+        long now = System.currentTimeMillis();
+        for (long bno = 1; bno <= 100_000; bno++) {
+            ranking.record(bno % 5_000, bno % 7, now + bno);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            ranking.top(10);
+        }
+        int iterations = 100_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            ranking.top(10);
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / iterations;
+        log.info(String.format("top(10) over %d boards: %.3fus", ranking.size(), micros));
+        Assertions.assertEquals(1_000, ranking.size());
+        Assertions.assertEquals(10, ranking.top(10).size());
+        Assertions.assertTrue(micros < 100.0);
+    }
+}
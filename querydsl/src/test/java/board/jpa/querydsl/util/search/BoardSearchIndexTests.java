@@ -0,0 +1,149 @@
+package board.jpa.querydsl.util.search;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class BoardSearchIndexTests {
+
+    private BoardSearchIndex boardSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        boardSearchIndex = new BoardSearchIndex(10_000);
+        boardSearchIndex.index(1L, "스프링 부트 게시판", "JPA 와 QueryDsl 로 만든 게시판", "thistrik");
+        boardSearchIndex.index(2L, "Junit_Test_Title", "Junit_Test_Content", "Junit_Test_Writer");
+        boardSearchIndex.index(3L, "스프링 시큐리티", "OAuth2 로그인", "kwon");
+        boardSearchIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("Index: 제목, 내용, 작성자 검색 테스트")
+    public void searchTest() {
+        Assertions.assertArrayEquals(new long[] { 3L, 1L }, boardSearchIndex.search("t", "스프링"));
+        Assertions.assertArrayEquals(new long[] { 1L }, boardSearchIndex.search("c", "querydsl"));
+        Assertions.assertArrayEquals(new long[] { 2L }, boardSearchIndex.search("w", "JUNIT"));
+        Assertions.assertArrayEquals(new long[] { 3L, 1L }, boardSearchIndex.search("tcw", "스프링"));
+        Assertions.assertEquals(0, boardSearchIndex.search("tcw", "없는검색어").length);
+    }
+
+    @Test
+    @DisplayName("Index: 1글자 검색어는 LIKE 검색으로 처리 테스트")
+    public void singleCharacterKeywordTest() {
+        Assertions.assertNull(boardSearchIndex.search("t", "스"));
+    }
+
+    @Test
+    @DisplayName("Index: 게시물 수정, 삭제 반영 테스트")
+    public void updateAndRemoveTest() {
+        boardSearchIndex.update(3L, "스프링 시큐리티", "OAuth2 로그인", "kwon",
+                "카카오 로그인", "OAuth2 로그인", "kwon");
+        Assertions.assertArrayEquals(new long[] { 1L }, boardSearchIndex.search("t", "스프링"));
+        Assertions.assertArrayEquals(new long[] { 3L }, boardSearchIndex.search("t", "카카오"));
+
+        boardSearchIndex.remove(1L, "스프링 부트 게시판", "JPA 와 QueryDsl 로 만든 게시판", "thistrik");
+        Assertions.assertEquals(0, boardSearchIndex.search("t", "스프링").length);
+    }
+
+    @Test
+    @DisplayName("Index: 압축 posting 병합 테스트")
+    public void postingMergeTest() {
+        for (long bno = 10; bno < 10_010; bno++) {
+            boardSearchIndex.index(bno, "bulk title " + bno, "content", "writer");
+        }
+        for (long bno = 10; bno < 10_010; bno += 2) {
+            boardSearchIndex.remove(bno, "bulk title " + bno, "content", "writer");
+        }
+        long[] result = boardSearchIndex.search("t", "bulk");
+        Assertions.assertEquals(5_000, result.length);
+        Assertions.assertEquals(10_009L, result[0]);
+    }
+
+    @Test
+    @DisplayName("Index: 병합 기준에 못 미친 posting 압축 테스트")
+    public void postingCompactTest() {
+        PostingList postingList = new PostingList();
+        postingList.add(3L);
+        postingList.add(1L);
+        postingList.remove(3L);
+        postingList.add(2L);
+        Assertions.assertFalse(postingList.isCompact());
+        postingList.compact();
+        Assertions.assertTrue(postingList.isCompact());
+        Assertions.assertArrayEquals(new long[] { 1L, 2L }, postingList.toArray());
+        Assertions.assertEquals(2, postingList.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Index: 후보군이 최대 개수를 넘으면 LIKE 검색으로 처리 테스트")
+    public void maxCandidatesTest() {
+        BoardSearchIndex smallIndex = new BoardSearchIndex(2);
+        for (long bno = 1; bno <= 3; bno++) {
+            smallIndex.index(bno, "스프링 " + bno, "content", "writer");
+        }
+        smallIndex.markReady();
+        Assertions.assertNull(smallIndex.search("t", "스프링"));
+        Assertions.assertArrayEquals(new long[] { 3L }, smallIndex.search("t", "링 3"));
+    }
+
+    @Test
+    @DisplayName("Index: 가장 짧은 목록이 최대 개수를 넘으면 LIKE 검색으로 처리 테스트")
+    public void maxCandidatesPreCheckTest() {
+        BoardSearchIndex smallIndex = new BoardSearchIndex(2);
+        for (long bno = 1; bno <= 3; bno++) {
+            smallIndex.index(bno, "스프링 부트", "content", "writer");
+        }
+        smallIndex.index(4L, "카카오 로그인", "content", "writer");
+        smallIndex.markReady();
+        // 모든 bigram 목록이 3건이라 교집합을 구하지 않고 LIKE 검색으로 넘깁니다.
+        Assertions.assertNull(smallIndex.search("t", "부트"));
+        Assertions.assertArrayEquals(new long[] { 4L }, smallIndex.search("t", "카카오"));
+        Assertions.assertEquals(0, smallIndex.search("t", "부트 로그인").length);
+    }
+
+    @Test
+    @DisplayName("Index: posting 커서 건너뛰기 테스트")
+    public void postingCursorTest() {
+        PostingList postingList = new PostingList();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (long bno = 2; bno <= 2_000; bno += 2) {
+            postingList.add(bno);
+            expected.add(bno);
+        }
+        postingList.compact();
+        // 병합 전 버퍼의 추가/삭제도 커서에 반영되어야 합니다.
+        for (long bno = 101; bno <= 121; bno += 2) {
+            postingList.add(bno);
+            expected.add(bno);
+        }
+        for (long bno = 500; bno <= 520; bno += 2) {
+            postingList.remove(bno);
+            expected.remove(bno);
+        }
+        Assertions.assertFalse(postingList.isCompact());
+
+        PostingList.Cursor cursor = postingList.cursor();
+        for (long target : new long[] { 0L, 1L, 103L, 104L, 500L, 777L, 1_999L, 2_000L, 2_001L }) {
+            Long next = expected.ceiling(target);
+            Assertions.assertEquals(next == null ? PostingList.END : next, cursor.nextAtLeast(target));
+        }
+        Assertions.assertEquals(expected.size(), postingList.toArray().length);
+    }
+
+    @Test
+    @DisplayName("Index: 필드별 색인 heap 크기 통계 테스트")
+    public void statsTest() {
+        Map<String, Map<String, Long>> stats = boardSearchIndex.getStats();
+        log.info(stats);
+        Assertions.assertTrue(stats.get("content").get("grams") > 0);
+        Assertions.assertTrue(stats.get("content").get("postings") >= stats.get("content").get("grams"));
+        Assertions.assertTrue(stats.get("content").get("bytes") > 0);
+    }
+}
@@ -0,0 +1,89 @@
+package board.jpa.querydsl.util.version;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class BoardVersionRegistryTests {
+
+    @Test
+    @DisplayName("Version: 변경시 버전 증가 및 ETag 비교 테스트")
+    public void bumpAndMatchTest() {
+        BoardVersionRegistry registry = new BoardVersionRegistry(10);
+        long before = registry.version(1L);
+        String eTag = BoardVersionRegistry.eTag("board", 1L, before);
+
+        Assertions.assertTrue(BoardVersionRegistry.isNotModified(request(eTag), eTag, before));
+        Assertions.assertTrue(BoardVersionRegistry.isNotModified(request("\"x\", W/" + eTag), eTag, before));
+        Assertions.assertFalse(BoardVersionRegistry.isNotModified(new MockHttpServletRequest(), eTag, before));
+
+        registry.bumpNow(1L);
+        long after = registry.version(1L);
+        Assertions.assertTrue(after > before);
+        Assertions.assertEquals(before, registry.version(2L));
+        String newETag = BoardVersionRegistry.eTag("board", 1L, after);
+        Assertions.assertFalse(BoardVersionRegistry.isNotModified(request(eTag), newETag, after));
+
+        // 같은 시각에 연속으로 바뀌어도 버전은 항상 증가합니다.
+        registry.bumpNow(1L);
+        Assertions.assertTrue(registry.version(1L) > after);
+    }
+
+    @Test
+    @DisplayName("Version: 최대 개수 초과시 제거된 버전 재사용 방지 테스트")
+    public void evictionFloorTest() {
+        BoardVersionRegistry registry = new BoardVersionRegistry(2);
+        long initial = registry.version(3L);
+        registry.bumpNow(1L);
+        long evicted = registry.version(1L);
+        registry.bumpNow(2L);
+        registry.bumpNow(3L);
+
+        // 1번이 제거되어도 이전 버전(initial)이나 마지막 버전보다 낮은 값으로 돌아가지 않습니다.
+        Assertions.assertEquals(evicted, registry.version(1L));
+        Assertions.assertNotEquals(initial, registry.version(1L));
+        Assertions.assertNotEquals(initial, registry.version(4L));
+    }
+
+    @Test
+    @DisplayName("Version: If-Modified-Since 초 단위 비교 테스트")
+    public void ifModifiedSinceTest() {
+        long version = 1_700_000_000_500L;
+        String eTag = BoardVersionRegistry.eTag("reply", 1L, version);
+        MockHttpServletRequest sameSecond = new MockHttpServletRequest();
+        sameSecond.addHeader("If-Modified-Since", 1_700_000_000_000L);
+        MockHttpServletRequest nextSecond = new MockHttpServletRequest();
+        nextSecond.addHeader("If-Modified-Since", 1_700_000_001_000L);
+
+        Assertions.assertFalse(BoardVersionRegistry.isNotModified(sameSecond, eTag, version));
+        Assertions.assertTrue(BoardVersionRegistry.isNotModified(nextSecond, eTag, version));
+    }
+
+    @Test
+    @DisplayName("Version: If-None-Match * 는 리소스가 있을 때만 일치, 조건별 ETag 구분 테스트")
+    public void wildcardAndVariantTest() {
+        long version = 1_700_000_000_500L;
+        String eTag = BoardVersionRegistry.eTag("board", 1L, version);
+        Assertions.assertTrue(BoardVersionRegistry.isNotModified(request("*"), eTag, version, () -> true));
+        Assertions.assertFalse(BoardVersionRegistry.isNotModified(request("*"), eTag, version, () -> false));
+        // ETag가 일치하면 존재 여부를 확인하지 않습니다.
+        Assertions.assertTrue(BoardVersionRegistry.isNotModified(request(eTag), eTag, version, () -> {
+            throw new AssertionError("exists should not be called");
+        }));
+
+        String firstPage = BoardVersionRegistry.eTag("reply", 1L, version, "page=1&size=10");
+        String secondPage = BoardVersionRegistry.eTag("reply", 1L, version, "page=2&size=10");
+        Assertions.assertNotEquals(firstPage, secondPage);
+        Assertions.assertFalse(BoardVersionRegistry.isNotModified(request(firstPage), secondPage, version));
+    }
+
+    private MockHttpServletRequest request(final String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", ifNoneMatch);
+        return request;
+    }
+}